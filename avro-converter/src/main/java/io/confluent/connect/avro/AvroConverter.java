@@ -41,6 +41,7 @@ import org.apache.kafka.connect.storage.Converter;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Implementation of Converter that uses Avro schemas and objects.
@@ -90,13 +91,14 @@ public class AvroConverter implements Converter {
   @Override
   public byte[] fromConnectData(String topic, Headers headers, Schema schema, Object value) {
     try {
-      org.apache.avro.Schema avroSchema = avroData.fromConnectSchema(schema);
+      // Reuse the cached wrapper so that the client's schema caches are identity hits
+      AvroSchema avroSchema = avroData.fromConnectAvroSchema(schema);
       return serializer.serialize(
           topic,
           isKey,
           headers,
-          avroData.fromConnectData(schema, avroSchema, value),
-          new AvroSchema(avroSchema));
+          avroData.fromConnectData(schema, avroSchema.rawSchema(), value),
+          avroSchema);
     } catch (TimeoutException e) {
       throw new RetriableException(
           String.format("Failed to serialize Avro data from topic %s :", topic),
@@ -122,22 +124,12 @@ public class AvroConverter implements Converter {
   @Override
   public SchemaAndValue toConnectData(String topic, Headers headers, byte[] value) {
     try {
-      GenericContainerWithVersion containerWithVersion =
-          deserializer.deserialize(topic, isKey, headers, value);
-      if (containerWithVersion == null) {
-        return SchemaAndValue.NULL;
-      }
-      GenericContainer deserialized = containerWithVersion.container();
-      Integer version = containerWithVersion.version();
-      if (deserialized instanceof IndexedRecord) {
-        return avroData.toConnectData(deserialized.getSchema(), deserialized, version);
-      } else if (deserialized instanceof NonRecordContainer) {
-        return avroData.toConnectData(
-            deserialized.getSchema(), ((NonRecordContainer) deserialized).getValue(), version);
-      }
-      throw new DataException(
-          String.format("Unsupported type returned during deserialization of topic %s ", topic)
-      );
+      // Decode straight into Connect data if the writer schema allows it, and convert the
+      // generic deserialization otherwise
+      SchemaAndValue schemaAndValue = deserializer.deserializeToConnect(
+          topic, isKey, headers, value, avroData,
+          containerWithVersion -> toConnectData(topic, containerWithVersion));
+      return schemaAndValue != null ? schemaAndValue : SchemaAndValue.NULL;
     } catch (TimeoutException e) {
       throw new RetriableException(
           String.format("Failed to deserialize data for topic %s to Avro: ", topic),
@@ -155,6 +147,21 @@ public class AvroConverter implements Converter {
     }
   }
 
+  private SchemaAndValue toConnectData(
+      String topic, GenericContainerWithVersion containerWithVersion) {
+    GenericContainer deserialized = containerWithVersion.container();
+    Integer version = containerWithVersion.version();
+    if (deserialized instanceof IndexedRecord) {
+      return avroData.toConnectData(deserialized.getSchema(), deserialized, version);
+    } else if (deserialized instanceof NonRecordContainer) {
+      return avroData.toConnectData(
+          deserialized.getSchema(), ((NonRecordContainer) deserialized).getValue(), version);
+    }
+    throw new DataException(
+        String.format("Unsupported type returned during deserialization of topic %s ", topic)
+    );
+  }
+
 
   private static class Serializer extends AbstractKafkaAvroSerializer {
 
@@ -194,9 +201,14 @@ public class AvroConverter implements Converter {
       configure(new KafkaAvroDeserializerConfig(configs));
     }
 
-    public GenericContainerWithVersion deserialize(
-        String topic, boolean isKey, Headers headers, byte[] payload) {
-      return deserializeWithSchemaAndVersion(topic, isKey, headers, payload);
+    public SchemaAndValue deserializeToConnect(
+        String topic, boolean isKey, Headers headers, byte[] payload, AvroData avroData,
+        Function<GenericContainerWithVersion, SchemaAndValue> fallback) {
+      return deserializeWithWriterSchema(topic, isKey, headers, payload,
+          (schema, version, decoder) -> {
+            ConnectDatumReader reader = avroData.connectDatumReader(schema, version);
+            return reader.isSupported() ? reader.read(decoder) : null;
+          }, fallback);
     }
   }
 }
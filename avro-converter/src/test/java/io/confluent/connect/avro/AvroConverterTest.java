@@ -21,6 +21,7 @@ import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientExcept
 import io.confluent.kafka.serializers.subject.RecordNameStrategy;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.kafka.connect.data.Decimal;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Schema.Type;
 import org.apache.kafka.connect.data.SchemaAndValue;
@@ -31,6 +32,7 @@ import org.junit.Test;
 import org.powermock.reflect.Whitebox;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
@@ -153,6 +155,60 @@ public class AvroConverterTest {
     assertEquals(expected, schemaAndValue.value());
   }
 
+  @Test
+  public void testLogicalTypeFallback() {
+    // The decimal field cannot be decoded directly, so the generic deserialization is converted
+    Schema schema = SchemaBuilder.struct()
+        .field("decimal", Decimal.schema(2))
+        .field("string", Schema.STRING_SCHEMA)
+        .build();
+    Struct original = new Struct(schema)
+        .put("decimal", new BigDecimal("12.34"))
+        .put("string", "foo");
+
+    byte[] converted = converter.fromConnectData(TOPIC, original.schema(), original);
+    for (int i = 0; i < 2; i++) {
+      SchemaAndValue schemaAndValue = converter.toConnectData(TOPIC, converted);
+      assertEquals(Integer.valueOf(1), schemaAndValue.schema().version());
+      Struct struct = (Struct) schemaAndValue.value();
+      assertEquals(new BigDecimal("12.34"), struct.get("decimal"));
+      assertEquals("foo", struct.get("string"));
+    }
+  }
+
+  @Test
+  public void testNestedOptional() {
+    Schema nestedSchema = SchemaBuilder.struct().name("nested")
+        .field("string", Schema.OPTIONAL_STRING_SCHEMA)
+        .field("int64", Schema.INT64_SCHEMA)
+        .optional()
+        .build();
+    SchemaBuilder builder = SchemaBuilder.struct()
+        .field("nested", nestedSchema)
+        .field("missing", nestedSchema)
+        .field("array", SchemaBuilder.array(nestedSchema).build())
+        .field("map", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.OPTIONAL_INT32_SCHEMA)
+            .build());
+    Schema schema = builder.build();
+    Struct nested = new Struct(nestedSchema).put("int64", 12L);
+    Struct original = new Struct(schema)
+        .put("nested", nested)
+        .put("array", Arrays.asList(nested, null))
+        .put("map", Collections.singletonMap("field", null));
+    // Because of registration in schema registry and lookup, we'll have added a version number
+    Schema expectedSchema = builder.version(1).build();
+    Struct expected = new Struct(expectedSchema)
+        .put("nested", nested)
+        .put("array", Arrays.asList(nested, null))
+        .put("map", Collections.singletonMap("field", null));
+
+    byte[] converted = converter.fromConnectData(TOPIC, original.schema(), original);
+    SchemaAndValue schemaAndValue = converter.toConnectData(TOPIC, converted);
+    assertEquals(expected, schemaAndValue.value());
+    // The second conversion reuses the cached reader
+    assertEquals(schemaAndValue, converter.toConnectData(TOPIC, converted));
+  }
+
   @Test
   public void testTypeBytes() {
     Schema schema = SchemaBuilder.bytes().build();
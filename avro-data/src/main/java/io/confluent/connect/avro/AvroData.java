@@ -327,7 +327,9 @@ public class AvroData {
   private int unionIndex = 0;
 
   private Map<Schema, org.apache.avro.Schema> fromConnectSchemaCache;
+  private Map<Schema, AvroSchema> fromConnectAvroSchemaCache;
   private Map<AvroSchema, Schema> toConnectSchemaCache;
+  private Map<AvroSchema, ConnectDatumReader> connectDatumReaderCache;
   private boolean connectMetaData;
   private boolean generalizedSumTypeSupport;
   private boolean ignoreDefaultForNullables;
@@ -344,7 +346,10 @@ public class AvroData {
 
   public AvroData(AvroDataConfig avroDataConfig) {
     fromConnectSchemaCache = new BoundedConcurrentHashMap<>(avroDataConfig.schemaCacheSize());
+    fromConnectAvroSchemaCache =
+        new BoundedConcurrentHashMap<>(avroDataConfig.schemaCacheSize());
     toConnectSchemaCache = new BoundedConcurrentHashMap<>(avroDataConfig.schemaCacheSize());
+    connectDatumReaderCache = new BoundedConcurrentHashMap<>(avroDataConfig.schemaCacheSize());
     this.connectMetaData = avroDataConfig.isConnectMetaData();
     this.generalizedSumTypeSupport = avroDataConfig.isGeneralizedSumTypeSupport();
     this.ignoreDefaultForNullables = avroDataConfig.ignoreDefaultForNullables();
@@ -761,6 +766,26 @@ public class AvroData {
     return fromConnectSchema(schema, new HashMap<Schema, org.apache.avro.Schema>());
   }
 
+  /**
+   * Convert the Connect schema into an Avro schema, wrapped in an {@link AvroSchema}.
+   *
+   * <p>The wrapper is cached per Connect schema, so that repeated conversions return the same
+   * instance. Its hash code is then only computed once, and lookups keyed by it, such as in
+   * the schema registry client, are identity hits.
+   */
+  public AvroSchema fromConnectAvroSchema(Schema schema) {
+    if (schema == null) {
+      return new AvroSchema(ANYTHING_SCHEMA);
+    }
+    AvroSchema cached = fromConnectAvroSchemaCache.get(schema);
+    if (cached != null) {
+      return cached;
+    }
+    AvroSchema avroSchema = new AvroSchema(fromConnectSchema(schema));
+    fromConnectAvroSchemaCache.put(schema, avroSchema);
+    return avroSchema;
+  }
+
   public org.apache.avro.Schema fromConnectSchema(Schema schema,
                                                   Map<Schema, org.apache.avro.Schema> schemaMap) {
     if (schema == null) {
@@ -1412,6 +1437,28 @@ public class AvroData {
     return new SchemaAndValue(schema, toConnectData(schema, value, toConnectContext));
   }
 
+  /**
+   * Returns a reader that decodes Avro binary data written with the given schema directly into
+   * Connect data. The reader is cached per writer schema, so callers should pass the same
+   * instance for the same schema, such as the one returned by the schema registry client.
+   * @param writerSchema the Avro schema the data was written with
+   * @param version the version to set on the Connect schema, may be null
+   * @return the reader, which may not support the given schema
+   */
+  public ConnectDatumReader connectDatumReader(AvroSchema writerSchema, Integer version) {
+    ConnectDatumReader cached = connectDatumReaderCache.get(writerSchema);
+    if (cached != null && Objects.equals(cached.version(), version)) {
+      return cached;
+    }
+    org.apache.avro.Schema avroSchema = writerSchema.rawSchema();
+    ConnectDatumReader reader = avroSchema.equals(ANYTHING_SCHEMA)
+        ? ConnectDatumReader.unsupported(version)
+        : ConnectDatumReader.create(avroSchema,
+            toConnectSchema(avroSchema, version, new ToConnectContext()), version);
+    connectDatumReaderCache.put(writerSchema, reader);
+    return reader;
+  }
+
   private Object toConnectData(Schema schema, Object value, ToConnectContext toConnectContext) {
     return toConnectData(schema, value, toConnectContext, true);
   }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.connect.avro;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.io.Decoder;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.Struct;
+
+/**
+ * Reads Avro binary data directly into Connect data, without first materializing Avro
+ * generic data.
+ *
+ * <p>The reader is built once per writer schema from the Connect schema returned by
+ * {@link AvroData#toConnectSchema}, and yields the same values as
+ * {@link AvroData#toConnectData}. Only the subset of schemas that needs no logical conversion
+ * is supported: records, arrays, maps, primitives other than null, and unions of null and one
+ * of these. {@link #isSupported()} is false for any other schema, in which case the data must
+ * be converted with {@link AvroData#toConnectData}.</p>
+ */
+public class ConnectDatumReader {
+
+  private final Schema schema;
+  private final Integer version;
+  private final ValueReader reader;
+
+  private ConnectDatumReader(Schema schema, Integer version, ValueReader reader) {
+    this.schema = schema;
+    this.version = version;
+    this.reader = reader;
+  }
+
+  static ConnectDatumReader unsupported(Integer version) {
+    return new ConnectDatumReader(null, version, null);
+  }
+
+  static ConnectDatumReader create(
+      org.apache.avro.Schema avroSchema, Schema schema, Integer version) {
+    if (avroSchema.getType() != org.apache.avro.Schema.Type.RECORD || schema == null) {
+      return unsupported(version);
+    }
+    ValueReader reader = readerFor(avroSchema, schema, new IdentityHashMap<>());
+    return new ConnectDatumReader(schema, version, reader);
+  }
+
+  public boolean isSupported() {
+    return reader != null;
+  }
+
+  public Schema schema() {
+    return schema;
+  }
+
+  public Integer version() {
+    return version;
+  }
+
+  public SchemaAndValue read(Decoder in) throws IOException {
+    if (reader == null) {
+      throw new IllegalStateException("Unsupported schema for direct decoding");
+    }
+    return new SchemaAndValue(schema, reader.read(in));
+  }
+
+  private static ValueReader readerFor(org.apache.avro.Schema avroSchema,
+                                       Schema schema,
+                                       Map<org.apache.avro.Schema, Boolean> visiting) {
+    if (avroSchema.getLogicalType() != null) {
+      return null;
+    }
+    switch (avroSchema.getType()) {
+      case BOOLEAN:
+        return isPlain(schema, Schema.Type.BOOLEAN) ? Decoder::readBoolean : null;
+      case INT:
+        if (isPlain(schema, Schema.Type.INT32)) {
+          return Decoder::readInt;
+        } else if (isPlain(schema, Schema.Type.INT16)) {
+          return in -> (short) in.readInt();
+        } else if (isPlain(schema, Schema.Type.INT8)) {
+          return in -> (byte) in.readInt();
+        }
+        return null;
+      case LONG:
+        return isPlain(schema, Schema.Type.INT64) ? Decoder::readLong : null;
+      case FLOAT:
+        return isPlain(schema, Schema.Type.FLOAT32) ? Decoder::readFloat : null;
+      case DOUBLE:
+        return isPlain(schema, Schema.Type.FLOAT64) ? Decoder::readDouble : null;
+      case STRING:
+        return isPlain(schema, Schema.Type.STRING) ? Decoder::readString : null;
+      case BYTES:
+        return isPlain(schema, Schema.Type.BYTES) ? in -> in.readBytes(null) : null;
+      case ARRAY:
+        return isPlain(schema, Schema.Type.ARRAY)
+            ? arrayReader(readerFor(avroSchema.getElementType(), schema.valueSchema(), visiting))
+            : null;
+      case MAP:
+        return isPlain(schema, Schema.Type.MAP)
+            && isPlain(schema.keySchema(), Schema.Type.STRING)
+            && !schema.keySchema().isOptional()
+            ? mapReader(readerFor(avroSchema.getValueType(), schema.valueSchema(), visiting))
+            : null;
+      case UNION:
+        return unionReader(avroSchema, schema, visiting);
+      case RECORD:
+        return recordReader(avroSchema, schema, visiting);
+      default:
+        return null;
+    }
+  }
+
+  private static boolean isPlain(Schema schema, Schema.Type type) {
+    // Named Connect schemas may need a logical conversion
+    return schema.type() == type && schema.name() == null;
+  }
+
+  private static ValueReader arrayReader(ValueReader elementReader) {
+    if (elementReader == null) {
+      return null;
+    }
+    return in -> {
+      long count = in.readArrayStart();
+      List<Object> result = new ArrayList<>((int) count);
+      while (count > 0) {
+        for (long i = 0; i < count; i++) {
+          result.add(elementReader.read(in));
+        }
+        count = in.arrayNext();
+      }
+      return result;
+    };
+  }
+
+  private static ValueReader mapReader(ValueReader valueReader) {
+    if (valueReader == null) {
+      return null;
+    }
+    return in -> {
+      long count = in.readMapStart();
+      Map<String, Object> result = new HashMap<>((int) count);
+      while (count > 0) {
+        for (long i = 0; i < count; i++) {
+          String key = in.readString();
+          result.put(key, valueReader.read(in));
+        }
+        count = in.mapNext();
+      }
+      return result;
+    };
+  }
+
+  private static ValueReader unionReader(org.apache.avro.Schema avroSchema,
+                                         Schema schema,
+                                         Map<org.apache.avro.Schema, Boolean> visiting) {
+    // Only unions of null and a single type are converted to optional Connect schemas
+    List<org.apache.avro.Schema> types = avroSchema.getTypes();
+    if (types.size() != 2 || !schema.isOptional()) {
+      return null;
+    }
+    int nullIndex;
+    if (types.get(0).getType() == org.apache.avro.Schema.Type.NULL) {
+      nullIndex = 0;
+    } else if (types.get(1).getType() == org.apache.avro.Schema.Type.NULL) {
+      nullIndex = 1;
+    } else {
+      return null;
+    }
+    ValueReader valueReader = readerFor(types.get(1 - nullIndex), schema, visiting);
+    if (valueReader == null) {
+      return null;
+    }
+    return in -> {
+      if (in.readIndex() == nullIndex) {
+        in.readNull();
+        return null;
+      }
+      return valueReader.read(in);
+    };
+  }
+
+  private static ValueReader recordReader(org.apache.avro.Schema avroSchema,
+                                          Schema schema,
+                                          Map<org.apache.avro.Schema, Boolean> visiting) {
+    List<org.apache.avro.Schema.Field> avroFields = avroSchema.getFields();
+    // Recursive records are not supported
+    if (schema.type() != Schema.Type.STRUCT
+        || schema.fields().size() != avroFields.size()
+        || visiting.put(avroSchema, Boolean.TRUE) != null) {
+      return null;
+    }
+    // Connect fields are created in the order of the Avro fields
+    Field[] fields = schema.fields().toArray(new Field[0]);
+    ValueReader[] readers = new ValueReader[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      readers[i] = readerFor(avroFields.get(i).schema(), fields[i].schema(), visiting);
+      if (readers[i] == null) {
+        return null;
+      }
+    }
+    visiting.remove(avroSchema);
+    return in -> {
+      Struct result = new Struct(schema);
+      for (int i = 0; i < fields.length; i++) {
+        result.put(fields[i], readers[i].read(in));
+      }
+      return result;
+    };
+  }
+
+  private interface ValueReader {
+    Object read(Decoder in) throws IOException;
+  }
+}
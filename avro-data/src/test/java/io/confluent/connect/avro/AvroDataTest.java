@@ -1466,6 +1466,15 @@ public class AvroDataTest {
     assertEquals(2, cache.size());
   }
 
+  @Test
+  public void testCacheAvroSchemaFromConnectConversion() {
+    AvroSchema avroSchema = avroData.fromConnectAvroSchema(Schema.BOOLEAN_SCHEMA);
+    assertEquals(org.apache.avro.Schema.create(org.apache.avro.Schema.Type.BOOLEAN),
+        avroSchema.rawSchema());
+    assertSame(avroSchema, avroData.fromConnectAvroSchema(Schema.BOOLEAN_SCHEMA));
+    assertSame(avroSchema.rawSchema(), avroData.fromConnectSchema(Schema.BOOLEAN_SCHEMA));
+  }
+
   @Test
   public void testEnum() throws Exception {
     AvroDataConfig avroDataConfig = new AvroDataConfig.Builder()
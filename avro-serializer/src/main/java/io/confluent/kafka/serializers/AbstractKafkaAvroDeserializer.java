@@ -29,12 +29,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import org.apache.avro.Schema;
 import org.apache.avro.Schema.Type;
 import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.Decoder;
 import org.apache.avro.io.DecoderFactory;
 
 import org.apache.avro.specific.SpecificData;
@@ -268,6 +270,11 @@ public abstract class AbstractKafkaAvroDeserializer extends AbstractKafkaSchemaS
 
     Integer version = schemaVersion(topic, isKey, context.getSchemaId(),
         context.getSubject(), schema, result);
+    return withVersion(schema, result, version);
+  }
+
+  private static GenericContainerWithVersion withVersion(
+      AvroSchema schema, Object result, Integer version) {
     if (schema.rawSchema().getType().equals(Schema.Type.RECORD)) {
       return new GenericContainerWithVersion((GenericContainer) result, version);
     } else {
@@ -276,6 +283,74 @@ public abstract class AbstractKafkaAvroDeserializer extends AbstractKafkaSchemaS
     }
   }
 
+  /**
+   * Decodes the payload with the given reader, directly from the writer schema. This is only
+   * possible if no reader schema, migration or domain rule applies to the payload, and the
+   * writer schema is a record. Otherwise the payload is deserialized as by
+   * {@link #deserializeWithSchemaAndVersion(String, boolean, Headers, byte[])} and passed to
+   * the fallback, reusing the writer schema and version that were already looked up.
+   *
+   * @param payload the serialized data
+   * @param reader the reader that decodes the payload, or returns null if it does not support
+   *     the writer schema
+   * @param fallback converts the generic deserialization of the payload
+   * @return the decoded value, or null if the payload is null
+   */
+  protected <T> T deserializeWithWriterSchema(
+      String topic, boolean isKey, Headers headers, byte[] payload,
+      WriterSchemaReader<T> reader, Function<GenericContainerWithVersion, T> fallback)
+      throws SerializationException, InvalidConfigurationException {
+    if (payload == null) {
+      return null;
+    }
+    if (!usesWriterSchema(isKey)) {
+      return fallback.apply(deserializeWithSchemaAndVersion(topic, isKey, headers, payload));
+    }
+    DeserializationContext context = new DeserializationContext(topic, isKey, headers, payload);
+    AvroSchema schema = context.schemaForDeserialize();
+    int schemaId = context.getSchemaId();
+    Integer version = schemaVersion(topic, isKey, schemaId, context.getSubject(), schema, null);
+    if (schema.rawSchema().getType().equals(Schema.Type.RECORD)
+        && (schema.ruleSet() == null || schema.ruleSet().getDomainRules().isEmpty())) {
+      T result;
+      try {
+        ByteBuffer buffer = context.buffer;
+        int length = buffer.limit() - 1 - idSize;
+        int start = buffer.position() + buffer.arrayOffset();
+        result = reader.read(schema, version,
+            decoderFactory.binaryDecoder(buffer.array(), start, length, null));
+      } catch (IOException | RuntimeException e) {
+        // avro deserialization may throw AvroRuntimeException, NullPointerException, etc
+        throw new SerializationException("Error deserializing Avro message for id "
+            + schemaId, e);
+      } finally {
+        postOp(payload);
+      }
+      if (result != null) {
+        return result;
+      }
+    }
+    // The decoder above does not move the buffer position, so the payload can be read again
+    return fallback.apply(withVersion(schema, context.read(schema, null), version));
+  }
+
+  private boolean usesWriterSchema(boolean isKey) {
+    if (isDeprecatedSubjectNameStrategy(isKey)) {
+      return false;
+    }
+    if (useSpecificAvroReader || specificAvroReaderSchema != null || useSchemaReflection) {
+      return false;
+    }
+    return metadata == null && !useLatestVersion;
+  }
+
+  /**
+   * Decodes Avro binary data written with a given schema.
+   */
+  protected interface WriterSchemaReader<T> {
+    T read(AvroSchema writerSchema, Integer version, Decoder decoder) throws IOException;
+  }
+
   protected DatumReader<?> getDatumReader(Schema writerSchema, Schema readerSchema)
       throws ExecutionException {
     return datumReaderCache.get(new IdentityPair<>(writerSchema, readerSchema));
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import io.confluent.connect.avro.AvroConverter;
+import io.confluent.connect.avro.AvroData;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks comparing the direct decoding of Avro binary data into Connect
+ *  data with decoding into Avro generic data followed by a conversion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(3)
+public class AvroConverterBenchmark {
+
+  private static final String TOPIC_NAME = "converter_benchmark";
+
+  @State(Scope.Thread)
+  public static class AvroConverterState {
+
+    AvroConverter converter;
+    KafkaAvroDeserializer deserializer;
+    AvroData avroData;
+    Struct struct;
+    byte[] bytes;
+
+    @Param({"10", "500"})
+    public int numFields;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+      final SchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+      final Map<String, Object> configs = ImmutableMap.of(
+          AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, true,
+          AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, ""
+      );
+      converter = new AvroConverter(schemaRegistryClient);
+      converter.configure(configs, false);
+      deserializer = new KafkaAvroDeserializer(schemaRegistryClient, configs);
+      avroData = new AvroData(100);
+      struct = makeStruct(numFields);
+      bytes = converter.fromConnectData(TOPIC_NAME, struct.schema(), struct);
+    }
+  }
+
+  /**
+   * Creates a struct whose fields cycle through strings, longs, optional doubles and
+   * arrays of strings.
+   */
+  public static Struct makeStruct(int numFields) {
+    SchemaBuilder builder = SchemaBuilder.struct().name("wide");
+    for (int i = 0; i < numFields; i++) {
+      switch (i % 4) {
+        case 0:
+          builder.field("f" + i, Schema.STRING_SCHEMA);
+          break;
+        case 1:
+          builder.field("f" + i, Schema.INT64_SCHEMA);
+          break;
+        case 2:
+          builder.field("f" + i, Schema.OPTIONAL_FLOAT64_SCHEMA);
+          break;
+        default:
+          builder.field("f" + i, SchemaBuilder.array(Schema.STRING_SCHEMA).build());
+          break;
+      }
+    }
+    Schema schema = builder.build();
+    Struct struct = new Struct(schema);
+    for (int i = 0; i < numFields; i++) {
+      switch (i % 4) {
+        case 0:
+          struct.put("f" + i, "value" + i);
+          break;
+        case 1:
+          struct.put("f" + i, (long) i);
+          break;
+        case 2:
+          struct.put("f" + i, i % 8 == 2 ? null : (double) i);
+          break;
+        default:
+          struct.put("f" + i, Arrays.asList("a", "b", "c"));
+          break;
+      }
+    }
+    return struct;
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public SchemaAndValue direct(final AvroConverterState state) {
+    return state.converter.toConnectData(TOPIC_NAME, state.bytes);
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public SchemaAndValue generic(final AvroConverterState state) {
+    GenericContainer container =
+        (GenericContainer) state.deserializer.deserialize(TOPIC_NAME, state.bytes);
+    return state.avroData.toConnectData(container.getSchema(), container);
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(AvroConverterBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.entities.Rule;
+import io.confluent.kafka.schemaregistry.client.rest.entities.RuleKind;
+import io.confluent.kafka.schemaregistry.client.rest.entities.RuleMode;
+import io.confluent.kafka.schemaregistry.client.rest.entities.RuleSet;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.schemaregistry.rules.cel.CelExecutor;
+import io.confluent.kafka.schemaregistry.rules.cel.CelFieldExecutor;
+import io.confluent.kafka.schemaregistry.tools.SchemaRegistryPerformance;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.protobuf.KafkaProtobufDeserializer;
+import io.confluent.kafka.serializers.protobuf.KafkaProtobufSerializer;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks of serdes whose schema has a CEL condition or a CEL_FIELD
+ *  transform, each with a guard, so that the cost of evaluating the rule on every record
+ *  can be compared against {@link SerdeBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(3)
+public class CelBenchmark {
+
+  private static final String TOPIC_NAME = "cel_benchmark";
+
+  @State(Scope.Thread)
+  public static class CelState {
+
+    Serializer serializer;
+    Deserializer deserializer;
+    Object row;
+    byte[] bytes;
+
+    @Param({"AVRO", "PROTOBUF"})
+    public String serializationFormat;
+
+    @Param({CelExecutor.TYPE, CelFieldExecutor.TYPE})
+    public String ruleType;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException, RestClientException {
+      final SchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+      final Map<String, Object> configs = new HashMap<>();
+      configs.put(AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, false);
+      configs.put(AbstractKafkaSchemaSerDeConfig.USE_LATEST_VERSION, true);
+      configs.put(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "");
+      configs.put(AbstractKafkaSchemaSerDeConfig.RULE_EXECUTORS, "cel,cel-field");
+      configs.put(AbstractKafkaSchemaSerDeConfig.RULE_EXECUTORS + ".cel.class",
+          CelExecutor.class.getName());
+      configs.put(AbstractKafkaSchemaSerDeConfig.RULE_EXECUTORS + ".cel-field.class",
+          CelFieldExecutor.class.getName());
+
+      switch (serializationFormat) {
+        case "AVRO":
+          serializer = new KafkaAvroSerializer(schemaRegistryClient, configs);
+          deserializer = new KafkaAvroDeserializer(schemaRegistryClient, configs);
+          break;
+        case "PROTOBUF":
+          serializer = new KafkaProtobufSerializer(schemaRegistryClient, configs);
+          deserializer = new KafkaProtobufDeserializer(schemaRegistryClient, configs);
+          break;
+        default:
+          throw new RuntimeException("Invalid format: " + serializationFormat);
+      }
+      ParsedSchema schema = SchemaRegistryPerformance.makeParsedSchema(serializationFormat, 1);
+      RuleSet ruleSet = new RuleSet(Collections.emptyList(),
+          Collections.singletonList(makeRule(ruleType)));
+      schemaRegistryClient.register(TOPIC_NAME + "-value", schema.copy(null, ruleSet));
+      row = SerdeBenchmark.makeRecord(schema);
+      bytes = serializer.serialize(TOPIC_NAME, row);
+    }
+  }
+
+  static Rule makeRule(String ruleType) {
+    switch (ruleType) {
+      case CelExecutor.TYPE:
+        return new Rule("condition", null, RuleKind.CONDITION, RuleMode.WRITEREAD,
+            CelExecutor.TYPE, null, null,
+            "message.f1 != \"\" ; message.f1.lowerAscii() == \"foo\"", null, null, false);
+      case CelFieldExecutor.TYPE:
+        // Upper-casing is idempotent, so records that are transformed in place stay the same
+        return new Rule("transform", null, RuleKind.TRANSFORM, RuleMode.WRITE,
+            CelFieldExecutor.TYPE, null, null,
+            "name == \"f1\" ; value.upperAscii()", null, null, false);
+      default:
+        throw new IllegalArgumentException("Unsupported rule type " + ruleType);
+    }
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public byte[] serialize(final CelState celState) {
+    return celState.serializer.serialize(TOPIC_NAME, celState.row);
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public Object deserialize(final CelState celState) {
+    return celState.deserializer.deserialize(TOPIC_NAME, celState.bytes);
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(CelBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.exceptions.IdGenerationException;
+import io.confluent.kafka.schemaregistry.id.IdGenerator;
+import io.confluent.kafka.schemaregistry.id.IncrementalIdGenerator;
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
+import io.confluent.kafka.schemaregistry.storage.SchemaKey;
+import io.confluent.kafka.schemaregistry.storage.SchemaRegistry;
+import io.confluent.kafka.schemaregistry.storage.SchemaValue;
+import io.confluent.kafka.schemaregistry.utils.QualifiedSubject;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks of ID allocation during a bulk import, where every allocated ID
+ *  is also replayed from the schemas topic. The per-context atomic counters are compared
+ *  against the previous allocator, which updated a map entry for every allocation and replay.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(8)
+@Fork(3)
+public class IdGeneratorBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class IdGeneratorState {
+
+    IdGenerator generator;
+
+    @Param({"compute", "atomic"})
+    public String allocator;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+      SchemaRegistry schemaRegistry = defaultTenantRegistry();
+      generator = "compute".equals(allocator)
+          ? new ComputeIdGenerator(schemaRegistry)
+          : new IncrementalIdGenerator(schemaRegistry);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ImportState {
+
+    SchemaKey[] keys;
+    SchemaValue[] values;
+    int next;
+
+    @Param({"1", "10"})
+    public int numContexts;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+      keys = new SchemaKey[numContexts];
+      values = new SchemaValue[numContexts];
+      for (int i = 0; i < numContexts; i++) {
+        String subject = ":.ctx" + i + ":subject";
+        keys[i] = new SchemaKey(subject, 1);
+        values[i] = new SchemaValue(subject, 1, 0, AvroSchema.TYPE,
+            Collections.emptyList(), "\"string\"", false);
+      }
+      next = 0;
+    }
+  }
+
+  /**
+   * The allocator previously used by the registry.
+   */
+  static class ComputeIdGenerator implements IdGenerator {
+    private final SchemaRegistry schemaRegistry;
+    private final Map<String, Integer> maxIds = new ConcurrentHashMap<>();
+
+    ComputeIdGenerator(SchemaRegistry schemaRegistry) {
+      this.schemaRegistry = schemaRegistry;
+    }
+
+    @Override
+    public int id(SchemaValue schema) {
+      String context = QualifiedSubject.contextFor(schemaRegistry.tenant(), schema.getSubject());
+      return maxIds.compute(context, (k, v) -> v != null ? v + 1 : 1);
+    }
+
+    @Override
+    public int getMaxId(SchemaValue schema) {
+      String context = QualifiedSubject.contextFor(schemaRegistry.tenant(), schema.getSubject());
+      return maxIds.computeIfAbsent(context, k -> 1);
+    }
+
+    @Override
+    public void configure(SchemaRegistryConfig config) {
+    }
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public void schemaRegistered(SchemaKey schemaKey, SchemaValue schemaValue) {
+      String context =
+          QualifiedSubject.contextFor(schemaRegistry.tenant(), schemaKey.getSubject());
+      maxIds.compute(context, (k, v) -> Math.max(schemaValue.getId(), v != null ? v : 1));
+    }
+  }
+
+  static SchemaRegistry defaultTenantRegistry() {
+    // The generators only need the tenant from the registry
+    return (SchemaRegistry) Proxy.newProxyInstance(
+        SchemaRegistry.class.getClassLoader(),
+        new Class<?>[] {SchemaRegistry.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("tenant")) {
+            return QualifiedSubject.DEFAULT_TENANT;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public int allocateAndReplay(final IdGeneratorState state, final ImportState importState)
+      throws IdGenerationException {
+    // Imports cycle through the contexts
+    int i = importState.next;
+    importState.next = (i + 1) % importState.numContexts;
+    SchemaValue value = importState.values[i];
+    int id = state.generator.id(value);
+    value.setId(id);
+    state.generator.schemaRegistered(importState.keys[i], value);
+    return id;
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(IdGeneratorBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
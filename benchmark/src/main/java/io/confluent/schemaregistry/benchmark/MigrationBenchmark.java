@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import com.google.common.collect.ImmutableSortedMap;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.entities.Metadata;
+import io.confluent.kafka.schemaregistry.client.rest.entities.Rule;
+import io.confluent.kafka.schemaregistry.client.rest.entities.RuleKind;
+import io.confluent.kafka.schemaregistry.client.rest.entities.RuleMode;
+import io.confluent.kafka.schemaregistry.client.rest.entities.RuleSet;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.schemaregistry.rules.jsonata.JsonataExecutor;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks of deserializing Avro records across a version boundary with a
+ *  JSONata migration rule that renames a field. A rename that can be applied as a migration
+ *  plan is compared against an equivalent expression that JSONata has to evaluate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(3)
+public class MigrationBenchmark {
+
+  private static final String TOPIC_NAME = "migration_benchmark";
+
+  private static final String V1_SCHEMA = "{\"type\": \"record\", \"name\": \"Widget\", "
+      + "\"fields\": [{\"name\": \"name\", \"type\": \"string\"}, "
+      + "{\"name\": \"size\", \"type\": \"int\"}]}";
+  private static final String V2_SCHEMA = "{\"type\": \"record\", \"name\": \"Widget\", "
+      + "\"fields\": [{\"name\": \"name\", \"type\": \"string\"}, "
+      + "{\"name\": \"height\", \"type\": \"int\"}]}";
+
+  @State(Scope.Thread)
+  public static class MigrationState {
+
+    KafkaAvroDeserializer deserializer;
+    byte[] bytes;
+
+    @Param({"UPGRADE", "DOWNGRADE"})
+    public String ruleMode;
+
+    @Param({"plan", "jsonata"})
+    public String evaluation;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException, RestClientException {
+      final SchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+      String subject = TOPIC_NAME + "-value";
+      AvroSchema v1 = new AvroSchema(V1_SCHEMA).copy(metadata("v1"), null);
+      schemaRegistryClient.register(subject, v1);
+      RuleSet ruleSet = new RuleSet(Arrays.asList(
+          new Rule("upgrade", null, RuleKind.TRANSFORM, RuleMode.UPGRADE,
+              JsonataExecutor.TYPE, null, null, renameExpr("size", "height"),
+              null, null, false),
+          new Rule("downgrade", null, RuleKind.TRANSFORM, RuleMode.DOWNGRADE,
+              JsonataExecutor.TYPE, null, null, renameExpr("height", "size"),
+              null, null, false)),
+          Collections.emptyList());
+      AvroSchema v2 = new AvroSchema(V2_SCHEMA).copy(metadata("v2"), ruleSet);
+      schemaRegistryClient.register(subject, v2);
+
+      boolean upgrade = "UPGRADE".equals(ruleMode);
+      KafkaAvroSerializer serializer = new KafkaAvroSerializer(
+          schemaRegistryClient, configs(upgrade ? "v1" : "v2"));
+      deserializer = new KafkaAvroDeserializer(
+          schemaRegistryClient, configs(upgrade ? "v2" : "v1"));
+
+      Schema writerSchema = (upgrade ? v1 : v2).rawSchema();
+      GenericRecord row = new GenericData.Record(writerSchema);
+      row.put("name", "alice");
+      row.put(upgrade ? "size" : "height", 123);
+      bytes = serializer.serialize(TOPIC_NAME, row);
+    }
+
+    private String renameExpr(String from, String to) {
+      // Adding zero keeps the result, but is not a plain rename
+      String value = "plan".equals(evaluation) ? "$.'" + from + "'" : "$.'" + from + "' + 0";
+      return "$merge([$sift($, function($v, $k) {$k != '" + from + "'}), "
+          + "{'" + to + "': " + value + "}])";
+    }
+  }
+
+  static Metadata metadata(String version) {
+    return new Metadata(Collections.emptySortedMap(),
+        ImmutableSortedMap.of("application.version", version),
+        Collections.emptySortedSet());
+  }
+
+  static Map<String, Object> configs(String version) {
+    Map<String, Object> configs = new HashMap<>();
+    configs.put(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "");
+    configs.put(AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, false);
+    configs.put(AbstractKafkaSchemaSerDeConfig.USE_LATEST_WITH_METADATA,
+        "application.version=" + version);
+    configs.put(AbstractKafkaSchemaSerDeConfig.LATEST_COMPATIBILITY_STRICT, false);
+    configs.put(AbstractKafkaSchemaSerDeConfig.RULE_EXECUTORS, "jsonata");
+    configs.put(AbstractKafkaSchemaSerDeConfig.RULE_EXECUTORS + ".jsonata.class",
+        JsonataExecutor.class.getName());
+    return configs;
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public Object deserialize(final MigrationState state) {
+    return state.deserializer.deserialize(TOPIC_NAME, state.bytes);
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(MigrationBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
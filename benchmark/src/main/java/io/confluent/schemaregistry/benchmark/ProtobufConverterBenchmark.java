@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import io.confluent.connect.protobuf.ProtobufConverter;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
+import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchemaUtils;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.protobuf.KafkaProtobufSerializer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks against the conversion of Protobuf data into Connect data, as
+ *  done by sink connectors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(3)
+public class ProtobufConverterBenchmark {
+
+  private static final String TOPIC_NAME = "converter_benchmark";
+
+  private static final String SCHEMA = "syntax = \"proto3\";\n"
+      + "\n"
+      + "message Outer {\n"
+      + "  string name = 1;\n"
+      + "  Inner inner = 2;\n"
+      + "  repeated Inner items = 3;\n"
+      + "  repeated int64 ids = 4;\n"
+      + "  map<string, Inner> lookup = 5;\n"
+      + "  oneof kind {\n"
+      + "    string label = 6;\n"
+      + "    int32 code = 7;\n"
+      + "  }\n"
+      + "}\n"
+      + "\n"
+      + "message Inner {\n"
+      + "  string id = 1;\n"
+      + "  int64 count = 2;\n"
+      + "  double score = 3;\n"
+      + "  bool active = 4;\n"
+      + "  Leaf leaf = 5;\n"
+      + "}\n"
+      + "\n"
+      + "message Leaf {\n"
+      + "  string value = 1;\n"
+      + "}\n";
+
+  @State(Scope.Thread)
+  public static class ProtobufConverterState {
+
+    ProtobufConverter converter;
+    byte[] bytes;
+
+    @Param({"nested", "repeated"})
+    public String shape;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+      final SchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+      final Map<String, Object> configs = ImmutableMap.of(
+          AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS, true,
+          AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, ""
+      );
+      converter = new ProtobufConverter(schemaRegistryClient);
+      converter.configure(configs, false);
+      ProtobufSchema schema = new ProtobufSchema(SCHEMA);
+      Message message = (Message) ProtobufSchemaUtils.toObject(makeJson(shape), schema);
+      KafkaProtobufSerializer<Message> serializer =
+          new KafkaProtobufSerializer<>(schemaRegistryClient, configs);
+      bytes = serializer.serialize(TOPIC_NAME, message);
+    }
+  }
+
+  /**
+   * Creates either a single deeply populated message, or a message with many repeated
+   * and map entries.
+   */
+  public static String makeJson(String shape) {
+    StringBuilder sb = new StringBuilder("{\"name\":\"outer\",\"label\":\"label\",");
+    String inner = "{\"id\":\"id\",\"count\":\"12\",\"score\":1.5,\"active\":true,"
+        + "\"leaf\":{\"value\":\"leaf\"}}";
+    switch (shape) {
+      case "nested":
+        return sb.append("\"inner\":").append(inner).append("}").toString();
+      case "repeated":
+        int count = 100;
+        sb.append("\"items\":[");
+        for (int i = 0; i < count; i++) {
+          sb.append(i > 0 ? "," : "").append(inner);
+        }
+        sb.append("],\"ids\":[");
+        for (int i = 0; i < count; i++) {
+          sb.append(i > 0 ? "," : "").append('"').append(i).append('"');
+        }
+        sb.append("],\"lookup\":{");
+        for (int i = 0; i < count; i++) {
+          sb.append(i > 0 ? "," : "").append("\"k").append(i).append("\":").append(inner);
+        }
+        return sb.append("}}").toString();
+      default:
+        throw new IllegalArgumentException("Unsupported shape " + shape);
+    }
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public SchemaAndValue toConnectData(final ProtobufConverterState state) {
+    return state.converter.toConnectData(TOPIC_NAME, state.bytes);
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(ProtobufConverterBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import io.confluent.kafka.schemaregistry.storage.MD5;
+import io.confluent.kafka.schemaregistry.storage.SchemaHashIndex;
+import io.confluent.kafka.schemaregistry.storage.SchemaIdIndex;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks comparing the ID and hash indexes of the in-memory cache against
+ *  the nested map layout they replace. The retained heap per schema of each layout is printed
+ *  by {@link #main} before the benchmarks are run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(3)
+public class SchemaIndexBenchmark {
+
+  private static final String[] LAYOUTS = {"maps", "primitive"};
+  private static final int[] NUM_SCHEMAS = {100000, 1000000};
+
+  @State(Scope.Benchmark)
+  public static class SchemaIndexState {
+
+    Index index;
+    MD5[] hashes;
+
+    @Param({"maps", "primitive"})
+    public String layout;
+
+    @Param({"100000", "1000000"})
+    public int numSchemas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      hashes = hashes(numSchemas);
+      index = populate(layout, hashes);
+    }
+  }
+
+  interface Index {
+    void put(int id, String subject, int version, MD5 md5);
+
+    Integer idByHash(MD5 md5);
+
+    Integer version(int id, String subject);
+  }
+
+  /**
+   * The layout previously used by the in-memory cache, for a single tenant and context.
+   */
+  static class MapIndex implements Index {
+    private final Map<Integer, Map<String, Integer>> guids = new ConcurrentHashMap<>();
+    private final Map<MD5, Integer> hashes = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(int id, String subject, int version, MD5 md5) {
+      guids.computeIfAbsent(id, k -> new ConcurrentHashMap<>()).put(subject, version);
+      // Copy the hash, as the cache holds its own MD5 for each schema value
+      hashes.put(new MD5(md5.bytes().clone()), id);
+    }
+
+    @Override
+    public Integer idByHash(MD5 md5) {
+      return hashes.get(md5);
+    }
+
+    @Override
+    public Integer version(int id, String subject) {
+      Map<String, Integer> subjectVersions = guids.get(id);
+      return subjectVersions != null ? subjectVersions.get(subject) : null;
+    }
+  }
+
+  static class PrimitiveIndex implements Index {
+    private final SchemaIdIndex guids = new SchemaIdIndex();
+    private final SchemaHashIndex hashes = new SchemaHashIndex();
+
+    @Override
+    public void put(int id, String subject, int version, MD5 md5) {
+      guids.put(id, subject, version);
+      hashes.put(md5, id);
+    }
+
+    @Override
+    public Integer idByHash(MD5 md5) {
+      return hashes.get(md5);
+    }
+
+    @Override
+    public Integer version(int id, String subject) {
+      return guids.version(id, subject);
+    }
+  }
+
+  static MD5[] hashes(int numSchemas) {
+    MD5[] hashes = new MD5[numSchemas];
+    for (int i = 0; i < numSchemas; i++) {
+      hashes[i] = md5(i);
+    }
+    return hashes;
+  }
+
+  static Index populate(String layout, MD5[] hashes) {
+    Index index = "maps".equals(layout) ? new MapIndex() : new PrimitiveIndex();
+    for (int i = 0; i < hashes.length; i++) {
+      // Each schema is registered under its own subject
+      index.put(i + 1, "subject" + i, 1, hashes[i]);
+    }
+    return index;
+  }
+
+  static MD5 md5(int i) {
+    long seed = i * 0x9E3779B97F4A7C15L;
+    return new MD5(ByteBuffer.allocate(16).putLong(seed).putLong(Long.rotateLeft(seed, 31))
+        .array());
+  }
+
+  /**
+   * Prints the heap retained per schema by each layout. This is measured outside of the
+   * benchmarks, as it needs full garbage collections.
+   */
+  private static void printRetainedMemory() {
+    for (int numSchemas : NUM_SCHEMAS) {
+      MD5[] hashes = hashes(numSchemas);
+      for (String layout : LAYOUTS) {
+        long before = usedMemory();
+        Index index = populate(layout, hashes);
+        long after = usedMemory();
+        // Use the index after measuring it, so that it can not be collected before
+        if (index.idByHash(hashes[numSchemas - 1]) != numSchemas) {
+          throw new IllegalStateException("Missing schemas in the " + layout + " layout");
+        }
+        System.out.printf("%s layout retains ~%d bytes per schema for %d schemas%n",
+            layout, (after - before) / numSchemas, numSchemas);
+      }
+    }
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public Integer idByHash(final SchemaIndexState state) {
+    int i = ThreadLocalRandom.current().nextInt(state.numSchemas);
+    return state.index.idByHash(state.hashes[i]);
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public Integer versionById(final SchemaIndexState state) {
+    int i = ThreadLocalRandom.current().nextInt(state.numSchemas);
+    return state.index.version(i + 1, "subject" + i);
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    printRetainedMemory();
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(SchemaIndexBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
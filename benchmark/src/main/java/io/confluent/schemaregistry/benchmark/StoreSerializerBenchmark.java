@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
+import io.confluent.kafka.schemaregistry.storage.SchemaKey;
+import io.confluent.kafka.schemaregistry.storage.SchemaRegistryValue;
+import io.confluent.kafka.schemaregistry.storage.SchemaValue;
+import io.confluent.kafka.schemaregistry.storage.exceptions.SerializationException;
+import io.confluent.kafka.schemaregistry.storage.serialization.SchemaRegistrySerializer;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *  Runs JMH microbenchmarks comparing the JSON and compact encodings of schemas topic values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(3)
+public class StoreSerializerBenchmark {
+
+  @State(Scope.Thread)
+  public static class StoreSerializerState {
+
+    SchemaRegistrySerializer serializer;
+    SchemaKey key;
+    SchemaValue value;
+    byte[] bytes;
+
+    @Param({"json", "compact"})
+    public String encoding;
+
+    @Param({"AVRO", "PROTOBUF"})
+    public String schemaType;
+
+    @Param({"10", "500"})
+    public int numFields;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SerializationException {
+      serializer = new SchemaRegistrySerializer();
+      serializer.configure(Collections.singletonMap(
+          SchemaRegistryConfig.KAFKASTORE_VALUE_ENCODING_CONFIG, encoding));
+      key = new SchemaKey("subject", 1);
+      value = new SchemaValue("subject", 1, 1, schemaType,
+          Collections.emptyList(), makeSchema(schemaType, numFields), false);
+      bytes = serializer.serializeValue(value);
+    }
+  }
+
+  public static String makeSchema(String schemaType, int numFields) {
+    StringBuilder sb = new StringBuilder();
+    switch (schemaType) {
+      case AvroSchema.TYPE:
+        sb.append("{\"type\":\"record\",\"name\":\"myrecord\",\"fields\":[");
+        for (int i = 0; i < numFields; i++) {
+          sb.append(i > 0 ? "," : "")
+              .append("{\"type\":\"string\",\"name\":\"f").append(i).append("\"}");
+        }
+        return sb.append("]}").toString();
+      case ProtobufSchema.TYPE:
+        sb.append("syntax = \"proto3\";\n\nmessage Foo {\n");
+        for (int i = 0; i < numFields; i++) {
+          sb.append("  string f").append(i).append(" = ").append(i + 1).append(";\n");
+        }
+        return sb.append("}\n").toString();
+      default:
+        throw new IllegalArgumentException("Unsupported schema type " + schemaType);
+    }
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public byte[] serialize(final StoreSerializerState state) throws SerializationException {
+    return state.serializer.serializeValue(state.value);
+  }
+
+  @SuppressWarnings("MethodMayBeStatic") // Tests can not be static
+  @Benchmark
+  public SchemaRegistryValue deserialize(final StoreSerializerState state)
+      throws SerializationException {
+    return state.serializer.deserializeValue(state.key, state.bytes);
+  }
+
+  public static void main(final String[] args) throws Exception {
+
+    final Options opt = args.length != 0
+        ? new CommandLineOptions(args)
+        : new OptionsBuilder()
+            .include(StoreSerializerBenchmark.class.getSimpleName())
+            .shouldFailOnError(true)
+            .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.confluent.schemaregistry.benchmark.AvroConverterBenchmark.AvroConverterState;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AvroConverterBenchmarkTest {
+
+  private AvroConverterState state;
+
+  @Before
+  public void setUp() throws Exception {
+    state = new AvroConverterState();
+    state.numFields = 500;
+    state.setUp();
+  }
+
+  @Test
+  public void shouldDecodeSameValues() {
+    AvroConverterBenchmark benchmark = new AvroConverterBenchmark();
+    Struct direct = (Struct) benchmark.direct(state).value();
+    Struct generic = (Struct) benchmark.generic(state).value();
+    for (int i = 0; i < state.numFields; i++) {
+      assertThat(direct.get("f" + i), is(generic.get("f" + i)));
+    }
+    assertThat(direct.get("f0"), is(state.struct.get("f0")));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.kafka.schemaregistry.rules.cel.CelExecutor;
+import io.confluent.kafka.schemaregistry.rules.cel.CelFieldExecutor;
+import io.confluent.schemaregistry.benchmark.CelBenchmark.CelState;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class CelBenchmarkTest {
+
+  private static final List<Object[]> PARAMS = ImmutableList.of(
+      new Object[] {"AVRO", CelExecutor.TYPE},
+      new Object[] {"AVRO", CelFieldExecutor.TYPE},
+      new Object[] {"PROTOBUF", CelExecutor.TYPE},
+      new Object[] {"PROTOBUF", CelFieldExecutor.TYPE});
+  private static final String TOPIC_NAME = "cel_benchmark";
+
+  private final String serializationFormat;
+  private final String ruleType;
+
+  private CelState celState;
+
+  public CelBenchmarkTest(final String serializationFormat, final String ruleType) {
+    this.serializationFormat = serializationFormat;
+    this.ruleType = ruleType;
+  }
+
+  @Parameterized.Parameters(name = "{0}-{1}")
+  public static Iterable<Object[]> data() {
+    return PARAMS;
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    celState = new CelState();
+    celState.serializationFormat = serializationFormat;
+    celState.ruleType = ruleType;
+    celState.setUp();
+  }
+
+  @Test
+  public void shouldApplyRule() {
+    String expected = CelFieldExecutor.TYPE.equals(ruleType) ? "FOO" : "foo";
+    // Run the rule repeatedly to use the compiled programs
+    for (int i = 0; i < 3; i++) {
+      byte[] bytes = celState.serializer.serialize(TOPIC_NAME, celState.row);
+      Object obj = celState.deserializer.deserialize(TOPIC_NAME, bytes);
+      assertThat(obj.toString(), containsString(expected));
+    }
+  }
+}
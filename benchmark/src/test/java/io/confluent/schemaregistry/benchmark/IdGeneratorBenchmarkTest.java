@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.confluent.schemaregistry.benchmark.IdGeneratorBenchmark.IdGeneratorState;
+import io.confluent.schemaregistry.benchmark.IdGeneratorBenchmark.ImportState;
+import org.junit.Test;
+
+public class IdGeneratorBenchmarkTest {
+
+  @Test
+  public void shouldAllocateSameIds() throws Exception {
+    IdGeneratorBenchmark benchmark = new IdGeneratorBenchmark();
+    IdGeneratorState compute = new IdGeneratorState();
+    compute.allocator = "compute";
+    compute.setUp();
+    IdGeneratorState atomic = new IdGeneratorState();
+    atomic.allocator = "atomic";
+    atomic.setUp();
+    ImportState computeImport = new ImportState();
+    computeImport.numContexts = 3;
+    computeImport.setUp();
+    ImportState atomicImport = new ImportState();
+    atomicImport.numContexts = 3;
+    atomicImport.setUp();
+
+    for (int i = 0; i < 30; i++) {
+      assertThat(benchmark.allocateAndReplay(atomic, atomicImport),
+          is(benchmark.allocateAndReplay(compute, computeImport)));
+    }
+    assertThat(atomic.generator.getMaxId(atomicImport.values[0]), is(10));
+    assertThat(atomic.generator.isUnused(atomicImport.values[0], 10), is(false));
+    assertThat(atomic.generator.isUnused(atomicImport.values[0], 11), is(true));
+  }
+}
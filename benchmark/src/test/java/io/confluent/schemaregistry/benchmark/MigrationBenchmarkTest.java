@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.schemaregistry.benchmark.MigrationBenchmark.MigrationState;
+import java.util.List;
+
+import org.apache.avro.generic.GenericRecord;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class MigrationBenchmarkTest {
+
+  private static final List<Object[]> PARAMS = ImmutableList.of(
+      new Object[] {"UPGRADE", "plan"},
+      new Object[] {"UPGRADE", "jsonata"},
+      new Object[] {"DOWNGRADE", "plan"},
+      new Object[] {"DOWNGRADE", "jsonata"});
+  private static final String TOPIC_NAME = "migration_benchmark";
+
+  private final String ruleMode;
+  private final String evaluation;
+
+  private MigrationState state;
+
+  public MigrationBenchmarkTest(final String ruleMode, final String evaluation) {
+    this.ruleMode = ruleMode;
+    this.evaluation = evaluation;
+  }
+
+  @Parameterized.Parameters(name = "{0}-{1}")
+  public static Iterable<Object[]> data() {
+    return PARAMS;
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    state = new MigrationState();
+    state.ruleMode = ruleMode;
+    state.evaluation = evaluation;
+    state.setUp();
+  }
+
+  @Test
+  public void shouldMigrateRecord() {
+    String field = "UPGRADE".equals(ruleMode) ? "height" : "size";
+    GenericRecord record =
+        (GenericRecord) state.deserializer.deserialize(TOPIC_NAME, state.bytes);
+    assertThat(record.get(field), is(123));
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.schemaregistry.benchmark.ProtobufConverterBenchmark.ProtobufConverterState;
+import java.util.List;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class ProtobufConverterBenchmarkTest {
+
+  private static final List<String> SHAPES = ImmutableList.of("nested", "repeated");
+
+  private final String shape;
+
+  private ProtobufConverterState state;
+
+  public ProtobufConverterBenchmarkTest(final String shape) {
+    this.shape = shape;
+  }
+
+  @Parameterized.Parameters(name = "{0}")
+  public static Iterable<String> data() {
+    return SHAPES;
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    state = new ProtobufConverterState();
+    state.shape = shape;
+    state.setUp();
+  }
+
+  @Test
+  public void shouldConvert() {
+    SchemaAndValue schemaAndValue = new ProtobufConverterBenchmark().toConnectData(state);
+    Struct struct = (Struct) schemaAndValue.value();
+    assertThat(struct.getString("name"), is("outer"));
+    assertThat(struct.getStruct("kind_0").getString("label"), is("label"));
+  }
+}
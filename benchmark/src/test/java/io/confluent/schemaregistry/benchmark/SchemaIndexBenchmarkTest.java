@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.schemaregistry.benchmark.SchemaIndexBenchmark.SchemaIndexState;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class SchemaIndexBenchmarkTest {
+
+  private static final List<String> LAYOUTS = ImmutableList.of("maps", "primitive");
+
+  private final String layout;
+
+  private SchemaIndexState state;
+
+  public SchemaIndexBenchmarkTest(final String layout) {
+    this.layout = layout;
+  }
+
+  @Parameterized.Parameters(name = "{0}")
+  public static Iterable<String> data() {
+    return LAYOUTS;
+  }
+
+  @Before
+  public void setUp() {
+    state = new SchemaIndexState();
+    state.layout = layout;
+    state.numSchemas = 1000;
+    state.setUp();
+  }
+
+  @Test
+  public void shouldLookUpRegisteredSchemas() {
+    for (int i = 0; i < state.numSchemas; i++) {
+      assertThat(state.index.idByHash(state.hashes[i]), is(i + 1));
+      assertThat(state.index.version(i + 1, "subject" + i), is(1));
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.schemaregistry.benchmark;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import io.confluent.schemaregistry.benchmark.StoreSerializerBenchmark.StoreSerializerState;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class StoreSerializerBenchmarkTest {
+
+  private static final List<String> ENCODINGS = ImmutableList.of("json", "compact");
+
+  private final String encoding;
+
+  private StoreSerializerState state;
+
+  public StoreSerializerBenchmarkTest(final String encoding) {
+    this.encoding = encoding;
+  }
+
+  @Parameterized.Parameters(name = "{0}")
+  public static Iterable<String> data() {
+    return ENCODINGS;
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    state = new StoreSerializerState();
+    state.encoding = encoding;
+    state.schemaType = "PROTOBUF";
+    state.numFields = 500;
+    state.setUp();
+  }
+
+  @Test
+  public void shouldSerializeDeserialize() throws Exception {
+    assertThat(state.serializer.serializeValue(state.value), is(state.bytes));
+    assertThat(state.serializer.deserializeValue(state.key, state.bytes), is(state.value));
+  }
+}
@@ -19,6 +19,7 @@ package io.confluent.kafka.schemaregistry;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 public class CompatibilityChecker {
@@ -114,4 +115,27 @@ public class CompatibilityChecker {
         throw new IllegalArgumentException("Invalid level " + level);
     }
   }
+
+  /**
+   * Returns a checker for the given level. For transitive levels, the checks against
+   * previous schemas are run concurrently on the given executor.
+   */
+  public static CompatibilityChecker checker(CompatibilityLevel level, ExecutorService executor) {
+    if (executor == null) {
+      return checker(level);
+    }
+    switch (level) {
+      case BACKWARD_TRANSITIVE:
+        return new CompatibilityChecker(
+            new SchemaValidatorBuilder().canReadStrategy().validateAll(executor));
+      case FORWARD_TRANSITIVE:
+        return new CompatibilityChecker(
+            new SchemaValidatorBuilder().canBeReadStrategy().validateAll(executor));
+      case FULL_TRANSITIVE:
+        return new CompatibilityChecker(
+            new SchemaValidatorBuilder().mutualReadStrategy().validateAll(executor));
+      default:
+        return checker(level);
+    }
+  }
 }
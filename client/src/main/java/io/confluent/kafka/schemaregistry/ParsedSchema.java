@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /**
@@ -220,6 +221,26 @@ public interface ParsedSchema {
     return CompatibilityChecker.checker(level).isCompatibleWithHolders(this, previousSchemas);
   }
 
+  /**
+   * Checks the compatibility between this schema and the specified schemas, using the given
+   * executor to check against multiple previous schemas concurrently for transitive levels.
+   *
+   * @param level the compatibility level
+   * @param previousSchemas full schema history in chronological order
+   * @param executor the executor used to run the checks, or null to check sequentially
+   * @return an empty list if this schema is backward compatible with the previous schema, otherwise
+   *         the list of error messages
+   */
+  default List<String> isCompatible(
+      CompatibilityLevel level, List<ParsedSchemaHolder> previousSchemas,
+      ExecutorService executor) {
+    if (executor == null) {
+      return isCompatible(level, previousSchemas);
+    }
+    return CompatibilityChecker.checker(level, executor)
+        .isCompatibleWithHolders(this, previousSchemas);
+  }
+
   /**
    * Returns the underlying raw representation of the schema.
    *
@@ -25,8 +25,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -104,14 +110,7 @@ public final class SchemaValidatorBuilder {
     valid();
     return (toValidate, schemasInOrder) -> {
       for (ParsedSchemaHolder existing : schemasInOrder) {
-        ParsedSchema existingSchema = existing.schema();
-        List<String> errorMessages;
-        if (toValidate.schemaType().equals(existingSchema.schemaType())) {
-          errorMessages = strategy.validate(toValidate, existingSchema);
-        } else {
-          errorMessages = Lists.newArrayList(DIFFERENT_SCHEMA_TYPE);
-        }
-        existing.clear();
+        List<String> errorMessages = validate(toValidate, existing);
         if (!errorMessages.isEmpty()) {
           return errorMessages;
         }
@@ -120,6 +119,100 @@ public final class SchemaValidatorBuilder {
     };
   }
 
+  /**
+   * Like {@link #validateAll()}, but parses and validates against the existing schemas
+   * concurrently on the given executor. The result is the same as that of
+   * {@link #validateAll()}: the errors for the most recent incompatible schema. Once an
+   * incompatible schema is found, checks against older schemas are skipped or cancelled.
+   */
+  public SchemaValidator validateAll(ExecutorService executor) {
+    valid();
+    return validateEach(
+        (toValidate, existing) -> validate(toValidate, existing.iterator().next()), executor);
+  }
+
+  /**
+   * Returns a validator that checks the schema to validate against each existing schema in
+   * turn, by passing the existing schema alone to the given validator. The checks are run
+   * concurrently on the executor, if any, and the result is that of the most recent
+   * incompatible schema, as for {@link #validateAll(ExecutorService)}.
+   */
+  public static SchemaValidator validateEach(SchemaValidator validator,
+                                             ExecutorService executor) {
+    return (toValidate, schemasInOrder) -> {
+      List<ParsedSchemaHolder> schemas = Lists.newArrayList(schemasInOrder);
+      if (executor == null || schemas.size() <= 1) {
+        for (ParsedSchemaHolder existing : schemas) {
+          List<String> errorMessages =
+              validator.validate(toValidate, Collections.singletonList(existing));
+          if (!errorMessages.isEmpty()) {
+            return errorMessages;
+          }
+        }
+        return new ArrayList<>();
+      }
+      AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+      List<Future<List<String>>> futures = new ArrayList<>(schemas.size());
+      for (int i = 0; i < schemas.size(); i++) {
+        final int index = i;
+        final List<ParsedSchemaHolder> existing = Collections.singletonList(schemas.get(i));
+        futures.add(executor.submit(() -> {
+          if (index > firstFailure.get()) {
+            // A more recent schema is already incompatible
+            return null;
+          }
+          List<String> errorMessages = validator.validate(toValidate, existing);
+          if (!errorMessages.isEmpty()) {
+            firstFailure.accumulateAndGet(index, Math::min);
+          }
+          return errorMessages;
+        }));
+      }
+      try {
+        for (int i = 0; i < futures.size(); i++) {
+          List<String> errorMessages = futures.get(i).get();
+          if (errorMessages != null && !errorMessages.isEmpty()) {
+            cancel(futures, i + 1);
+            return errorMessages;
+          }
+        }
+        return new ArrayList<>();
+      } catch (InterruptedException e) {
+        cancel(futures, 0);
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while checking compatibility", e);
+      } catch (ExecutionException e) {
+        cancel(futures, 0);
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException(cause);
+      } catch (CancellationException e) {
+        cancel(futures, 0);
+        throw new IllegalStateException("Compatibility check was cancelled", e);
+      }
+    };
+  }
+
+  private List<String> validate(ParsedSchema toValidate, ParsedSchemaHolder existing) {
+    ParsedSchema existingSchema = existing.schema();
+    List<String> errorMessages;
+    if (toValidate.schemaType().equals(existingSchema.schemaType())) {
+      errorMessages = strategy.validate(toValidate, existingSchema);
+    } else {
+      errorMessages = Lists.newArrayList(DIFFERENT_SCHEMA_TYPE);
+    }
+    existing.clear();
+    return errorMessages;
+  }
+
+  private static void cancel(List<? extends Future<?>> futures, int fromIndex) {
+    for (int i = fromIndex; i < futures.size(); i++) {
+      futures.get(i).cancel(true);
+    }
+  }
+
   private void valid() {
     if (null == strategy) {
       throw new RuntimeException("SchemaValidationStrategy not specified in builder");
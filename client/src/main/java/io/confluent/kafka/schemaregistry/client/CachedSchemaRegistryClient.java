@@ -41,6 +41,7 @@ import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.SchemaProvider;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.avro.AvroSchemaProvider;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClientMetrics.CacheMetrics;
 import io.confluent.kafka.schemaregistry.client.rest.RestService;
 import io.confluent.kafka.schemaregistry.client.rest.Versions;
 import io.confluent.kafka.schemaregistry.client.rest.entities.Config;
@@ -77,6 +78,15 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
   private final Cache<SubjectAndInt, Long> missingVersionCache;
   private final Map<String, SchemaProvider> providers;
   private final Ticker ticker;
+  private final SchemaRegistryClientMetrics metrics;
+  private final CacheMetrics idToSchemaLookups;
+  private final CacheMetrics schemaToIdLookups;
+  private final CacheMetrics schemaToResponseLookups;
+  private final CacheMetrics schemaToVersionLookups;
+  private final CacheMetrics versionToSchemaLookups;
+  private final CacheMetrics missingIdLookups;
+  private final CacheMetrics missingSchemaLookups;
+  private final CacheMetrics missingVersionLookups;
 
   private static final String NO_SUBJECT = "";
   private static final int HTTP_NOT_FOUND = 404;
@@ -197,6 +207,19 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
     this.versionToSchemaCache = new BoundedConcurrentHashMap<>(cacheCapacity);
     this.restService = restService;
     this.ticker = ticker;
+    this.metrics = SchemaRegistryClientMetrics.create(configs);
+    this.idToSchemaLookups = cacheMetrics(SchemaRegistryClientMetrics.ID_TO_SCHEMA_CACHE);
+    this.schemaToIdLookups = cacheMetrics(SchemaRegistryClientMetrics.SCHEMA_TO_ID_CACHE);
+    this.schemaToResponseLookups =
+        cacheMetrics(SchemaRegistryClientMetrics.SCHEMA_TO_RESPONSE_CACHE);
+    this.schemaToVersionLookups = cacheMetrics(SchemaRegistryClientMetrics.SCHEMA_TO_VERSION_CACHE);
+    this.versionToSchemaLookups = cacheMetrics(SchemaRegistryClientMetrics.VERSION_TO_SCHEMA_CACHE);
+    this.missingIdLookups = cacheMetrics(SchemaRegistryClientMetrics.MISSING_ID_CACHE);
+    this.missingSchemaLookups = cacheMetrics(SchemaRegistryClientMetrics.MISSING_SCHEMA_CACHE);
+    this.missingVersionLookups = cacheMetrics(SchemaRegistryClientMetrics.MISSING_VERSION_CACHE);
+    if (metrics != null) {
+      restService.setMetrics(metrics);
+    }
 
     long missingIdTTL = SchemaRegistryClientConfig.getMissingIdTTL(configs);
     long missingVersionTTL = SchemaRegistryClientConfig.getMissingVersionTTL(configs);
@@ -258,6 +281,21 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
     return ticker;
   }
 
+  @Override
+  public SchemaRegistryClientMetrics metrics() {
+    return metrics;
+  }
+
+  private CacheMetrics cacheMetrics(String cache) {
+    return metrics != null ? metrics.cacheMetrics(cache) : null;
+  }
+
+  private static void recordCacheLookup(CacheMetrics cache, boolean hit) {
+    if (cache != null) {
+      cache.recordLookup(hit);
+    }
+  }
+
   private HostnameVerifier getHostnameVerifier(Map<String, Object> config) {
     String sslEndpointIdentificationAlgo =
             (String) config.get(SslConfigs.SSL_ENDPOINT_IDENTIFICATION_ALGORITHM_CONFIG);
@@ -323,7 +361,9 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
 
   protected ParsedSchema getSchemaByIdFromRegistry(int id, String subject)
       throws IOException, RestClientException {
-    if (missingIdCache.getIfPresent(new SubjectAndInt(subject, id)) != null) {
+    boolean missing = missingIdCache.getIfPresent(new SubjectAndInt(subject, id)) != null;
+    recordCacheLookup(missingIdLookups, missing);
+    if (missing) {
       throw new RestClientException("Schema " + id + " not found",
           HTTP_NOT_FOUND, SCHEMA_NOT_FOUND_ERROR_CODE);
     }
@@ -414,12 +454,15 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
 
     RegisterSchemaResponse cachedResponse = schemaResponseMap.get(schema);
     if (cachedResponse != null && (id < 0 || id == cachedResponse.getId())) {
+      recordCacheLookup(schemaToResponseLookups, true);
       return cachedResponse;
     }
 
     synchronized (this) {
       cachedResponse = schemaResponseMap.get(schema);
-      if (cachedResponse != null && (id < 0 || id == cachedResponse.getId())) {
+      boolean hit = cachedResponse != null && (id < 0 || id == cachedResponse.getId());
+      recordCacheLookup(schemaToResponseLookups, hit);
+      if (hit) {
         return cachedResponse;
       }
 
@@ -452,11 +495,13 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
 
     ParsedSchema cachedSchema = idSchemaMap.get(id);
     if (cachedSchema != null) {
+      recordCacheLookup(idToSchemaLookups, true);
       return cachedSchema;
     }
 
     synchronized (this) {
       cachedSchema = idSchemaMap.get(id);
+      recordCacheLookup(idToSchemaLookups, cachedSchema != null);
       if (cachedSchema != null) {
         return cachedSchema;
       }
@@ -512,11 +557,15 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
     // The cache is only used when lookupDeletedSchema is true
     Schema cachedSchema = lookupDeletedSchema ? versionSchemaMap.get(version) : null;
     if (cachedSchema != null) {
+      recordCacheLookup(versionToSchemaLookups, true);
       return cachedSchema;
     }
 
     synchronized (this) {
       cachedSchema = lookupDeletedSchema ? versionSchemaMap.get(version) : null;
+      if (lookupDeletedSchema) {
+        recordCacheLookup(versionToSchemaLookups, cachedSchema != null);
+      }
       if (cachedSchema != null) {
         return cachedSchema;
       }
@@ -534,8 +583,12 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
   private Schema getSchemaByVersionFromRegistry(
       String subject, int version, boolean lookupDeletedSchema)
       throws IOException, RestClientException {
-    if (lookupDeletedSchema
-        && missingVersionCache.getIfPresent(new SubjectAndInt(subject, version)) != null) {
+    boolean missing = false;
+    if (lookupDeletedSchema) {
+      missing = missingVersionCache.getIfPresent(new SubjectAndInt(subject, version)) != null;
+      recordCacheLookup(missingVersionLookups, missing);
+    }
+    if (missing) {
       throw new RestClientException("Version " + version + " not found",
           HTTP_NOT_FOUND, VERSION_NOT_FOUND_ERROR_CODE);
     }
@@ -597,11 +650,13 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
 
     Integer cachedVersion = schemaVersionMap.get(schema);
     if (cachedVersion != null) {
+      recordCacheLookup(schemaToVersionLookups, true);
       return cachedVersion;
     }
 
     synchronized (this) {
       cachedVersion = schemaVersionMap.get(schema);
+      recordCacheLookup(schemaToVersionLookups, cachedVersion != null);
       if (cachedVersion != null) {
         return cachedVersion;
       }
@@ -639,11 +694,13 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
 
     Integer cachedId = schemaIdMap.get(schema);
     if (cachedId != null) {
+      recordCacheLookup(schemaToIdLookups, true);
       return cachedId;
     }
 
     synchronized (this) {
       cachedId = schemaIdMap.get(schema);
+      recordCacheLookup(schemaToIdLookups, cachedId != null);
       if (cachedId != null) {
         return cachedId;
       }
@@ -816,12 +873,17 @@ public class CachedSchemaRegistryClient implements SchemaRegistryClient {
     if (restService != null) {
       restService.close();
     }
+    if (metrics != null) {
+      metrics.close();
+    }
   }
 
   private void checkMissingSchemaCache(String subject, ParsedSchema schema, boolean normalize)
       throws RestClientException {
-    if (missingSchemaCache.getIfPresent(
-        new SubjectAndSchema(subject, schema, normalize)) != null) {
+    boolean missing = missingSchemaCache.getIfPresent(
+        new SubjectAndSchema(subject, schema, normalize)) != null;
+    recordCacheLookup(missingSchemaLookups, missing);
+    if (missing) {
       throw new RestClientException("Schema not found",
           HTTP_NOT_FOUND, SCHEMA_NOT_FOUND_ERROR_CODE);
     }
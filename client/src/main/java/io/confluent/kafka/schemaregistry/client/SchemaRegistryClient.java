@@ -47,6 +47,13 @@ public interface SchemaRegistryClient extends Closeable, SchemaVersionFetcher {
     return Ticker.systemTicker();
   }
 
+  /**
+   * Returns the metrics of the client, or null if metrics are not enabled.
+   */
+  default SchemaRegistryClientMetrics metrics() {
+    return null;
+  }
+
   Optional<ParsedSchema> parseSchema(
       String schemaType,
       String schemaString,
@@ -38,6 +38,9 @@ public class SchemaRegistryClientConfig {
   public static final String HTTP_READ_TIMEOUT_MS = "http.read.timeout.ms";
   public static final int HTTP_READ_TIMEOUT_MS_DEFAULT = 60000;
 
+  public static final String HTTP_ETAG_CACHE_SIZE = "http.etag.cache.size";
+  public static final int HTTP_ETAG_CACHE_SIZE_DEFAULT = 0;
+
   public static final String BEARER_AUTH_CREDENTIALS_SOURCE = "bearer.auth.credentials.source";
   public static final String BEARER_AUTH_TOKEN_CONFIG = "bearer.auth.token";
 
@@ -49,6 +52,8 @@ public class SchemaRegistryClientConfig {
   public static final String MISSING_VERSION_CACHE_TTL_CONFIG = "missing.version.cache.ttl.sec";
   public static final String MISSING_SCHEMA_CACHE_TTL_CONFIG = "missing.schema.cache.ttl.sec";
 
+  public static final String METRICS_ENABLED_CONFIG = CLIENT_NAMESPACE + "metrics.enabled";
+
 
   //OAuth AUTHORIZATION SERVER related configs
   public static final String BEARER_AUTH_ISSUER_ENDPOINT_URL = "bearer.auth.issuer.endpoint.url";
@@ -124,6 +129,17 @@ public class SchemaRegistryClientConfig {
     }
   }
 
+  public static int getHttpEtagCacheSize(Map<String, ?> configs) {
+    if (configs != null && configs.containsKey(HTTP_ETAG_CACHE_SIZE)) {
+      Object httpEtagCacheSizeVal = configs.get(HTTP_ETAG_CACHE_SIZE);
+      return httpEtagCacheSizeVal instanceof String
+          ? Integer.parseInt((String) httpEtagCacheSizeVal)
+          : (Integer) httpEtagCacheSizeVal;
+    } else {
+      return HTTP_ETAG_CACHE_SIZE_DEFAULT;
+    }
+  }
+
   public static long getMissingIdTTL(Map<String, ?> configs) {
     return configs != null && configs.containsKey(MISSING_ID_CACHE_TTL_CONFIG)
         ? (Long) configs.get(MISSING_ID_CACHE_TTL_CONFIG)
@@ -148,6 +164,13 @@ public class SchemaRegistryClientConfig {
         : 10000;
   }
 
+  public static boolean isMetricsEnabled(Map<String, ?> configs) {
+    Object enabled = configs != null ? configs.get(METRICS_ENABLED_CONFIG) : null;
+    return enabled instanceof String
+        ? Boolean.parseBoolean((String) enabled)
+        : Boolean.TRUE.equals(enabled);
+  }
+
   public static short getBearerAuthCacheExpiryBufferSeconds(Map<String, ?> configs) {
     return configs != null && configs.containsKey(BEARER_AUTH_CACHE_EXPIRY_BUFFER_SECONDS)
         ? (Short) configs.get(BEARER_AUTH_CACHE_EXPIRY_BUFFER_SECONDS)
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.client;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.KafkaMetricsContext;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.MetricsReporter;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.metrics.stats.Rate;
+import org.apache.kafka.common.metrics.stats.WindowedCount;
+import org.apache.kafka.common.utils.Time;
+
+/**
+ * Optional metrics of a schema registry client and the serdes that use it, which are
+ * reported through JMX using the Kafka client metrics, under the
+ * {@value #JMX_PREFIX} domain.  Metrics are only collected if
+ * {@link SchemaRegistryClientConfig#METRICS_ENABLED_CONFIG} is true.
+ */
+public class SchemaRegistryClientMetrics implements Closeable {
+
+  public static final String JMX_PREFIX = "kafka.schema.registry.client";
+
+  public static final String CACHE_METRIC_GROUP = "schema-registry-client-cache-metrics";
+  public static final String HTTP_METRIC_GROUP = "schema-registry-client-http-metrics";
+  public static final String SERDE_METRIC_GROUP = "schema-registry-serde-metrics";
+  public static final String RULE_METRIC_GROUP = "schema-registry-rule-metrics";
+
+  public static final String CLIENT_ID_TAG = "client-id";
+  public static final String CACHE_TAG = "cache";
+  public static final String ENDPOINT_TAG = "endpoint";
+  public static final String RULE_TYPE_TAG = "rule-type";
+
+  public static final String ID_TO_SCHEMA_CACHE = "id-to-schema";
+  public static final String SCHEMA_TO_ID_CACHE = "schema-to-id";
+  public static final String SCHEMA_TO_RESPONSE_CACHE = "schema-to-response";
+  public static final String SCHEMA_TO_VERSION_CACHE = "schema-to-version";
+  public static final String VERSION_TO_SCHEMA_CACHE = "version-to-schema";
+  public static final String MISSING_ID_CACHE = "missing-id";
+  public static final String MISSING_SCHEMA_CACHE = "missing-schema";
+  public static final String MISSING_VERSION_CACHE = "missing-version";
+
+  private static final String DEFAULT_CLIENT_ID = "schema-registry-client";
+  private static final AtomicInteger CLIENT_SEQUENCE = new AtomicInteger(1);
+
+  // Path segments that are kept in the endpoint tag, any others are replaced by a wildcard
+  private static final Set<String> ENDPOINT_SEGMENTS = ImmutableSet.of(
+      "compatibility", "config", "contexts", "dek-registry", "deks", "exporters", "guids",
+      "ids", "keks", "metadata", "mode", "referencedby", "schema", "schemas", "subjects",
+      "types", "v1", "versions");
+
+  private final Metrics metrics;
+  private final Map<String, String> tags;
+  private final ConcurrentMap<String, Sensor> sensors = new ConcurrentHashMap<>();
+
+  public SchemaRegistryClientMetrics(Map<String, ?> configs) {
+    Object clientId = configs != null ? configs.get("client.id") : null;
+    String prefix = clientId != null && !clientId.toString().isEmpty()
+        ? clientId.toString()
+        : DEFAULT_CLIENT_ID;
+    // Several clients can share a client.id, such as the key and value serdes of a producer
+    this.tags = Collections.singletonMap(
+        CLIENT_ID_TAG, prefix + "-" + CLIENT_SEQUENCE.getAndIncrement());
+    MetricsReporter reporter = new JmxReporter();
+    reporter.configure(configs != null ? configs : Collections.emptyMap());
+    this.metrics = new Metrics(new MetricConfig(), Collections.singletonList(reporter),
+        Time.SYSTEM, new KafkaMetricsContext(JMX_PREFIX));
+  }
+
+  /**
+   * Returns the metrics, or null if they are not enabled by the configs.
+   */
+  public static SchemaRegistryClientMetrics create(Map<String, ?> configs) {
+    return SchemaRegistryClientConfig.isMetricsEnabled(configs)
+        ? new SchemaRegistryClientMetrics(configs)
+        : null;
+  }
+
+  public Metrics metrics() {
+    return metrics;
+  }
+
+  public Map<String, String> tags() {
+    return tags;
+  }
+
+  /**
+   * Returns the metrics of lookups in the given cache. The sensors are created here, so that
+   * callers can keep the result and record lookups without resolving them again.
+   */
+  public CacheMetrics cacheMetrics(String cache) {
+    return new CacheMetrics(cacheSensor(cache, "hit"), cacheSensor(cache, "miss"));
+  }
+
+  public void recordRequest(String method, String path, long startNanos, boolean failed) {
+    String endpoint = endpoint(method, path);
+    latencySensor(HTTP_METRIC_GROUP, ENDPOINT_TAG, endpoint, "request",
+        "HTTP requests to the endpoint").record(elapsedMs(startNanos));
+    if (failed) {
+      sensor(HTTP_METRIC_GROUP, ENDPOINT_TAG, endpoint, "request-error", s ->
+          s.add(metricName("request-error-total", HTTP_METRIC_GROUP,
+              "The total number of failed HTTP requests to the endpoint",
+              ENDPOINT_TAG, endpoint), new CumulativeCount())
+      ).record();
+    }
+  }
+
+  public void recordExecuteRules(long startNanos) {
+    latencySensor(SERDE_METRIC_GROUP, null, null, "execute-rules",
+        "executing the rules of a message").record(elapsedMs(startNanos));
+  }
+
+  public void recordExecuteMigrations(long startNanos) {
+    latencySensor(SERDE_METRIC_GROUP, null, null, "execute-migrations",
+        "executing the migrations of a message").record(elapsedMs(startNanos));
+  }
+
+  public void recordRule(String ruleType, long startNanos) {
+    latencySensor(RULE_METRIC_GROUP, RULE_TYPE_TAG, ruleType, "rule",
+        "executing a rule of the type").record(elapsedMs(startNanos));
+  }
+
+  /**
+   * Returns the endpoint of a request, with the segments of the path that hold names,
+   * IDs or versions replaced by a wildcard, to bound the number of metrics.
+   */
+  static String endpoint(String method, String path) {
+    int query = path.indexOf('?');
+    if (query >= 0) {
+      path = path.substring(0, query);
+    }
+    StringBuilder sb = new StringBuilder(method).append(' ');
+    for (String segment : path.split("/")) {
+      if (segment.isEmpty()) {
+        continue;
+      }
+      sb.append('/').append(ENDPOINT_SEGMENTS.contains(segment) ? segment : "*");
+    }
+    if (sb.charAt(sb.length() - 1) == ' ') {
+      sb.append('/');
+    }
+    return sb.toString();
+  }
+
+  private Sensor cacheSensor(String cache, String name) {
+    return sensor(CACHE_METRIC_GROUP, CACHE_TAG, cache, name, s -> {
+      s.add(metricName(name + "-total", CACHE_METRIC_GROUP,
+          "The total number of lookups that were a " + name, CACHE_TAG, cache),
+          new CumulativeCount());
+      s.add(metricName(name + "-rate", CACHE_METRIC_GROUP,
+          "The number of lookups per second that were a " + name, CACHE_TAG, cache),
+          new Rate(new WindowedCount()));
+    });
+  }
+
+  private Sensor latencySensor(String group, String tag, String tagValue, String name,
+                               String description) {
+    return sensor(group, tag, tagValue, name, s -> {
+      s.add(metricName(name + "-latency-avg", group,
+          "The average time in ms spent " + description, tag, tagValue), new Avg());
+      s.add(metricName(name + "-latency-max", group,
+          "The maximum time in ms spent " + description, tag, tagValue), new Max());
+      s.add(metricName(name + "-rate", group,
+          "The number of times per second of " + description, tag, tagValue),
+          new Rate(new WindowedCount()));
+    });
+  }
+
+  private Sensor sensor(String group, String tag, String tagValue, String name,
+                        Consumer<Sensor> init) {
+    String sensorName = tags.get(CLIENT_ID_TAG) + ":" + group + ":" + tagValue + ":" + name;
+    Sensor sensor = sensors.get(sensorName);
+    if (sensor == null) {
+      sensor = sensors.computeIfAbsent(sensorName, k -> {
+        Sensor s = metrics.sensor(k);
+        init.accept(s);
+        return s;
+      });
+    }
+    return sensor;
+  }
+
+  private MetricName metricName(String name, String group, String description,
+                                String tag, String tagValue) {
+    Map<String, String> metricTags = tags;
+    if (tag != null) {
+      metricTags = new HashMap<>(tags);
+      metricTags.put(tag, tagValue);
+    }
+    return metrics.metricName(name, group, description, metricTags);
+  }
+
+  private static double elapsedMs(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000_000.0;
+  }
+
+  @Override
+  public void close() {
+    metrics.close();
+  }
+
+  /**
+   * The hit and miss sensors of a cache.
+   */
+  public static class CacheMetrics {
+    private final Sensor hits;
+    private final Sensor misses;
+
+    private CacheMetrics(Sensor hits, Sensor misses) {
+      this.hits = hits;
+      this.misses = misses;
+    }
+
+    public void recordLookup(boolean hit) {
+      (hit ? hits : misses).record();
+    }
+  }
+}
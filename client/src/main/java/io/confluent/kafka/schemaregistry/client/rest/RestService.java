@@ -22,6 +22,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClientConfig;
 import io.confluent.kafka.schemaregistry.client.rest.entities.Config;
@@ -63,6 +66,7 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLSocketFactory;
 
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClientMetrics;
 import io.confluent.kafka.schemaregistry.client.rest.entities.requests.CompatibilityCheckResponse;
 import io.confluent.kafka.schemaregistry.client.rest.entities.requests.ConfigUpdateRequest;
 import io.confluent.kafka.schemaregistry.client.rest.entities.Mode;
@@ -161,6 +165,8 @@ public class RestService implements Closeable, Configurable {
   private static ObjectMapper jsonDeserializer = JacksonMapper.INSTANCE;
 
   private static final String AUTHORIZATION_HEADER = "Authorization";
+  private static final String ETAG_HEADER = "ETag";
+  private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
   private static final String TARGET_SR_CLUSTER = "target-sr-cluster";
   private static final String TARGET_IDENTITY_POOL_ID = "Confluent-Identity-Pool-Id";
   public static final String X_FORWARD_HEADER = "X-Forward";
@@ -182,6 +188,9 @@ public class RestService implements Closeable, Configurable {
   private Map<String, String> httpHeaders;
   private Proxy proxy;
   private boolean isForward;
+  private SchemaRegistryClientMetrics metrics;
+  // Bodies of GET responses with an ETag, by request URL, to revalidate with the server
+  private Cache<String, EtagResponse> etagResponses;
 
   public RestService(UrlList baseUrls) {
     this(baseUrls, false);
@@ -208,6 +217,7 @@ public class RestService implements Closeable, Configurable {
   public void configure(Map<String, ?> configs) {
     setHttpConnectTimeoutMs(SchemaRegistryClientConfig.getHttpConnectTimeoutMs(configs));
     setHttpReadTimeoutMs(SchemaRegistryClientConfig.getHttpReadTimeoutMs(configs));
+    setHttpEtagCacheSize(SchemaRegistryClientConfig.getHttpEtagCacheSize(configs));
 
     String basicCredentialsSource =
         (String) configs.get(SchemaRegistryClientConfig.BASIC_AUTH_CREDENTIALS_SOURCE);
@@ -273,6 +283,17 @@ public class RestService implements Closeable, Configurable {
     this.httpReadTimeoutMs = httpReadTimeoutMs;
   }
 
+  /**
+   * Sets the maximum number of GET responses with an ETag to keep, which are then requested
+   * conditionally and reused if the server responds with 304 Not Modified.
+   * A size of 0 disables conditional requests.
+   */
+  public void setHttpEtagCacheSize(int httpEtagCacheSize) {
+    this.etagResponses = httpEtagCacheSize > 0
+        ? CacheBuilder.newBuilder().maximumSize(httpEtagCacheSize).build()
+        : null;
+  }
+
   /**
    * @param requestUrl        HTTP connection will be established with this url.
    * @param method            HTTP method ("GET", "POST", "PUT", etc.)
@@ -299,6 +320,8 @@ public class RestService implements Closeable, Configurable {
 
       connection = buildConnection(url, method, requestProperties);
 
+      EtagResponse etagResponse = setIfNoneMatch(connection, method, requestUrl);
+
       if (requestBodyData != null) {
         connection.setDoOutput(true);
         try (OutputStream os = connection.getOutputStream()) {
@@ -312,10 +335,9 @@ public class RestService implements Closeable, Configurable {
 
       int responseCode = connection.getResponseCode();
       if (responseCode == HttpURLConnection.HTTP_OK) {
-        InputStream is = connection.getInputStream();
-        T result = jsonDeserializer.readValue(is, responseFormat);
-        is.close();
-        return result;
+        return readResponse(connection, method, requestUrl, responseFormat);
+      } else if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && etagResponse != null) {
+        return jsonDeserializer.readValue(etagResponse.body, responseFormat);
       } else if (responseCode == HttpURLConnection.HTTP_NO_CONTENT) {
         return null;
       } else {
@@ -343,6 +365,38 @@ public class RestService implements Closeable, Configurable {
     }
   }
 
+  /**
+   * Makes a GET request conditional if a response with an ETag is cached for the URL.
+   *
+   * @return the cached response, or null if the request is not conditional
+   */
+  private EtagResponse setIfNoneMatch(HttpURLConnection connection, String method,
+                                      String requestUrl) {
+    if (etagResponses == null || !"GET".equals(method)) {
+      return null;
+    }
+    EtagResponse etagResponse = etagResponses.getIfPresent(requestUrl);
+    if (etagResponse != null) {
+      connection.setRequestProperty(IF_NONE_MATCH_HEADER, etagResponse.etag);
+    }
+    return etagResponse;
+  }
+
+  private <T> T readResponse(HttpURLConnection connection, String method, String requestUrl,
+                             TypeReference<T> responseFormat) throws IOException {
+    try (InputStream is = connection.getInputStream()) {
+      String etag = etagResponses != null && "GET".equals(method)
+          ? connection.getHeaderField(ETAG_HEADER)
+          : null;
+      if (etag == null) {
+        return jsonDeserializer.readValue(is, responseFormat);
+      }
+      byte[] body = ByteStreams.toByteArray(is);
+      etagResponses.put(requestUrl, new EtagResponse(etag, body));
+      return jsonDeserializer.readValue(body, responseFormat);
+    }
+  }
+
   private HttpURLConnection buildConnection(URL url, String method, Map<String,
                                             String> requestProperties)
       throws IOException {
@@ -402,6 +456,28 @@ public class RestService implements Closeable, Configurable {
     if (isForward) {
       requestProperties.put(X_FORWARD_HEADER, "true");
     }
+    if (metrics != null) {
+      long startNanos = System.nanoTime();
+      boolean failed = true;
+      try {
+        T result = sendHttpRequestToBaseUrls(path, method, requestBodyData, requestProperties,
+            responseFormat);
+        failed = false;
+        return result;
+      } finally {
+        metrics.recordRequest(method, path, startNanos, failed);
+      }
+    }
+    return sendHttpRequestToBaseUrls(
+        path, method, requestBodyData, requestProperties, responseFormat);
+  }
+
+  private <T> T sendHttpRequestToBaseUrls(String path,
+                                          String method,
+                                          byte[] requestBodyData,
+                                          Map<String, String> requestProperties,
+                                          TypeReference<T> responseFormat)
+      throws IOException, RestClientException {
     for (int i = 0, n = baseUrls.size(); i < n; i++) {
       String baseUrl = baseUrls.current();
       String requestUrl = buildRequestUrl(baseUrl, path);
@@ -1370,6 +1446,10 @@ public class RestService implements Closeable, Configurable {
     this.httpHeaders = httpHeaders;
   }
 
+  public void setMetrics(SchemaRegistryClientMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   public void setProxy(String proxyHost, int proxyPort) {
     this.proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyHost, proxyPort));
   }
@@ -1392,4 +1472,14 @@ public class RestService implements Closeable, Configurable {
       bearerAuthCredentialProvider.close();
     }
   }
+
+  private static class EtagResponse {
+    private final String etag;
+    private final byte[] body;
+
+    EtagResponse(String etag, byte[] body) {
+      this.etag = etag;
+      this.body = body;
+    }
+  }
 }
@@ -31,6 +31,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.config.ConfigException;
 
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
@@ -42,6 +43,8 @@ import io.confluent.kafka.schemaregistry.client.rest.entities.requests.ModeUpdat
 import io.confluent.kafka.schemaregistry.client.rest.RestService;
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 
+import static io.confluent.kafka.schemaregistry.client.SchemaRegistryClientMetrics.ID_TO_SCHEMA_CACHE;
+import static io.confluent.kafka.schemaregistry.client.SchemaRegistryClientMetrics.MISSING_ID_CACHE;
 import static org.easymock.EasyMock.anyBoolean;
 import static org.easymock.EasyMock.anyObject;
 import static org.easymock.EasyMock.anyString;
@@ -259,6 +262,49 @@ public class CachedSchemaRegistryClientTest {
     verify(restService);
   }
 
+  @Test
+  public void testIdCacheMetrics() throws Exception {
+    expect(restService.getId(ID_25, SUBJECT_0))
+        .andReturn(new SchemaString(SCHEMA_STR_0));
+
+    replay(restService);
+
+    Map<String, Object> configs = new HashMap<>();
+    configs.put(SchemaRegistryClientConfig.METRICS_ENABLED_CONFIG, true);
+    client = new CachedSchemaRegistryClient(restService, CACHE_CAPACITY, configs, null);
+
+    client.getSchemaBySubjectAndId(SUBJECT_0, ID_25);
+    client.getSchemaBySubjectAndId(SUBJECT_0, ID_25); // hit the cache
+    client.getSchemaBySubjectAndId(SUBJECT_0, ID_25); // hit the cache
+
+    SchemaRegistryClientMetrics metrics = client.metrics();
+    assertNotNull(metrics);
+    assertEquals(2.0, cacheMetric(metrics, "hit-total", ID_TO_SCHEMA_CACHE), 0.0);
+    assertEquals(1.0, cacheMetric(metrics, "miss-total", ID_TO_SCHEMA_CACHE), 0.0);
+    assertEquals(1.0, cacheMetric(metrics, "miss-total", MISSING_ID_CACHE), 0.0);
+
+    client.close();
+    verify(restService);
+  }
+
+  @Test
+  public void testMetricsEndpoint() {
+    assertEquals("GET /schemas/ids/*",
+        SchemaRegistryClientMetrics.endpoint("GET", "/schemas/ids/25?subject=foo"));
+    assertEquals("POST /subjects/*/versions",
+        SchemaRegistryClientMetrics.endpoint("POST", "/subjects/foo/versions?normalize=true"));
+    assertEquals("GET /", SchemaRegistryClientMetrics.endpoint("GET", "/"));
+  }
+
+  private static double cacheMetric(
+      SchemaRegistryClientMetrics metrics, String name, String cache) {
+    Map<String, String> tags = new HashMap<>(metrics.tags());
+    tags.put(SchemaRegistryClientMetrics.CACHE_TAG, cache);
+    MetricName metricName = metrics.metrics().metricName(
+        name, SchemaRegistryClientMetrics.CACHE_METRIC_GROUP, tags);
+    return (double) metrics.metrics().metric(metricName).metricValue();
+  }
+
   @Test
   public void testVersionCache() throws Exception {
     int version = 7;
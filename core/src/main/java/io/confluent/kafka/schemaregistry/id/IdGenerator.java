@@ -34,6 +34,18 @@ public interface IdGenerator {
    */
   int id(SchemaValue schema) throws IdGenerationException;
 
+  /**
+   * Returns whether an id provided by {@link #id} is known not to be in use, in which case
+   * callers need not check it for a collision.
+   *
+   * @param schema the schema being registered; never {@code null}
+   * @param id the id provided for the schema
+   * @return true if the id is known not to be in use
+   */
+  default boolean isUnused(SchemaValue schema, int id) {
+    return false;
+  }
+
   /**
    * Configure the underlying generator.
    *
@@ -23,6 +23,7 @@ import io.confluent.kafka.schemaregistry.storage.SchemaValue;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.confluent.kafka.schemaregistry.utils.QualifiedSubject;
 import org.slf4j.Logger;
@@ -33,7 +34,7 @@ public class IncrementalIdGenerator implements IdGenerator {
   Logger log = LoggerFactory.getLogger(IncrementalIdGenerator.class);
 
   private final SchemaRegistry schemaRegistry;
-  private final Map<String, Integer> maxIds = new ConcurrentHashMap<>();
+  private final Map<String, ContextIds> maxIds = new ConcurrentHashMap<>();
 
   public IncrementalIdGenerator(SchemaRegistry schemaRegistry) {
     this.schemaRegistry = schemaRegistry;
@@ -41,14 +42,18 @@ public class IncrementalIdGenerator implements IdGenerator {
 
   @Override
   public int id(SchemaValue schema) throws IdGenerationException {
-    String context = QualifiedSubject.contextFor(schemaRegistry.tenant(), schema.getSubject());
-    return maxIds.compute(context, (k, v) -> v != null ? v + 1 : 1);
+    return contextIds(schema.getSubject(), 0).maxId.incrementAndGet();
+  }
+
+  @Override
+  public boolean isUnused(SchemaValue schema, int id) {
+    // IDs above any registered ID cannot collide
+    return id > contextIds(schema.getSubject(), 0).maxRegisteredId.get();
   }
 
   @Override
   public int getMaxId(SchemaValue schema) {
-    String context = QualifiedSubject.contextFor(schemaRegistry.tenant(), schema.getSubject());
-    return maxIds.computeIfAbsent(context, k -> 1);
+    return contextIds(schema.getSubject(), 1).maxId.get();
   }
 
   @Override
@@ -63,10 +68,31 @@ public class IncrementalIdGenerator implements IdGenerator {
 
   @Override
   public void schemaRegistered(SchemaKey schemaKey, SchemaValue schemaValue) {
-    String context = QualifiedSubject.contextFor(schemaRegistry.tenant(), schemaKey.getSubject());
-    maxIds.compute(context, (k, v) -> {
-      int id = v != null ? v : 1;
-      return Math.max(schemaValue.getId(), id);
-    });
+    ContextIds ids = contextIds(schemaKey.getSubject(), 1);
+    int id = schemaValue.getId();
+    // Most replayed IDs are already covered, which needs no update
+    if (ids.maxRegisteredId.get() < id) {
+      ids.maxRegisteredId.accumulateAndGet(id, Math::max);
+    }
+    if (ids.maxId.get() < id) {
+      ids.maxId.accumulateAndGet(id, Math::max);
+    }
+  }
+
+  private ContextIds contextIds(String subject, int initialMaxId) {
+    String context = QualifiedSubject.contextFor(schemaRegistry.tenant(), subject);
+    ContextIds ids = maxIds.get(context);
+    return ids != null ? ids : maxIds.computeIfAbsent(context, k -> new ContextIds(initialMaxId));
+  }
+
+  private static class ContextIds {
+    // The highest ID that has been handed out or registered
+    private final AtomicInteger maxId;
+    // The highest ID that has been registered
+    private final AtomicInteger maxRegisteredId = new AtomicInteger();
+
+    ContextIds(int maxId) {
+      this.maxId = new AtomicInteger(maxId);
+    }
   }
 }
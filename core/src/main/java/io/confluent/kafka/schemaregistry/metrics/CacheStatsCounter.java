@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.metrics;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+/**
+ * Records the statistics of a Caffeine cache in Schema Registry metrics, in addition to
+ * keeping the usual {@link CacheStats}.
+ */
+public class CacheStatsCounter implements StatsCounter {
+
+  private static final double NANOS_PER_MS = 1_000_000.0;
+
+  private final StatsCounter delegate = new ConcurrentStatsCounter();
+  private final SchemaRegistryMetric hits;
+  private final SchemaRegistryMetric misses;
+  private final SchemaRegistryMetric loadTime;
+
+  public CacheStatsCounter(SchemaRegistryMetric hits,
+                           SchemaRegistryMetric misses,
+                           SchemaRegistryMetric loadTime) {
+    this.hits = hits;
+    this.misses = misses;
+    this.loadTime = loadTime;
+  }
+
+  @Override
+  public void recordHits(int count) {
+    delegate.recordHits(count);
+    hits.record(count);
+  }
+
+  @Override
+  public void recordMisses(int count) {
+    delegate.recordMisses(count);
+    misses.record(count);
+  }
+
+  @Override
+  public void recordLoadSuccess(long loadTime) {
+    delegate.recordLoadSuccess(loadTime);
+    this.loadTime.record(loadTime / NANOS_PER_MS);
+  }
+
+  @Override
+  public void recordLoadFailure(long loadTime) {
+    delegate.recordLoadFailure(loadTime);
+    this.loadTime.record(loadTime / NANOS_PER_MS);
+  }
+
+  @Override
+  public void recordEviction(int weight, RemovalCause cause) {
+    delegate.recordEviction(weight, cause);
+  }
+
+  @Override
+  public CacheStats snapshot() {
+    return delegate.snapshot();
+  }
+}
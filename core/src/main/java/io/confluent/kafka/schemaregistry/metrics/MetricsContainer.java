@@ -32,13 +32,24 @@ import org.apache.kafka.common.metrics.MetricConfig;
 import org.apache.kafka.common.metrics.Metrics;
 import org.apache.kafka.common.metrics.MetricsContext;
 import org.apache.kafka.common.metrics.MetricsReporter;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
 import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.CumulativeSum;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.metrics.stats.Percentile;
+import org.apache.kafka.common.metrics.stats.Percentiles;
+import org.apache.kafka.common.metrics.stats.Percentiles.BucketSizing;
+import org.apache.kafka.common.metrics.stats.Rate;
 import org.apache.kafka.common.metrics.stats.Value;
 import org.apache.kafka.common.utils.SystemTime;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 public class MetricsContainer {
@@ -64,6 +75,35 @@ public class MetricsContainer {
   public static final String METRIC_NAME_PB_SCHEMAS_CREATED = "protobuf-schemas-created";
   public static final String METRIC_NAME_PB_SCHEMAS_DELETED = "protobuf-schemas-deleted";
   public static final String METRIC_LEADER_INITIALIZATION_LATENCY = "leader-initialization-latency";
+  public static final String METRIC_NAME_COMPATIBILITY_CACHE_HIT_COUNT =
+      "compatibility-cache-hit-count";
+  public static final String METRIC_NAME_COMPATIBILITY_CACHE_MISS_COUNT =
+      "compatibility-cache-miss-count";
+  public static final String METRIC_NAME_SCHEMA_CACHE_HIT_COUNT = "schema-cache-hit-count";
+  public static final String METRIC_NAME_SCHEMA_CACHE_MISS_COUNT = "schema-cache-miss-count";
+  public static final String METRIC_NAME_SCHEMA_CACHE_LOAD_TIME = "schema-cache-load-time-avg";
+  public static final String METRIC_NAME_KAFKASTORE_APPLY_LATENCY =
+      "kafkastore-apply-latency-avg";
+  public static final String METRIC_NAME_KAFKASTORE_APPLY_RATE = "kafkastore-apply-record-rate";
+  public static final String METRIC_NAME_KAFKASTORE_PRODUCE_LATENCY =
+      "kafkastore-produce-latency";
+  public static final String METRIC_NAME_KAFKASTORE_READER_WAIT_LATENCY =
+      "kafkastore-reader-wait-latency";
+  public static final String METRIC_GROUP_API_LATENCY = "api-latency";
+  public static final String METRIC_GROUP_REGISTER_STAGE_LATENCY = "register-stage-latency";
+  public static final String METRIC_TAG_OPERATION = "operation";
+  public static final String METRIC_TAG_STAGE = "stage";
+
+  public static final String REGISTER_STAGE_LOCK = "lock";
+  public static final String REGISTER_STAGE_READER_SYNC = "reader-sync";
+  public static final String REGISTER_STAGE_CANONICALIZE = "canonicalize";
+  public static final String REGISTER_STAGE_COMPATIBILITY = "compatibility";
+  public static final String REGISTER_STAGE_WRITE = "write";
+  public static final String REGISTER_STAGE_FORWARD = "forward";
+
+  // Latencies are in ms, and larger values are counted in the last bucket
+  private static final int LATENCY_HISTOGRAM_BYTES = 4000;
+  private static final double LATENCY_HISTOGRAM_MAX_MS = 60000.0;
 
   private final Metrics metrics;
   private final Map<String, String> configuredTags;
@@ -86,6 +126,23 @@ public class MetricsContainer {
   private final SchemaRegistryMetric protobufSchemasDeleted;
   private final SchemaRegistryMetric leaderInitializationLatency;
 
+  private final SchemaRegistryMetric compatibilityCacheHits;
+  private final SchemaRegistryMetric compatibilityCacheMisses;
+
+  private final SchemaRegistryMetric schemaCacheHits;
+  private final SchemaRegistryMetric schemaCacheMisses;
+  private final SchemaRegistryMetric schemaCacheLoadTime;
+
+  private final SchemaRegistryMetric kafkaStoreApplyLatency;
+  private final SchemaRegistryMetric kafkaStoreApplyRate;
+  private final SchemaRegistryMetric kafkaStoreProduceLatency;
+  private final SchemaRegistryMetric kafkaStoreReaderWaitLatency;
+
+  private final ConcurrentMap<String, SchemaRegistryMetric> apiLatencies =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, SchemaRegistryMetric> registerStageLatencies =
+      new ConcurrentHashMap<>();
+
   private final MetricsContext metricsContext;
 
   public MetricsContainer(SchemaRegistryConfig config, String kafkaClusterId) {
@@ -148,6 +205,31 @@ public class MetricsContainer {
 
     this.leaderInitializationLatency = createMetric(METRIC_LEADER_INITIALIZATION_LATENCY,
             "Time spent initializing the leader's kafka store", new Value());
+
+    this.compatibilityCacheHits = createMetric(METRIC_NAME_COMPATIBILITY_CACHE_HIT_COUNT,
+            "Number of compatibility checks answered from the cache", new CumulativeCount());
+    this.compatibilityCacheMisses = createMetric(METRIC_NAME_COMPATIBILITY_CACHE_MISS_COUNT,
+            "Number of compatibility checks not found in the cache", new CumulativeCount());
+
+    this.schemaCacheHits = createMetric(METRIC_NAME_SCHEMA_CACHE_HIT_COUNT,
+            "Number of parsed schema cache hits", new CumulativeSum());
+    this.schemaCacheMisses = createMetric(METRIC_NAME_SCHEMA_CACHE_MISS_COUNT,
+            "Number of parsed schema cache misses", new CumulativeSum());
+    this.schemaCacheLoadTime = createMetric(METRIC_NAME_SCHEMA_CACHE_LOAD_TIME,
+            "Average time in ms spent parsing a schema on a cache miss", new Avg());
+
+    this.kafkaStoreApplyLatency = createMetric(METRIC_NAME_KAFKASTORE_APPLY_LATENCY,
+            "Average time in ms spent applying the records of one poll of the schemas topic",
+            new Avg());
+    this.kafkaStoreApplyRate = createMetric(METRIC_NAME_KAFKASTORE_APPLY_RATE,
+            "Number of records of the schemas topic applied per second", new Rate());
+    this.kafkaStoreProduceLatency = createLatencyMetric(METRIC_NAME_KAFKASTORE_PRODUCE_LATENCY,
+        METRIC_NAME_KAFKASTORE_PRODUCE_LATENCY,
+        "Time in ms spent waiting for Kafka to acknowledge a write to the schemas topic",
+        configuredTags);
+    this.kafkaStoreReaderWaitLatency = createLatencyMetric(
+        METRIC_NAME_KAFKASTORE_READER_WAIT_LATENCY, METRIC_NAME_KAFKASTORE_READER_WAIT_LATENCY,
+        "Time in ms spent waiting for the reader to reach the offset of a write", configuredTags);
   }
 
   public Metrics getMetrics() {
@@ -168,6 +250,38 @@ public class MetricsContainer {
     return reporter;
   }
 
+  private SchemaRegistryMetric createLatencyMetric(String sensorName, String metricGroup,
+                                                   String metricDescription,
+                                                   Map<String, String> tags) {
+    Sensor sensor = metrics.sensor(sensorName);
+    sensor.add(new MetricName(metricGroup + "-avg", metricGroup,
+        "Average " + metricDescription, tags), new Avg());
+    sensor.add(new MetricName(metricGroup + "-max", metricGroup,
+        "Maximum " + metricDescription, tags), new Max());
+    sensor.add(new Percentiles(LATENCY_HISTOGRAM_BYTES, LATENCY_HISTOGRAM_MAX_MS,
+        BucketSizing.LINEAR,
+        percentile(metricGroup, 50, metricDescription, tags),
+        percentile(metricGroup, 95, metricDescription, tags),
+        percentile(metricGroup, 99, metricDescription, tags)));
+    return new SchemaRegistryMetric(sensor);
+  }
+
+  private static Percentile percentile(String metricGroup, int percentile,
+                                       String metricDescription, Map<String, String> tags) {
+    MetricName mn = new MetricName(metricGroup + "-p" + percentile, metricGroup,
+        percentile + "th percentile " + metricDescription, tags);
+    return new Percentile(mn, percentile);
+  }
+
+  private SchemaRegistryMetric createTaggedLatencyMetric(String metricGroup, String tag,
+                                                         String tagValue,
+                                                         String metricDescription) {
+    Map<String, String> tags = new HashMap<>(configuredTags);
+    tags.put(tag, tagValue);
+    return createLatencyMetric(metricGroup + ":" + tagValue, metricGroup, metricDescription,
+        tags);
+  }
+
   private SchemaRegistryMetric createMetric(String name, String metricDescription,
                                             MeasurableStat stat) {
     return createMetric(name, name, name, metricDescription, stat);
@@ -233,6 +347,60 @@ public class MetricsContainer {
     return leaderInitializationLatency;
   }
 
+  public SchemaRegistryMetric getCompatibilityCacheHits() {
+    return compatibilityCacheHits;
+  }
+
+  public SchemaRegistryMetric getCompatibilityCacheMisses() {
+    return compatibilityCacheMisses;
+  }
+
+  public SchemaRegistryMetric getSchemaCacheHits() {
+    return schemaCacheHits;
+  }
+
+  public SchemaRegistryMetric getSchemaCacheMisses() {
+    return schemaCacheMisses;
+  }
+
+  public SchemaRegistryMetric getSchemaCacheLoadTime() {
+    return schemaCacheLoadTime;
+  }
+
+  public SchemaRegistryMetric getKafkaStoreApplyLatency() {
+    return kafkaStoreApplyLatency;
+  }
+
+  public SchemaRegistryMetric getKafkaStoreApplyRate() {
+    return kafkaStoreApplyRate;
+  }
+
+  public SchemaRegistryMetric getKafkaStoreProduceLatency() {
+    return kafkaStoreProduceLatency;
+  }
+
+  public SchemaRegistryMetric getKafkaStoreReaderWaitLatency() {
+    return kafkaStoreReaderWaitLatency;
+  }
+
+  /**
+   * Returns the latency histogram of the REST operation with the given documented name.
+   */
+  public SchemaRegistryMetric getApiLatency(String operation) {
+    return apiLatencies.computeIfAbsent(operation,
+        k -> createTaggedLatencyMetric(METRIC_GROUP_API_LATENCY, METRIC_TAG_OPERATION, k,
+            "time in ms spent serving the operation"));
+  }
+
+  /**
+   * Returns the latency histogram of the given stage of registering a schema.
+   */
+  public SchemaRegistryMetric getRegisterStageLatency(String stage) {
+    return registerStageLatencies.computeIfAbsent(stage,
+        k -> createTaggedLatencyMetric(METRIC_GROUP_REGISTER_STAGE_LATENCY, METRIC_TAG_STAGE, k,
+            "time in ms spent in the stage of registering a schema"));
+  }
+
   private static MetricsContext buildMetricsContext(
           SchemaRegistryConfig config, String kafkaClusterId) {
 
@@ -31,6 +31,10 @@ public class SchemaRegistryMetric {
     sensor.add(metricName, measurableStat);
   }
 
+  public SchemaRegistryMetric(Sensor sensor) {
+    this.sensor = sensor;
+  }
+
   public void record() {
     // equivalent to record(1.0);
     sensor.record();
@@ -16,6 +16,7 @@
 package io.confluent.kafka.schemaregistry.rest;
 
 import io.confluent.kafka.schemaregistry.CompatibilityLevel;
+import io.confluent.kafka.schemaregistry.storage.serialization.CompactEncoding;
 import io.confluent.kafka.schemaregistry.utils.AppInfoParser;
 import io.confluent.rest.metrics.RestMetricsContext;
 import io.confluent.rest.NamedURI;
@@ -118,6 +119,23 @@ public class SchemaRegistryConfig extends RestConfig {
    * <code>kafkastore.update.handler</code>
    */
   public static final String KAFKASTORE_UPDATE_HANDLERS_CONFIG = "kafkastore.update.handlers";
+  /**
+   * <code>kafkastore.batch.apply.enable</code>
+   */
+  public static final String KAFKASTORE_BATCH_APPLY_ENABLE_CONFIG =
+      "kafkastore.batch.apply.enable";
+  public static final boolean DEFAULT_KAFKASTORE_BATCH_APPLY_ENABLE = true;
+  /**
+   * <code>kafkastore.bootstrap.parallelism</code>
+   */
+  public static final String KAFKASTORE_BOOTSTRAP_PARALLELISM_CONFIG =
+      "kafkastore.bootstrap.parallelism";
+  public static final int DEFAULT_KAFKASTORE_BOOTSTRAP_PARALLELISM = 1;
+  /**
+   * <code>kafkastore.value.encoding</code>
+   */
+  public static final String KAFKASTORE_VALUE_ENCODING_CONFIG = "kafkastore.value.encoding";
+  public static final String DEFAULT_KAFKASTORE_VALUE_ENCODING = CompactEncoding.JSON;
   /**
    * <code>kafkagroup.rebalance.timeout.ms</code>
    */
@@ -196,6 +214,53 @@ public class SchemaRegistryConfig extends RestConfig {
   public static final String SCHEMA_CACHE_EXPIRY_SECS_CONFIG = "schema.cache.expiry.secs";
   public static final int SCHEMA_CACHE_EXPIRY_SECS_DEFAULT = 300;
 
+  /**
+   * <code>schema.cache.max.weight</code>
+   */
+  public static final String SCHEMA_CACHE_MAX_WEIGHT_CONFIG = "schema.cache.max.weight";
+  public static final long SCHEMA_CACHE_MAX_WEIGHT_DEFAULT = 0;
+
+  /**
+   * <code>schema.cache.warmup.versions</code>
+   */
+  public static final String SCHEMA_CACHE_WARMUP_VERSIONS_CONFIG = "schema.cache.warmup.versions";
+  public static final int SCHEMA_CACHE_WARMUP_VERSIONS_DEFAULT = 0;
+
+  /**
+   * <code>schema.compatibility.check.parallelism</code>
+   */
+  public static final String SCHEMA_COMPATIBILITY_CHECK_PARALLELISM_CONFIG =
+      "schema.compatibility.check.parallelism";
+  public static final int SCHEMA_COMPATIBILITY_CHECK_PARALLELISM_DEFAULT = 1;
+
+  /**
+   * <code>schema.compatibility.check.parallel.min.versions</code>
+   */
+  public static final String SCHEMA_COMPATIBILITY_CHECK_PARALLEL_MIN_VERSIONS_CONFIG =
+      "schema.compatibility.check.parallel.min.versions";
+  public static final int SCHEMA_COMPATIBILITY_CHECK_PARALLEL_MIN_VERSIONS_DEFAULT = 10;
+
+  /**
+   * <code>schema.compatibility.cache.size</code>
+   */
+  public static final String SCHEMA_COMPATIBILITY_CACHE_SIZE_CONFIG =
+      "schema.compatibility.cache.size";
+  public static final int SCHEMA_COMPATIBILITY_CACHE_SIZE_DEFAULT = 1000;
+
+  /**
+   * <code>schema.fingerprint.cache.size</code>
+   */
+  public static final String SCHEMA_FINGERPRINT_CACHE_SIZE_CONFIG =
+      "schema.fingerprint.cache.size";
+  public static final int SCHEMA_FINGERPRINT_CACHE_SIZE_DEFAULT = 10000;
+
+  /**
+   * <code>schema.response.cache.max.age.secs</code>
+   */
+  public static final String SCHEMA_RESPONSE_CACHE_MAX_AGE_SECS_CONFIG =
+      "schema.response.cache.max.age.secs";
+  public static final long SCHEMA_RESPONSE_CACHE_MAX_AGE_SECS_DEFAULT = 0;
+
   /**
    * <code>schema.canonicalize.on.consume</code>
    */
@@ -327,6 +392,21 @@ public class SchemaRegistryConfig extends RestConfig {
   protected static final String KAFKASTORE_UPDATE_HANDLERS_DOC =
       "  A list of classes to use as StoreUpdateHandler. Implementing the interface "
           + "<code>StoreUpdateHandler</code> allows you to handle Kafka store update events.";
+  protected static final String KAFKASTORE_BATCH_APPLY_ENABLE_DOC =
+      "If true, the Kafka store reader deserializes all records returned by a poll before "
+      + "applying them, and publishes the last applied offset once per poll instead of once "
+      + "per record.";
+  protected static final String KAFKASTORE_BOOTSTRAP_PARALLELISM_DOC =
+      "The number of threads used to deserialize and canonicalize the records of the "
+      + "schemas topic while the store is bootstrapping. Records are still applied in offset "
+      + "order. A value of 0 uses the number of available processors, and 1 (the default) "
+      + "applies them on the reader thread only.";
+  protected static final String KAFKASTORE_VALUE_ENCODING_DOC =
+      "The encoding used when writing values to the schemas topic, either 'json' or "
+      + "'compact'. The compact encoding wraps the JSON value in a versioned binary envelope "
+      + "and compresses large values. Values in either encoding are always readable, but all "
+      + "instances must be upgraded to a version that can read the compact encoding before "
+      + "enabling it.";
   protected static final String KAFKAGROUP_REBALANCE_TIMEOUT_DOC =
       "The maximum allowed time for each worker to join the group once a rebalance has begun.";
   protected static final String KAFKAGROUP_SESSION_TIMEOUT_DOC =
@@ -361,6 +441,31 @@ public class SchemaRegistryConfig extends RestConfig {
       "The maximum size of the schema cache.";
   protected static final String SCHEMA_CACHE_EXPIRY_SECS_DOC =
       "The expiration in seconds for entries accessed in the cache.";
+  protected static final String SCHEMA_CACHE_MAX_WEIGHT_DOC =
+      "The maximum total size, in characters of schema text, of the schema cache. "
+      + "If positive, entries are evicted by size instead of by " + SCHEMA_CACHE_SIZE_CONFIG
+      + ".";
+  protected static final String SCHEMA_CACHE_WARMUP_VERSIONS_DOC =
+      "The number of latest versions per subject to parse into the schema cache in the "
+      + "background, once the store is initialized and whenever this node becomes the leader. "
+      + "A value of 0 disables warm-up, and -1 warms up all versions.";
+  protected static final String SCHEMA_COMPATIBILITY_CHECK_PARALLELISM_DOC =
+      "The number of threads used to check a new schema against previous versions "
+      + "for transitive compatibility levels. A value of 1 checks versions sequentially.";
+  protected static final String SCHEMA_COMPATIBILITY_CHECK_PARALLEL_MIN_VERSIONS_DOC =
+      "The minimum number of previous versions for which transitive compatibility checks "
+      + "are run in parallel.";
+  protected static final String SCHEMA_COMPATIBILITY_CACHE_SIZE_DOC =
+      "The maximum number of pairwise compatibility results to cache. "
+      + "A value of 0 disables the cache.";
+  protected static final String SCHEMA_FINGERPRINT_CACHE_SIZE_DOC =
+      "The maximum number of raw schema fingerprints to cache, used to detect that a schema "
+      + "is already registered under a subject without parsing it. "
+      + "A value of 0 disables the cache.";
+  protected static final String SCHEMA_RESPONSE_CACHE_MAX_AGE_SECS_DOC =
+      "The max-age, in seconds, of the Cache-Control header of responses for a schema by ID "
+      + "or for a specific version of a subject, which only change if the schema is deleted. "
+      + "A value of 0 requires clients and proxies to revalidate the response with its ETag.";
   protected static final String SCHEMA_CANONICALIZE_ON_CONSUME_DOC =
       "A list of schema types to canonicalize on consume, to be used if canonicalization changes.";
   protected static final String SCHEMA_SEARCH_DEFAULT_LIMIT_DOC =
@@ -539,6 +644,19 @@ public class SchemaRegistryConfig extends RestConfig {
     .define(KAFKASTORE_UPDATE_HANDLERS_CONFIG, ConfigDef.Type.LIST, "",
         ConfigDef.Importance.LOW, KAFKASTORE_UPDATE_HANDLERS_DOC
     )
+    .define(KAFKASTORE_BATCH_APPLY_ENABLE_CONFIG, ConfigDef.Type.BOOLEAN,
+        DEFAULT_KAFKASTORE_BATCH_APPLY_ENABLE,
+        ConfigDef.Importance.LOW, KAFKASTORE_BATCH_APPLY_ENABLE_DOC
+    )
+    .define(KAFKASTORE_BOOTSTRAP_PARALLELISM_CONFIG, ConfigDef.Type.INT,
+        DEFAULT_KAFKASTORE_BOOTSTRAP_PARALLELISM, atLeast(0),
+        ConfigDef.Importance.LOW, KAFKASTORE_BOOTSTRAP_PARALLELISM_DOC
+    )
+    .define(KAFKASTORE_VALUE_ENCODING_CONFIG, ConfigDef.Type.STRING,
+        DEFAULT_KAFKASTORE_VALUE_ENCODING,
+        ConfigDef.ValidString.in(CompactEncoding.JSON, CompactEncoding.COMPACT),
+        ConfigDef.Importance.LOW, KAFKASTORE_VALUE_ENCODING_DOC
+    )
     .define(KAFKAGROUP_REBALANCE_TIMEOUT_MS_CONFIG, ConfigDef.Type.INT, 300000, atLeast(0),
         ConfigDef.Importance.MEDIUM, KAFKAGROUP_REBALANCE_TIMEOUT_DOC
     )
@@ -572,6 +690,33 @@ public class SchemaRegistryConfig extends RestConfig {
     .define(SCHEMA_CACHE_EXPIRY_SECS_CONFIG, ConfigDef.Type.INT, SCHEMA_CACHE_EXPIRY_SECS_DEFAULT,
         ConfigDef.Importance.LOW, SCHEMA_CACHE_EXPIRY_SECS_DOC
     )
+    .define(SCHEMA_CACHE_MAX_WEIGHT_CONFIG, ConfigDef.Type.LONG, SCHEMA_CACHE_MAX_WEIGHT_DEFAULT,
+        atLeast(0), ConfigDef.Importance.LOW, SCHEMA_CACHE_MAX_WEIGHT_DOC
+    )
+    .define(SCHEMA_CACHE_WARMUP_VERSIONS_CONFIG, ConfigDef.Type.INT,
+        SCHEMA_CACHE_WARMUP_VERSIONS_DEFAULT, atLeast(-1),
+        ConfigDef.Importance.LOW, SCHEMA_CACHE_WARMUP_VERSIONS_DOC
+    )
+    .define(SCHEMA_COMPATIBILITY_CHECK_PARALLELISM_CONFIG, ConfigDef.Type.INT,
+        SCHEMA_COMPATIBILITY_CHECK_PARALLELISM_DEFAULT, atLeast(1),
+        ConfigDef.Importance.LOW, SCHEMA_COMPATIBILITY_CHECK_PARALLELISM_DOC
+    )
+    .define(SCHEMA_COMPATIBILITY_CHECK_PARALLEL_MIN_VERSIONS_CONFIG, ConfigDef.Type.INT,
+        SCHEMA_COMPATIBILITY_CHECK_PARALLEL_MIN_VERSIONS_DEFAULT, atLeast(2),
+        ConfigDef.Importance.LOW, SCHEMA_COMPATIBILITY_CHECK_PARALLEL_MIN_VERSIONS_DOC
+    )
+    .define(SCHEMA_COMPATIBILITY_CACHE_SIZE_CONFIG, ConfigDef.Type.INT,
+        SCHEMA_COMPATIBILITY_CACHE_SIZE_DEFAULT, atLeast(0),
+        ConfigDef.Importance.LOW, SCHEMA_COMPATIBILITY_CACHE_SIZE_DOC
+    )
+    .define(SCHEMA_FINGERPRINT_CACHE_SIZE_CONFIG, ConfigDef.Type.INT,
+        SCHEMA_FINGERPRINT_CACHE_SIZE_DEFAULT, atLeast(0),
+        ConfigDef.Importance.LOW, SCHEMA_FINGERPRINT_CACHE_SIZE_DOC
+    )
+    .define(SCHEMA_RESPONSE_CACHE_MAX_AGE_SECS_CONFIG, ConfigDef.Type.LONG,
+        SCHEMA_RESPONSE_CACHE_MAX_AGE_SECS_DEFAULT, atLeast(0),
+        ConfigDef.Importance.LOW, SCHEMA_RESPONSE_CACHE_MAX_AGE_SECS_DOC
+    )
     .define(SCHEMA_CANONICALIZE_ON_CONSUME_CONFIG, ConfigDef.Type.LIST, "",
         ConfigDef.Importance.LOW, SCHEMA_CANONICALIZE_ON_CONSUME_DOC
     )
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.rest.filters;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaString;
+import io.confluent.kafka.schemaregistry.rest.resources.CacheableResponse;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+/**
+ * Adds a strong ETag, derived from the ID of the schema, and a Cache-Control header to the
+ * responses of methods annotated with {@link CacheableResponse}, and answers conditional
+ * requests whose If-None-Match header matches the ETag with 304 Not Modified.
+ *
+ * <p>The schema of an ID never changes, so the ETag does not need to hash the response.
+ * Methods whose entity does not identify the schema may set the ETag of their response.</p>
+ */
+public class HttpCachingFilter implements ContainerResponseFilter {
+  static final String NO_CACHE = "no-cache";
+
+  private static final String ID_PARAM = "id";
+  private static final String VERSION_PARAM = "version";
+  private static final String FETCH_MAX_ID_PARAM = "fetchMaxId";
+
+  private final String immutableCacheControl;
+
+  @Context
+  private ResourceInfo resourceInfo;
+
+  public HttpCachingFilter(long maxAgeSecs) {
+    this.immutableCacheControl = maxAgeSecs > 0 ? "max-age=" + maxAgeSecs : NO_CACHE;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext,
+                     ContainerResponseContext containerResponseContext) throws IOException {
+    if (containerResponseContext.getStatus() != Response.Status.OK.getStatusCode()
+        || !HttpMethod.GET.equals(containerRequestContext.getMethod())
+        || !isCacheable()) {
+      return;
+    }
+    EntityTag entityTag = containerResponseContext.getEntityTag();
+    if (entityTag == null) {
+      entityTag = entityTag(containerResponseContext.getEntity(),
+          containerRequestContext.getUriInfo());
+    }
+    if (entityTag == null) {
+      return;
+    }
+    MultivaluedMap<String, Object> headers = containerResponseContext.getHeaders();
+    headers.putSingle(HttpHeaders.ETAG, entityTag);
+    headers.putSingle(HttpHeaders.CACHE_CONTROL,
+        isImmutable(containerRequestContext.getUriInfo()) ? immutableCacheControl : NO_CACHE);
+    String ifNoneMatch = containerRequestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+    if (matches(ifNoneMatch, entityTag)) {
+      containerResponseContext.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+      containerResponseContext.setEntity(null);
+    }
+  }
+
+  private boolean isCacheable() {
+    Method method = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+    return method != null && method.isAnnotationPresent(CacheableResponse.class);
+  }
+
+  /**
+   * Returns whether the response only changes if the schema is deleted, which is not the case
+   * for the latest version of a subject or if the maximum schema ID is requested.
+   */
+  static boolean isImmutable(UriInfo uriInfo) {
+    if (Boolean.parseBoolean(uriInfo.getQueryParameters().getFirst(FETCH_MAX_ID_PARAM))) {
+      return false;
+    }
+    String version = uriInfo.getPathParameters().getFirst(VERSION_PARAM);
+    if (version == null) {
+      return true;
+    }
+    try {
+      return Integer.parseInt(version) > 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns the ETag of a schema, or of a schema string or raw schema looked up by ID, or null
+   * for any other entity.
+   */
+  static EntityTag entityTag(Object entity, UriInfo uriInfo) {
+    if (entity instanceof Schema) {
+      Schema schema = (Schema) entity;
+      // The same schema may be returned for another version of a subject
+      return new EntityTag(schema.getId() + "-v" + schema.getVersion());
+    }
+    String id = uriInfo.getPathParameters().getFirst(ID_PARAM);
+    if (id == null) {
+      return null;
+    }
+    if (entity instanceof SchemaString) {
+      Integer maxId = ((SchemaString) entity).getMaxId();
+      return new EntityTag(maxId != null ? id + "-max" + maxId : id);
+    } else if (entity instanceof String) {
+      return rawEntityTag(id);
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the ETag of the raw schema with the given ID.
+   */
+  public static EntityTag rawEntityTag(String id) {
+    return new EntityTag(id + "-raw");
+  }
+
+  static boolean matches(String ifNoneMatch, EntityTag entityTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String expected = "\"" + entityTag.getValue() + "\"";
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      // If-None-Match uses the weak comparison
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(expected)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
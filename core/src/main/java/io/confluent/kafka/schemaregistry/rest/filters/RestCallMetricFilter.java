@@ -15,21 +15,52 @@
 
 package io.confluent.kafka.schemaregistry.rest.filters;
 
+import io.confluent.kafka.schemaregistry.metrics.MetricsContainer;
 import io.confluent.kafka.schemaregistry.metrics.SchemaRegistryMetric;
+import io.confluent.kafka.schemaregistry.rest.resources.DocumentedName;
 
 import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
 import java.io.IOException;
+import java.lang.reflect.Method;
+
+public class RestCallMetricFilter implements ContainerRequestFilter, ContainerResponseFilter {
+  private static final String START_NANOS_PROPERTY = "schema.registry.request.start.nanos";
 
-public class RestCallMetricFilter implements ContainerResponseFilter {
   private final SchemaRegistryMetric metricSucceeded;
   private final SchemaRegistryMetric metricFailed;
+  private final MetricsContainer metricsContainer;
+
+  @Context
+  private ResourceInfo resourceInfo;
 
   public RestCallMetricFilter(SchemaRegistryMetric metricSucceeded,
                               SchemaRegistryMetric metricFailed) {
+    this(metricSucceeded, metricFailed, null);
+  }
+
+  public RestCallMetricFilter(MetricsContainer metricsContainer) {
+    this(metricsContainer.getApiCallsSuccess(), metricsContainer.getApiCallsFailure(),
+        metricsContainer);
+  }
+
+  private RestCallMetricFilter(SchemaRegistryMetric metricSucceeded,
+                               SchemaRegistryMetric metricFailed,
+                               MetricsContainer metricsContainer) {
     this.metricSucceeded = metricSucceeded;
     this.metricFailed = metricFailed;
+    this.metricsContainer = metricsContainer;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext containerRequestContext) throws IOException {
+    if (metricsContainer != null) {
+      containerRequestContext.setProperty(START_NANOS_PROPERTY, System.nanoTime());
+    }
   }
 
   @Override
@@ -46,5 +77,21 @@ public class RestCallMetricFilter implements ContainerResponseFilter {
       default:
         break;
     }
+    recordLatency(containerRequestContext);
+  }
+
+  private void recordLatency(ContainerRequestContext containerRequestContext) {
+    Object startNanos = containerRequestContext.getProperty(START_NANOS_PROPERTY);
+    if (!(startNanos instanceof Long) || resourceInfo == null) {
+      return;
+    }
+    Method method = resourceInfo.getResourceMethod();
+    DocumentedName name = method != null ? method.getAnnotation(DocumentedName.class) : null;
+    if (name == null) {
+      // Only documented operations are tracked, to bound the number of metrics
+      return;
+    }
+    long elapsedNanos = System.nanoTime() - (Long) startNanos;
+    metricsContainer.getApiLatency(name.value()).record(elapsedNanos / 1_000_000.0);
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2018 Confluent Inc.
+ * Copyright 2024 Confluent Inc.
  *
  * Licensed under the Confluent Community License (the "License"); you may not use
  * this file except in compliance with the License.  You may obtain a copy of the
@@ -13,25 +13,19 @@
  * specific language governing permissions and limitations under the License.
  */
 
-package io.confluent.kafka.schemaregistry.id;
+package io.confluent.kafka.schemaregistry.rest.resources;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 
 /**
- * A range of schema IDs, from the first available ID to the inclusive upper bound.
+ * Marks a resource method whose response for a given request only changes if the schema is
+ * deleted, so that it can be served with an ETag and cached by clients and proxies.
  */
-public class SchemaIdRange {
-  private final int base;
-  private final int end;
-
-  public SchemaIdRange(int base, int end) {
-    this.base = base;
-    this.end = end;
-  }
-
-  public int base() {
-    return base;
-  }
-
-  public int end() {
-    return end;
-  }
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheableResponse {
 }
@@ -127,6 +127,7 @@ public class SchemasResource {
   @GET
   @Path("/ids/{id}")
   @DocumentedName("getSchemasById")
+  @CacheableResponse
   @Operation(summary = "Get schema string by ID",
       description = "Retrieves the schema string identified by the input ID.",
       responses = {
@@ -269,6 +270,7 @@ public class SchemasResource {
   @GET
   @Path("/ids/{id}/schema")
   @DocumentedName("getOnlySchemaById")
+  @CacheableResponse
   @Operation(summary = "Get schema by ID",
       description = "Retrieves the schema identified by the input ID.",
       responses = {
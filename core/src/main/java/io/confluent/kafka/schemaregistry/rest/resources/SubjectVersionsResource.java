@@ -37,6 +37,7 @@ import io.confluent.kafka.schemaregistry.exceptions.UnknownLeaderException;
 import io.confluent.kafka.schemaregistry.rest.VersionId;
 import io.confluent.kafka.schemaregistry.rest.exceptions.Errors;
 import io.confluent.kafka.schemaregistry.rest.exceptions.RestInvalidRuleSetException;
+import io.confluent.kafka.schemaregistry.rest.filters.HttpCachingFilter;
 import io.confluent.kafka.schemaregistry.rules.RuleException;
 import io.confluent.kafka.schemaregistry.storage.KafkaSchemaRegistry;
 import io.confluent.kafka.schemaregistry.storage.LookupFilter;
@@ -66,6 +67,7 @@ import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -99,6 +101,7 @@ public class SubjectVersionsResource {
   @GET
   @Path("/{version}")
   @DocumentedName("getSchemaByVersion")
+  @CacheableResponse
   @PerformanceMetric("subjects.versions.get-schema")
   @Operation(summary = "Get schema by version",
       description = "Retrieves a specific version of the schema registered under this subject.",
@@ -168,6 +171,7 @@ public class SubjectVersionsResource {
   @GET
   @Path("/{version}/schema")
   @DocumentedName("getVersionSchemaOnly")
+  @CacheableResponse
   @PerformanceMetric("subjects.versions.get-schema.only")
   @Operation(summary = "Get schema string by version",
       description = "Retrieves the schema for the specified version of this subject. "
@@ -192,14 +196,18 @@ public class SubjectVersionsResource {
             content = @Content(schema = @io.swagger.v3.oas.annotations.media.Schema(implementation =
                     ErrorMessage.class)))})
   @Tags(@Tag(name = apiTag))
-  public String getSchemaOnly(
+  public Response getSchemaOnly(
       @Parameter(description = "Name of the subject", required = true)
       @PathParam("subject") String subject,
       @Parameter(description = VERSION_PARAM_DESC, required = true)
       @PathParam("version") String version,
       @Parameter(description = "Whether to include deleted schema")
       @QueryParam("deleted") boolean lookupDeletedSchema) {
-    return getSchemaByVersion(subject, version, lookupDeletedSchema).getSchema();
+    Schema schema = getSchemaByVersion(subject, version, lookupDeletedSchema);
+    // The raw schema does not identify the schema, so the ETag is set here
+    return Response.ok(schema.getSchema())
+        .tag(HttpCachingFilter.rawEntityTag(String.valueOf(schema.getId())))
+        .build();
   }
 
   @GET
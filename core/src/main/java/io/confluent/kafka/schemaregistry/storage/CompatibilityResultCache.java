@@ -0,0 +1,232 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.confluent.kafka.schemaregistry.CompatibilityLevel;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.ParsedSchemaHolder;
+import io.confluent.kafka.schemaregistry.SchemaValidator;
+import io.confluent.kafka.schemaregistry.SchemaValidatorBuilder;
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.exceptions.SchemaRegistryException;
+import io.confluent.kafka.schemaregistry.metrics.SchemaRegistryMetric;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Memoizes the result of checking a candidate schema against a single previous schema.
+ *
+ * <p>Results are keyed by the type and MD5 of both schemas, the version of the previous schema
+ * (which appears in error messages), the direction of the check, and whether the candidate
+ * was normalized. The candidate is hashed after any config defaults have been applied, so
+ * results do not depend on the config. Transitive checks are answered by combining the cached
+ * pairwise results, in the same order as
+ * {@link io.confluent.kafka.schemaregistry.CompatibilityChecker}.</p>
+ */
+public class CompatibilityResultCache {
+
+  private final Cache<Key, List<String>> results;
+  // The MD5 of a previous version is only reused for the same schema ID, since a version
+  // can be reused by another schema after the subject is permanently deleted
+  private final Cache<SchemaKey, VersionMd5> previousMd5s;
+  private final SchemaRegistryMetric hits;
+  private final SchemaRegistryMetric misses;
+
+  public CompatibilityResultCache(
+      int maxSize, SchemaRegistryMetric hits, SchemaRegistryMetric misses) {
+    this.results = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .build();
+    this.previousMd5s = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .build();
+    this.hits = hits;
+    this.misses = misses;
+  }
+
+  /**
+   * Checks the candidate against the previous schemas.
+   *
+   * @param candidate the candidate schema
+   * @param normalize whether the candidate was normalized
+   * @param level the compatibility level
+   * @param previousSchemas full schema history in chronological order
+   * @param executor an optional executor used to check the pairs concurrently
+   * @return the list of error messages, or an empty list if compatible
+   */
+  public List<String> isCompatible(ParsedSchema candidate,
+                                   boolean normalize,
+                                   CompatibilityLevel level,
+                                   List<ParsedSchemaHolder> previousSchemas,
+                                   ExecutorService executor) throws SchemaRegistryException {
+    CompatibilityLevel pairLevel = pairLevel(level);
+    if (pairLevel == null || previousSchemas.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<ParsedSchemaHolder> pairs = new ArrayList<>(previousSchemas);
+    // Checks occur in reverse chronological order
+    Collections.reverse(pairs);
+    if (!isTransitive(level)) {
+      pairs = pairs.subList(0, 1);
+    }
+
+    MD5 candidateMd5 = MD5.ofSchema(new Schema(null, null, null, candidate));
+    // Each previous version is loaded, hashed and looked up in its own check, so that
+    // uncached versions are resolved concurrently when there is an executor
+    SchemaValidator validator = SchemaValidatorBuilder.validateEach(
+        (toValidate, existing) -> check(candidate, candidateMd5, pairLevel, normalize,
+            (LazyParsedSchemaHolder) existing.iterator().next()),
+        executor);
+    try {
+      return validator.validate(candidate, pairs);
+    } catch (IllegalStateException e) {
+      if (e.getCause() instanceof SchemaRegistryException) {
+        throw (SchemaRegistryException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private List<String> check(ParsedSchema candidate,
+                             MD5 candidateMd5,
+                             CompatibilityLevel pairLevel,
+                             boolean normalize,
+                             LazyParsedSchemaHolder holder) {
+    SchemaValue previous;
+    try {
+      previous = holder.schemaValue();
+    } catch (SchemaRegistryException e) {
+      throw new IllegalStateException(e);
+    }
+    Key key = new Key(candidate.schemaType(), candidateMd5,
+        previous.getSchemaType(), previousMd5(previous), previous.getVersion(),
+        pairLevel, normalize);
+    List<String> result = results.getIfPresent(key);
+    if (result != null) {
+      hits.record();
+      return new ArrayList<>(result);
+    }
+    misses.record();
+    result = candidate.isCompatible(pairLevel, Collections.singletonList(holder));
+    results.put(key, Collections.unmodifiableList(new ArrayList<>(result)));
+    return result;
+  }
+
+  private MD5 previousMd5(SchemaValue previous) {
+    SchemaKey key = new SchemaKey(previous.getSubject(), previous.getVersion());
+    VersionMd5 versionMd5 = previousMd5s.getIfPresent(key);
+    if (versionMd5 == null || versionMd5.id != previous.getId()) {
+      versionMd5 = new VersionMd5(previous.getId(), MD5.ofSchema(previous));
+      previousMd5s.put(key, versionMd5);
+    }
+    return versionMd5.md5;
+  }
+
+  /**
+   * Returns whether all previous schemas are backed by stored values, so that the
+   * pairwise results can be keyed by MD5.
+   */
+  public static boolean isCacheable(List<ParsedSchemaHolder> previousSchemas) {
+    for (ParsedSchemaHolder holder : previousSchemas) {
+      if (!(holder instanceof LazyParsedSchemaHolder)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static CompatibilityLevel pairLevel(CompatibilityLevel level) {
+    switch (level) {
+      case BACKWARD:
+      case BACKWARD_TRANSITIVE:
+        return CompatibilityLevel.BACKWARD;
+      case FORWARD:
+      case FORWARD_TRANSITIVE:
+        return CompatibilityLevel.FORWARD;
+      case FULL:
+      case FULL_TRANSITIVE:
+        return CompatibilityLevel.FULL;
+      default:
+        return null;
+    }
+  }
+
+  private static boolean isTransitive(CompatibilityLevel level) {
+    return level == CompatibilityLevel.BACKWARD_TRANSITIVE
+        || level == CompatibilityLevel.FORWARD_TRANSITIVE
+        || level == CompatibilityLevel.FULL_TRANSITIVE;
+  }
+
+  private static class VersionMd5 {
+    private final int id;
+    private final MD5 md5;
+
+    VersionMd5(int id, MD5 md5) {
+      this.id = id;
+      this.md5 = md5;
+    }
+  }
+
+  private static class Key {
+    private final String candidateType;
+    private final MD5 candidate;
+    private final String previousType;
+    private final MD5 previous;
+    private final int previousVersion;
+    private final CompatibilityLevel level;
+    private final boolean normalize;
+
+    Key(String candidateType, MD5 candidate, String previousType, MD5 previous,
+        int previousVersion, CompatibilityLevel level, boolean normalize) {
+      this.candidateType = candidateType;
+      this.candidate = candidate;
+      this.previousType = previousType;
+      this.previous = previous;
+      this.previousVersion = previousVersion;
+      this.level = level;
+      this.normalize = normalize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key that = (Key) o;
+      return previousVersion == that.previousVersion
+          && normalize == that.normalize
+          && Objects.equals(candidateType, that.candidateType)
+          && Objects.equals(candidate, that.candidate)
+          && Objects.equals(previousType, that.previousType)
+          && Objects.equals(previous, that.previous)
+          && level == that.level;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(candidateType, candidate, previousType, previous,
+          previousVersion, level, normalize);
+    }
+  }
+}
@@ -51,6 +51,13 @@ public class CompositeSchemaUpdateHandler implements SchemaUpdateHandler {
     }
   }
 
+  @Override
+  public void prepareUpdate(SchemaRegistryKey key, SchemaRegistryValue value) {
+    for (SchemaUpdateHandler handler : handlers) {
+      handler.prepareUpdate(key, value);
+    }
+  }
+
   /**
    * Invoked before every new K,V pair written to the store
    *
@@ -23,20 +23,25 @@ import io.confluent.kafka.schemaregistry.storage.exceptions.StoreInitializationE
 
 import io.confluent.kafka.schemaregistry.storage.serialization.Serializer;
 import io.confluent.kafka.schemaregistry.utils.QualifiedSubject;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static io.confluent.kafka.schemaregistry.utils.QualifiedSubject.CONTEXT_WILDCARD;
 import static io.confluent.kafka.schemaregistry.utils.QualifiedSubject.DEFAULT_CONTEXT;
 
 
@@ -45,15 +50,20 @@ import static io.confluent.kafka.schemaregistry.utils.QualifiedSubject.DEFAULT_C
  */
 public class InMemoryCache<K, V> implements LookupCache<K, V> {
   private final ConcurrentNavigableMap<K, V> store;
-  private final Map<String, Map<String, Map<Integer, Map<String, Integer>>>> guidToSubjectVersions;
-  private final Map<String, Map<String, Map<MD5, Integer>>> hashToGuid;
+  private final Map<String, Map<String, SchemaIdIndex>> guidToSubjectVersions;
+  private final Map<String, Map<String, SchemaHashIndex>> hashToGuid;
   private final Map<String, Map<String, Map<SchemaKey, Set<Integer>>>> referencedBy;
+  private final Map<String, SubjectVersionIndex> subjectVersions;
+  // tenant -> unqualified subject -> id -> non-default contexts
+  private final Map<String, Map<String, Map<Integer, Set<String>>>> subjectContexts;
 
   public InMemoryCache(Serializer<K, V> serializer) {
     this.store = new ConcurrentSkipListMap<>(new SubjectKeyComparator<>(this));
     this.guidToSubjectVersions = new ConcurrentHashMap<>();
     this.hashToGuid = new ConcurrentHashMap<>();
     this.referencedBy = new ConcurrentHashMap<>();
+    this.subjectVersions = new ConcurrentHashMap<>();
+    this.subjectContexts = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -101,24 +111,23 @@ public class InMemoryCache<K, V> implements LookupCache<K, V> {
   @Override
   public void close() throws StoreException {
     store.clear();
+    subjectVersions.clear();
+    subjectContexts.clear();
   }
 
   @Override
   public SchemaIdAndSubjects schemaIdAndSubjects(Schema schema) throws StoreException {
     String ctx = QualifiedSubject.contextFor(tenant(), schema.getSubject());
     MD5 md5 = MD5.ofSchema(schema);
-    Map<String, Map<MD5, Integer>> ctxHashes =
-        hashToGuid.getOrDefault(tenant(), Collections.emptyMap());
-    Map<MD5, Integer> hashes = ctxHashes.getOrDefault(ctx, Collections.emptyMap());
-    Integer id = hashes.get(md5);
+    SchemaHashIndex hashes = hashToGuid.getOrDefault(tenant(), Collections.emptyMap()).get(ctx);
+    Integer id = hashes != null ? hashes.get(md5) : null;
     if (id == null) {
       return null;
     }
-    Map<String, Map<Integer, Map<String, Integer>>> ctxGuids =
-        guidToSubjectVersions.getOrDefault(tenant(), Collections.emptyMap());
-    Map<Integer, Map<String, Integer>> guids = ctxGuids.getOrDefault(ctx, Collections.emptyMap());
-    Map<String, Integer> subjectVersions = guids.get(id);
-    if (subjectVersions == null || subjectVersions.isEmpty()) {
+    SchemaIdIndex guids = idIndex(ctx);
+    Map<String, Integer> subjectVersions =
+        guids != null ? guids.get(id) : Collections.emptyMap();
+    if (subjectVersions.isEmpty()) {
       return null;
     }
     return new SchemaIdAndSubjects(id, subjectVersions);
@@ -142,33 +151,70 @@ public class InMemoryCache<K, V> implements LookupCache<K, V> {
   public SchemaKey schemaKeyById(Integer id, String subject) throws StoreException {
     QualifiedSubject qs = QualifiedSubject.create(tenant(), subject);
     String ctx = qs != null ? qs.getContext() : DEFAULT_CONTEXT;
-    Map<String, Map<Integer, Map<String, Integer>>> ctxGuids =
-        guidToSubjectVersions.getOrDefault(tenant(), Collections.emptyMap());
-    Map<Integer, Map<String, Integer>> guids = ctxGuids.getOrDefault(ctx, Collections.emptyMap());
-    Map<String, Integer> subjectVersions = guids.get(id);
-    if (subjectVersions == null || subjectVersions.isEmpty()) {
+    SchemaIdIndex guids = idIndex(ctx);
+    if (guids == null) {
       return null;
     }
     if (qs == null || qs.getSubject().isEmpty()) {
-      Map.Entry<String, Integer> entry = subjectVersions.entrySet().iterator().next();
-      return new SchemaKey(entry.getKey(), entry.getValue());
+      return guids.any(id);
     } else {
-      Integer version = subjectVersions.get(subject);
+      Integer version = guids.version(id, subject);
       return version != null ? new SchemaKey(subject, version) : null;
     }
   }
 
+  @Override
+  public List<Integer> versions(String subject, LookupFilter filter) {
+    if (subject.contains(CONTEXT_WILDCARD)) {
+      return null;
+    }
+    SubjectVersionIndex index = subjectVersions.get(subjectVersionsKey(subject));
+    return index != null ? index.versions(filter) : new ArrayList<>();
+  }
+
+  @Override
+  public Integer latestVersion(String subject, LookupFilter filter) {
+    if (subject.contains(CONTEXT_WILDCARD)) {
+      return null;
+    }
+    SubjectVersionIndex index = subjectVersions.get(subjectVersionsKey(subject));
+    return index != null ? index.latestVersion(filter) : -1;
+  }
+
+  @Override
+  public Collection<String> contextsById(Integer id, String subject) {
+    QualifiedSubject qs = QualifiedSubject.create(tenant(), subject);
+    if (qs == null) {
+      return Collections.emptySet();
+    }
+    return idContexts(qs).getOrDefault(id, Collections.emptySet());
+  }
+
+  @Override
+  public Collection<String> contextsBySubject(String subject) {
+    QualifiedSubject qs = QualifiedSubject.create(tenant(), subject);
+    if (qs == null) {
+      return Collections.emptySet();
+    }
+    Set<String> contexts = new TreeSet<>();
+    for (Set<String> idContexts : idContexts(qs).values()) {
+      contexts.addAll(idContexts);
+    }
+    return contexts;
+  }
+
   @Override
   public void schemaDeleted(
       SchemaKey schemaKey, SchemaValue schemaValue, SchemaValue oldSchemaValue) {
+    subjectVersions.computeIfAbsent(
+        subjectVersionsKey(schemaKey.getSubject()), k -> new SubjectVersionIndex())
+        .deleted(schemaKey.getVersion());
     String ctx = QualifiedSubject.contextFor(tenant(), schemaKey.getSubject());
-    Map<String, Map<Integer, Map<String, Integer>>> ctxGuids =
-        guidToSubjectVersions.computeIfAbsent(tenant(), k -> new ConcurrentHashMap<>());
-    Map<Integer, Map<String, Integer>> guids =
-        ctxGuids.computeIfAbsent(ctx, k -> new ConcurrentHashMap<>());
-    Map<String, Integer> subjectVersions =
-        guids.computeIfAbsent(schemaValue.getId(), k -> new ConcurrentHashMap<>());
-    subjectVersions.put(schemaKey.getSubject(), schemaKey.getVersion());
+    SchemaIdIndex guids = guidToSubjectVersions
+        .computeIfAbsent(tenant(), k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(ctx, k -> new SchemaIdIndex());
+    guids.put(schemaValue.getId(), schemaKey.getSubject(), schemaKey.getVersion());
+    addContext(schemaKey.getSubject(), schemaValue.getId());
     // We ensure the schema is registered by its hash; this is necessary in case of a
     // compaction when the previous non-deleted schemaValue will not get registered
     addToSchemaHashToGuid(schemaKey, schemaValue);
@@ -194,35 +240,33 @@ public class InMemoryCache<K, V> implements LookupCache<K, V> {
 
   @Override
   public void schemaTombstoned(SchemaKey schemaKey, SchemaValue schemaValue) {
+    removeVersion(schemaKey);
     if (schemaValue == null) {
       return;
     }
     String ctx = QualifiedSubject.contextFor(tenant(), schemaKey.getSubject());
-    Map<String, Map<Integer, Map<String, Integer>>> ctxGuids =
-        guidToSubjectVersions.getOrDefault(tenant(), Collections.emptyMap());
-    Map<Integer, Map<String, Integer>> guids = ctxGuids.getOrDefault(ctx, Collections.emptyMap());
-    Map<String, Integer> subjectVersions = guids.get(schemaValue.getId());
-    if (subjectVersions == null || subjectVersions.isEmpty()) {
+    SchemaIdIndex guids = idIndex(ctx);
+    if (guids == null) {
       return;
     }
-    subjectVersions.computeIfPresent(schemaKey.getSubject(),
-        (k, v) -> schemaKey.getVersion() == v ? null : v);
-    if (subjectVersions.isEmpty()) {
-      guids.remove(schemaValue.getId());
+    guids.remove(schemaValue.getId(), schemaKey.getSubject(), schemaKey.getVersion());
+    if (guids.version(schemaValue.getId(), schemaKey.getSubject()) == null) {
+      removeContext(schemaKey.getSubject(), schemaValue.getId());
     }
   }
 
   @Override
   public void schemaRegistered(
       SchemaKey schemaKey, SchemaValue schemaValue, SchemaValue oldSchemaValue) {
+    subjectVersions.computeIfAbsent(
+        subjectVersionsKey(schemaKey.getSubject()), k -> new SubjectVersionIndex())
+        .registered(schemaKey.getVersion());
     String ctx = QualifiedSubject.contextFor(tenant(), schemaKey.getSubject());
-    Map<String, Map<Integer, Map<String, Integer>>> ctxGuids =
-        guidToSubjectVersions.computeIfAbsent(tenant(), k -> new ConcurrentHashMap<>());
-    Map<Integer, Map<String, Integer>> guids =
-        ctxGuids.computeIfAbsent(ctx, k -> new ConcurrentHashMap<>());
-    Map<String, Integer> subjectVersions =
-        guids.computeIfAbsent(schemaValue.getId(), k -> new ConcurrentHashMap<>());
-    subjectVersions.put(schemaKey.getSubject(), schemaKey.getVersion());
+    SchemaIdIndex guids = guidToSubjectVersions
+        .computeIfAbsent(tenant(), k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(ctx, k -> new SchemaIdIndex());
+    guids.put(schemaValue.getId(), schemaKey.getSubject(), schemaKey.getVersion());
+    addContext(schemaKey.getSubject(), schemaValue.getId());
     addToSchemaHashToGuid(schemaKey, schemaValue);
     for (SchemaReference ref : schemaValue.getReferences()) {
       QualifiedSubject refSubject = QualifiedSubject.qualifySubjectWithParent(
@@ -241,12 +285,91 @@ public class InMemoryCache<K, V> implements LookupCache<K, V> {
   private void addToSchemaHashToGuid(SchemaKey schemaKey, SchemaValue schemaValue) {
     String ctx = QualifiedSubject.contextFor(tenant(), schemaKey.getSubject());
     MD5 md5 = MD5.ofSchema(schemaValue);
-    Map<String, Map<MD5, Integer>> ctxHashes =
-        hashToGuid.computeIfAbsent(tenant(), k -> new ConcurrentHashMap<>());
-    Map<MD5, Integer> hashes = ctxHashes.computeIfAbsent(ctx, k -> new ConcurrentHashMap<>());
+    SchemaHashIndex hashes = hashToGuid
+        .computeIfAbsent(tenant(), k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(ctx, k -> new SchemaHashIndex());
     hashes.put(md5, schemaValue.getId());
   }
 
+  private void removeVersion(SchemaKey schemaKey) {
+    subjectVersions.computeIfPresent(subjectVersionsKey(schemaKey.getSubject()), (k, index) -> {
+      index.removed(schemaKey.getVersion());
+      return index.isEmpty() ? null : index;
+    });
+  }
+
+  /**
+   * Returns the key of a subject in the version index. Subjects are normalized as by the
+   * {@link SubjectKeyComparator} of the store, so that "foo" and ":.:foo" share their versions.
+   */
+  private String subjectVersionsKey(String subject) {
+    String normalized = QualifiedSubject.normalize(tenant(), subject);
+    return normalized != null ? normalized : subject;
+  }
+
+  private SchemaIdIndex idIndex(String ctx) {
+    return guidToSubjectVersions.getOrDefault(tenant(), Collections.emptyMap()).get(ctx);
+  }
+
+  private Map<Integer, Set<String>> idContexts(QualifiedSubject qs) {
+    return subjectContexts.getOrDefault(qs.getTenant(), Collections.emptyMap())
+        .getOrDefault(qs.getSubject(), Collections.emptyMap());
+  }
+
+  private void addContext(String subject, int id) {
+    QualifiedSubject qs = QualifiedSubject.create(tenant(), subject);
+    if (qs == null || DEFAULT_CONTEXT.equals(qs.getContext())) {
+      return;
+    }
+    subjectContexts
+        .computeIfAbsent(qs.getTenant(), k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(qs.getSubject(), k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(id, k -> new ConcurrentSkipListSet<>())
+        .add(qs.getContext());
+  }
+
+  private void removeContext(String subject, int id) {
+    QualifiedSubject qs = QualifiedSubject.create(tenant(), subject);
+    if (qs == null || DEFAULT_CONTEXT.equals(qs.getContext())) {
+      return;
+    }
+    Map<String, Map<Integer, Set<String>>> tenantContexts = subjectContexts.get(qs.getTenant());
+    if (tenantContexts == null) {
+      return;
+    }
+    tenantContexts.computeIfPresent(qs.getSubject(), (s, idContexts) -> {
+      idContexts.computeIfPresent(id, (i, contexts) -> {
+        contexts.remove(qs.getContext());
+        return contexts.isEmpty() ? null : contexts;
+      });
+      return idContexts.isEmpty() ? null : idContexts;
+    });
+  }
+
+  /**
+   * Removes the context of the matching subjects from the ids that no longer have them.
+   */
+  private void pruneContexts(String subject, SchemaIdIndex guids, Predicate<String> match) {
+    QualifiedSubject qs = QualifiedSubject.create(tenant(), subject);
+    if (qs == null || DEFAULT_CONTEXT.equals(qs.getContext())) {
+      return;
+    }
+    Map<String, Map<Integer, Set<String>>> tenantContexts =
+        subjectContexts.getOrDefault(qs.getTenant(), Collections.emptyMap());
+    for (Map.Entry<String, Map<Integer, Set<String>>> entry : tenantContexts.entrySet()) {
+      String qualSub = new QualifiedSubject(qs.getTenant(), qs.getContext(), entry.getKey())
+          .toQualifiedSubject();
+      if (!match.test(qualSub)) {
+        continue;
+      }
+      for (Integer id : entry.getValue().keySet()) {
+        if (guids.version(id, qualSub) == null) {
+          removeContext(qualSub, id);
+        }
+      }
+    }
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public Config config(String subject,
@@ -354,16 +477,10 @@ public class InMemoryCache<K, V> implements LookupCache<K, V> {
     String ctx = QualifiedSubject.contextFor(tenant(), subject);
     BiPredicate<String, Integer> matchDeleted = matchDeleted(match);
 
-    Map<String, Map<Integer, Map<String, Integer>>> ctxGuids =
-        guidToSubjectVersions.getOrDefault(tenant(), Collections.emptyMap());
-    Map<Integer, Map<String, Integer>> guids = ctxGuids.getOrDefault(ctx, Collections.emptyMap());
-    Iterator<Map.Entry<Integer, Map<String, Integer>>> it = guids.entrySet().iterator();
-    while (it.hasNext()) {
-      Map<String, Integer> subjectVersions = it.next().getValue();
-      subjectVersions.entrySet().removeIf(e -> matchDeleted.test(e.getKey(), e.getValue()));
-      if (subjectVersions.isEmpty()) {
-        it.remove();
-      }
+    SchemaIdIndex guids = idIndex(ctx);
+    if (guids != null) {
+      guids.removeIf(matchDeleted);
+      pruneContexts(subject, guids, match);
     }
 
     // Delete from store later as the previous deletions rely on the store
@@ -374,6 +491,7 @@ public class InMemoryCache<K, V> implements LookupCache<K, V> {
         SchemaValue value = (SchemaValue) e.getValue();
         boolean isMatch = match.test(key.getSubject()) && value.isDeleted();
         if (isMatch) {
+          removeVersion(key);
           String schemaType = value.getSchemaType();
           if (schemaType == null) {
             schemaType = AvroSchema.TYPE;
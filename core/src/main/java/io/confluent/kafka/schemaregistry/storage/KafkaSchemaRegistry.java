@@ -17,11 +17,18 @@ package io.confluent.kafka.schemaregistry.storage;
 
 import static io.confluent.kafka.schemaregistry.client.rest.entities.Metadata.mergeMetadata;
 import static io.confluent.kafka.schemaregistry.client.rest.entities.RuleSet.mergeRuleSets;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_CANONICALIZE;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_COMPATIBILITY;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_FORWARD;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_LOCK;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_READER_SYNC;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_WRITE;
 import static io.confluent.kafka.schemaregistry.utils.QualifiedSubject.CONTEXT_DELIMITER;
 import static io.confluent.kafka.schemaregistry.utils.QualifiedSubject.CONTEXT_PREFIX;
 import static io.confluent.kafka.schemaregistry.utils.QualifiedSubject.CONTEXT_WILDCARD;
 import static io.confluent.kafka.schemaregistry.utils.QualifiedSubject.DEFAULT_CONTEXT;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.annotations.VisibleForTesting;
@@ -66,6 +73,7 @@ import io.confluent.kafka.schemaregistry.id.IdGenerator;
 import io.confluent.kafka.schemaregistry.id.IncrementalIdGenerator;
 import io.confluent.kafka.schemaregistry.json.JsonSchemaProvider;
 import io.confluent.kafka.schemaregistry.leaderelector.kafka.KafkaGroupLeaderElector;
+import io.confluent.kafka.schemaregistry.metrics.CacheStatsCounter;
 import io.confluent.kafka.schemaregistry.metrics.MetricsContainer;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchemaProvider;
 import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
@@ -84,9 +92,12 @@ import io.confluent.rest.NamedURI;
 import io.confluent.rest.RestConfig;
 import io.confluent.rest.exceptions.RestException;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -98,6 +109,10 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -131,6 +146,10 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
   private final List<SchemaRegistryResourceExtension> resourceExtensions;
   private final Map<String, Object> props;
   private final LoadingCache<RawSchema, ParsedSchema> schemaCache;
+  private final int schemaCacheWarmupVersions;
+  private final ExecutorService schemaCacheWarmupExecutor;
+  // The version and ID of a schema that is already registered, by raw fingerprint
+  private final Cache<RawSchemaFingerprint, Schema> schemaFingerprintCache;
   private final LookupCache<SchemaRegistryKey, SchemaRegistryValue> lookupCache;
   // visible for testing
   final KafkaStore<SchemaRegistryKey, SchemaRegistryValue> kafkaStore;
@@ -163,6 +182,9 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
   private final List<Consumer<Boolean>> leaderChangeListeners = new CopyOnWriteArrayList<>();
   private final AtomicBoolean initialized = new AtomicBoolean(false);
   private final Time time;
+  private final ForkJoinPool compatibilityCheckPool;
+  private final int compatibilityCheckParallelMinVersions;
+  private final CompatibilityResultCache compatibilityResults;
 
   public KafkaSchemaRegistry(SchemaRegistryConfig config,
                              Serializer<SchemaRegistryKey, SchemaRegistryValue> serializer)
@@ -202,6 +224,7 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     this.kafkaStoreMaxRetries =
         config.getInt(SchemaRegistryConfig.KAFKASTORE_WRITE_MAX_RETRIES_CONFIG);
     this.serializer = serializer;
+    this.serializer.configure(config.originals());
     this.defaultCompatibilityLevel = config.compatibilityType();
     this.defaultValidateFields =
         config.getBoolean(SchemaRegistryConfig.SCHEMA_VALIDATE_FIELDS_CONFIG);
@@ -210,14 +233,38 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     this.groupId = config.getString(SchemaRegistryConfig.SCHEMAREGISTRY_GROUP_ID_CONFIG);
     this.metricsContainer = new MetricsContainer(config, this.kafkaClusterId);
     this.providers = initProviders(config);
-    this.schemaCache = Caffeine.newBuilder()
-        .maximumSize(config.getInt(SchemaRegistryConfig.SCHEMA_CACHE_SIZE_CONFIG))
-        .expireAfterAccess(config.getInt(SchemaRegistryConfig.SCHEMA_CACHE_EXPIRY_SECS_CONFIG),
-                TimeUnit.SECONDS)
-        .build(s -> loadSchema(s.getSchema(), s.isNew(), s.isNormalize()));
+    this.schemaCache = schemaCache(config);
+    this.schemaCacheWarmupVersions =
+        config.getInt(SchemaRegistryConfig.SCHEMA_CACHE_WARMUP_VERSIONS_CONFIG);
+    this.schemaCacheWarmupExecutor = schemaCacheWarmupVersions != 0
+        ? Executors.newSingleThreadExecutor(r -> {
+          Thread thread = new Thread(r, "schema-cache-warmup");
+          thread.setDaemon(true);
+          return thread;
+        })
+        : null;
+    int schemaFingerprintCacheSize =
+        config.getInt(SchemaRegistryConfig.SCHEMA_FINGERPRINT_CACHE_SIZE_CONFIG);
+    this.schemaFingerprintCache = schemaFingerprintCacheSize > 0
+        ? Caffeine.newBuilder().maximumSize(schemaFingerprintCacheSize).build()
+        : null;
     this.searchDefaultLimit =
         config.getInt(SchemaRegistryConfig.SCHEMA_SEARCH_DEFAULT_LIMIT_CONFIG);
     this.searchMaxLimit = config.getInt(SchemaRegistryConfig.SCHEMA_SEARCH_MAX_LIMIT_CONFIG);
+    int compatibilityCheckParallelism =
+        config.getInt(SchemaRegistryConfig.SCHEMA_COMPATIBILITY_CHECK_PARALLELISM_CONFIG);
+    this.compatibilityCheckPool = compatibilityCheckParallelism > 1
+        ? new ForkJoinPool(compatibilityCheckParallelism)
+        : null;
+    this.compatibilityCheckParallelMinVersions = config.getInt(
+        SchemaRegistryConfig.SCHEMA_COMPATIBILITY_CHECK_PARALLEL_MIN_VERSIONS_CONFIG);
+    int compatibilityCacheSize =
+        config.getInt(SchemaRegistryConfig.SCHEMA_COMPATIBILITY_CACHE_SIZE_CONFIG);
+    this.compatibilityResults = compatibilityCacheSize > 0
+        ? new CompatibilityResultCache(compatibilityCacheSize,
+            metricsContainer.getCompatibilityCacheHits(),
+            metricsContainer.getCompatibilityCacheMisses())
+        : null;
     this.lookupCache = lookupCache();
     this.idGenerator = identityGenerator(config);
     this.kafkaStore = kafkaStore(config);
@@ -226,6 +273,32 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     this.time = config.getTime();
   }
 
+  private LoadingCache<RawSchema, ParsedSchema> schemaCache(SchemaRegistryConfig config) {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder()
+        .expireAfterAccess(config.getInt(SchemaRegistryConfig.SCHEMA_CACHE_EXPIRY_SECS_CONFIG),
+                TimeUnit.SECONDS)
+        .recordStats(() -> new CacheStatsCounter(metricsContainer.getSchemaCacheHits(),
+            metricsContainer.getSchemaCacheMisses(), metricsContainer.getSchemaCacheLoadTime()));
+    long maxWeight = config.getLong(SchemaRegistryConfig.SCHEMA_CACHE_MAX_WEIGHT_CONFIG);
+    LoadingCache<RawSchema, ParsedSchema> cache;
+    if (maxWeight > 0) {
+      cache = builder
+          .maximumWeight(maxWeight)
+          .<RawSchema, ParsedSchema>weigher((s, parsedSchema) -> schemaWeight(s.getSchema()))
+          .build(s -> loadSchema(s.getSchema(), s.isNew(), s.isNormalize()));
+    } else {
+      cache = builder
+          .maximumSize(config.getInt(SchemaRegistryConfig.SCHEMA_CACHE_SIZE_CONFIG))
+          .build(s -> loadSchema(s.getSchema(), s.isNew(), s.isNormalize()));
+    }
+    return cache;
+  }
+
+  private static int schemaWeight(Schema schema) {
+    int weight = schema.getSchema() != null ? schema.getSchema().length() : 0;
+    return Math.max(1, weight);
+  }
+
   @VisibleForTesting
   static SchemaRegistryIdentity getMyIdentity(NamedURI internalListener,
       boolean isEligibleForLeaderElector, SchemaRegistryConfig config) {
@@ -280,7 +353,7 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     return new KafkaStore<>(
             config,
             getSchemaUpdateHandler(config),
-            this.serializer, lookupCache, new NoopKey());
+            this.serializer, lookupCache, new NoopKey(), metricsContainer);
   }
 
   protected SchemaUpdateHandler getSchemaUpdateHandler(SchemaRegistryConfig config) {
@@ -413,6 +486,75 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     if (!delayLeaderElection) {
       electLeader();
     }
+    warmUpSchemaCache();
+  }
+
+  /**
+   * Parses the latest versions of each subject into the schema cache in the background,
+   * so that the first registrations after a restart or failover do not pay for parsing
+   * the full history.
+   */
+  private void warmUpSchemaCache() {
+    if (schemaCacheWarmupExecutor == null) {
+      return;
+    }
+    try {
+      schemaCacheWarmupExecutor.submit(this::doWarmUpSchemaCache);
+    } catch (RejectedExecutionException e) {
+      log.debug("Skipping schema cache warm-up during shutdown");
+    }
+  }
+
+  private void doWarmUpSchemaCache() {
+    long started = time.hiResClockMs();
+    int count = 0;
+    String currentSubject = null;
+    Deque<SchemaKey> latest = new ArrayDeque<>();
+    try (CloseableIterator<SchemaRegistryValue> iter = allVersions("", true)) {
+      while (iter.hasNext()) {
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        SchemaValue schemaValue = (SchemaValue) iter.next();
+        if (!schemaValue.getSubject().equals(currentSubject)) {
+          count += warmUpSchemas(latest);
+          currentSubject = schemaValue.getSubject();
+        }
+        if (schemaValue.isDeleted()) {
+          continue;
+        }
+        latest.addLast(new SchemaKey(schemaValue.getSubject(), schemaValue.getVersion()));
+        if (schemaCacheWarmupVersions < 0) {
+          count += warmUpSchemas(latest);
+        } else if (latest.size() > schemaCacheWarmupVersions) {
+          latest.removeFirst();
+        }
+      }
+      count += warmUpSchemas(latest);
+      log.info("Warmed up schema cache with {} schemas in {} ms",
+          count, time.hiResClockMs() - started);
+    } catch (Exception e) {
+      log.warn("Could not warm up schema cache", e);
+    }
+  }
+
+  /**
+   * Parses the given versions the same way as the compatibility checks of a registration do,
+   * so that both use the same schema cache keys.
+   */
+  private int warmUpSchemas(Deque<SchemaKey> schemaKeys) {
+    int count = 0;
+    while (!schemaKeys.isEmpty()) {
+      SchemaKey schemaKey = schemaKeys.removeFirst();
+      try {
+        new LazyParsedSchemaHolder(this, schemaKey).schema();
+        count++;
+      } catch (Exception e) {
+        log.debug("Could not parse schema for subject {} version {}",
+            schemaKey.getSubject(), schemaKey.getVersion(), e);
+      }
+    }
+    return count;
   }
 
   public void postInit() throws SchemaRegistryException {
@@ -516,6 +658,7 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
             throw new SchemaRegistryStoreException("Exception getting latest offset ", e);
           }
           idGenerator.init();
+          warmUpSchemaCache();
         }
       }
       metricsContainer.getLeaderNode().record(isLeader() ? 1 : 0);
@@ -598,7 +741,9 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
       checkRegisterMode(subject, schema);
 
       // Ensure cache is up-to-date before any potential writes
+      long started = time.nanoseconds();
       kafkaStore.waitUntilKafkaReaderReachesLastOffset(subject, kafkaStoreTimeoutMs);
+      recordRegisterStage(REGISTER_STAGE_READER_SYNC, started);
 
       // determine the latest version of the schema in the subject
       List<SchemaKey> allVersions = getAllSchemaKeys(subject);
@@ -634,7 +779,9 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
       }
 
       int schemaId = schema.getId();
+      started = time.nanoseconds();
       ParsedSchema parsedSchema = canonicalizeSchema(schema, config, schemaId < 0, normalize);
+      recordRegisterStage(REGISTER_STAGE_CANONICALIZE, started);
 
       if (parsedSchema != null) {
         // see if the schema to be registered already exists
@@ -676,13 +823,17 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
       if (mode != Mode.IMPORT) {
         // sort undeleted in ascending
         Collections.reverse(undeletedVersions);
+        started = time.nanoseconds();
         compatibilityErrorLogs.addAll(isCompatibleWithPrevious(config,
             parsedSchema,
+            normalize,
             undeletedVersions));
+        recordRegisterStage(REGISTER_STAGE_COMPATIBILITY, started);
         isCompatible = compatibilityErrorLogs.isEmpty();
       }
 
       if (isCompatible) {
+        started = time.nanoseconds();
         // save the context key
         QualifiedSubject qs = QualifiedSubject.create(tenant(), subject);
         if (qs != null && !DEFAULT_CONTEXT.equals(qs.getContext())) {
@@ -713,8 +864,9 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
           int retries = 0;
           while (retries++ < kafkaStoreMaxRetries) {
             int newId = idGenerator.id(schemaValue);
-            // Verify id is not already in use
-            if (lookupCache.schemaKeyById(newId, qctx) == null) {
+            // Verify id is not already in use, unless the generator rules it out
+            if (idGenerator.isUnused(schemaValue, newId)
+                || lookupCache.schemaKeyById(newId, qctx) == null) {
               schema.setId(newId);
               schemaValue.setId(newId);
               if (retries > 1) {
@@ -737,6 +889,7 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
             kafkaStore.put(key, null);
           }
         }
+        recordRegisterStage(REGISTER_STAGE_WRITE, started);
 
         return modifiedSchema
             ? schema
@@ -754,6 +907,11 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     }
   }
 
+  private void recordRegisterStage(String stage, long startedNanos) {
+    metricsContainer.getRegisterStageLatency(stage)
+        .record((time.nanoseconds() - startedNanos) / 1_000_000.0);
+  }
+
   private void checkRegisterMode(
       String subject, Schema schema
   ) throws OperationNotPermittedException, SchemaRegistryStoreException {
@@ -859,7 +1017,18 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
       throws SchemaRegistryException {
     Config config = getConfigInScope(subject);
     if (!config.hasDefaultsOrOverrides()) {
-      Schema existingSchema = lookUpSchemaUnderSubject(subject, schema, normalize, false);
+      // Try the raw fingerprint first, to avoid parsing schemas that are already registered
+      RawSchemaFingerprint fingerprint = schemaFingerprintCache != null
+          ? new RawSchemaFingerprint(tenant(), subject, schema, normalize)
+          : null;
+      Schema existingSchema = lookUpSchemaUnderSubjectByFingerprint(subject, fingerprint);
+      if (existingSchema == null) {
+        existingSchema = lookUpSchemaUnderSubject(subject, schema, normalize, false);
+        if (existingSchema != null && fingerprint != null && existingSchema.getVersion() != null) {
+          schemaFingerprintCache.put(fingerprint,
+              new Schema(subject, existingSchema.getVersion(), existingSchema.getId()));
+        }
+      }
       if (existingSchema != null) {
         if (schema.getId() == null
             || schema.getId() < 0
@@ -870,14 +1039,20 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
       }
     }
 
+    long started = time.nanoseconds();
     kafkaStore.lockFor(subject).lock();
+    recordRegisterStage(REGISTER_STAGE_LOCK, started);
     try {
       if (isLeader()) {
         return register(subject, schema, normalize);
       } else {
         // forward registering request to the leader
         if (leaderIdentity != null) {
-          return forwardRegisterRequestToLeader(subject, schema, normalize, headerProperties);
+          started = time.nanoseconds();
+          Schema forwarded =
+              forwardRegisterRequestToLeader(subject, schema, normalize, headerProperties);
+          recordRegisterStage(REGISTER_STAGE_FORWARD, started);
+          return forwarded;
         } else {
           throw new UnknownLeaderException("Register schema request failed since leader is "
                                            + "unknown");
@@ -888,6 +1063,33 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     }
   }
 
+  private Schema lookUpSchemaUnderSubjectByFingerprint(
+      String subject, RawSchemaFingerprint fingerprint) throws SchemaRegistryException {
+    if (fingerprint == null) {
+      return null;
+    }
+    Schema cached = schemaFingerprintCache.getIfPresent(fingerprint);
+    if (cached == null) {
+      return null;
+    }
+    try {
+      // The stored value is immutable unless it is deleted, but after the subject is
+      // permanently deleted, its versions may be reused by other schemas
+      SchemaValue schemaValue =
+          (SchemaValue) kafkaStore.get(new SchemaKey(subject, cached.getVersion()));
+      if (schemaValue == null
+          || schemaValue.isDeleted()
+          || !cached.getId().equals(schemaValue.getId())) {
+        schemaFingerprintCache.invalidate(fingerprint);
+        return null;
+      }
+      return new Schema(subject, schemaValue.getVersion(), schemaValue.getId());
+    } catch (StoreException e) {
+      throw new SchemaRegistryStoreException(
+          "Error from the backend Kafka store", e);
+    }
+  }
+
   public Schema modifySchemaTags(String subject, Schema schema, TagSchemaRequest request)
       throws SchemaRegistryException {
     ParsedSchema parsedSchema = parseSchema(schema);
@@ -1126,16 +1328,32 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     if (isQualifiedSubject) {
       return null;
     }
+    Collection<String> contexts;
+    try {
+      contexts = lookupCache.contextsBySubject(subject);
+    } catch (StoreException e) {
+      throw new SchemaRegistryStoreException("Error from the backend Kafka store", e);
+    }
+    if (contexts != null) {
+      // Only try the contexts that have the subject
+      for (String context : contexts) {
+        QualifiedSubject qualSub = new QualifiedSubject(qs.getTenant(), context, qs.getSubject());
+        matchingSchema = lookUpSchemaUnderQualifiedSubject(
+            qualSub, schema, normalize, lookupDeletedSchema);
+        if (matchingSchema != null) {
+          return matchingSchema;
+        }
+      }
+      return null;
+    }
     // Try qualifying the subject with each known context
     try (CloseableIterator<SchemaRegistryValue> iter = allContexts()) {
       while (iter.hasNext()) {
         ContextValue v = (ContextValue) iter.next();
         QualifiedSubject qualSub =
             new QualifiedSubject(v.getTenant(), v.getContext(), qs.getSubject());
-        Schema qualSchema = schema.copy();
-        qualSchema.setSubject(qualSub.toQualifiedSubject());
-        matchingSchema = lookUpSchemaUnderSubject(
-            qualSub.toQualifiedSubject(), qualSchema, normalize, lookupDeletedSchema);
+        matchingSchema = lookUpSchemaUnderQualifiedSubject(
+            qualSub, schema, normalize, lookupDeletedSchema);
         if (matchingSchema != null) {
           return matchingSchema;
         }
@@ -1144,6 +1362,15 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     return null;
   }
 
+  private Schema lookUpSchemaUnderQualifiedSubject(
+      QualifiedSubject qualSub, Schema schema, boolean normalize, boolean lookupDeletedSchema)
+      throws SchemaRegistryException {
+    Schema qualSchema = schema.copy();
+    qualSchema.setSubject(qualSub.toQualifiedSubject());
+    return lookUpSchemaUnderSubject(
+        qualSub.toQualifiedSubject(), qualSchema, normalize, lookupDeletedSchema);
+  }
+
   /**
    * Checks if given schema was ever registered under a subject. If found, it returns the version of
    * the schema under the subject. If not, returns -1
@@ -1599,17 +1826,29 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
         || subjectVersionKey != null) {
       return subjectVersionKey;
     }
-    // Try qualifying the subject with each known context
-    try (CloseableIterator<SchemaRegistryValue> iter = allContexts()) {
-      while (iter.hasNext()) {
-        ContextValue v = (ContextValue) iter.next();
-        QualifiedSubject qualSub =
-            new QualifiedSubject(v.getTenant(), v.getContext(), qs.getSubject());
+    Collection<String> contexts = lookupCache.contextsById(id, subject);
+    if (contexts != null) {
+      // Only try the contexts in which the subject has the id
+      for (String context : contexts) {
+        QualifiedSubject qualSub = new QualifiedSubject(qs.getTenant(), context, qs.getSubject());
         SchemaKey key = lookupCache.schemaKeyById(id, qualSub.toQualifiedSubject());
         if (key != null) {
           return key;
         }
       }
+    } else {
+      // Try qualifying the subject with each known context
+      try (CloseableIterator<SchemaRegistryValue> iter = allContexts()) {
+        while (iter.hasNext()) {
+          ContextValue v = (ContextValue) iter.next();
+          QualifiedSubject qualSub =
+              new QualifiedSubject(v.getTenant(), v.getContext(), qs.getSubject());
+          SchemaKey key = lookupCache.schemaKeyById(id, qualSub.toQualifiedSubject());
+          if (key != null) {
+            return key;
+          }
+        }
+      }
     }
     // Could not find the id in subjects in other contexts,
     // just return the id in the given context if found
@@ -1765,6 +2004,10 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
   @Override
   public Iterator<SchemaKey> getAllVersions(String subject, LookupFilter filter)
       throws SchemaRegistryException {
+    List<SchemaKey> indexed = indexedSchemaKeys(subject, filter);
+    if (indexed != null) {
+      return indexed.iterator();
+    }
     try (CloseableIterator<SchemaRegistryValue> allVersions = allVersions(subject, false)) {
       return sortSchemaKeysByVersion(allVersions, filter).iterator();
     }
@@ -1784,13 +2027,56 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
 
   private List<SchemaKey> getAllSchemaKeys(String subject)
       throws SchemaRegistryException {
+    List<SchemaKey> indexed = indexedSchemaKeys(subject, LookupFilter.INCLUDE_DELETED);
+    if (indexed != null) {
+      return indexed;
+    }
     try (CloseableIterator<SchemaRegistryValue> allVersions = allVersions(subject, false)) {
       return sortSchemaKeysByVersion(allVersions, LookupFilter.INCLUDE_DELETED);
     }
   }
 
+  /**
+   * Returns the sorted keys of the versions of the subject from the lookup cache, or null if
+   * the cache does not index the versions of the subject.
+   */
+  private List<SchemaKey> indexedSchemaKeys(String subject, LookupFilter filter)
+      throws SchemaRegistryException {
+    try {
+      List<Integer> versions = lookupCache.versions(subject, filter);
+      if (versions == null) {
+        return null;
+      }
+      List<SchemaKey> schemaKeys = new ArrayList<>(versions.size());
+      for (Integer version : versions) {
+        schemaKeys.add(new SchemaKey(subject, version));
+      }
+      return schemaKeys;
+    } catch (StoreException e) {
+      throw new SchemaRegistryStoreException(
+          "Error from the backend Kafka store", e);
+    }
+  }
+
   @Override
   public Schema getLatestVersion(String subject) throws SchemaRegistryException {
+    Integer latestVersion;
+    try {
+      latestVersion = lookupCache.latestVersion(subject, LookupFilter.DEFAULT);
+    } catch (StoreException e) {
+      throw new SchemaRegistryStoreException(
+          "Error from the backend Kafka store", e);
+    }
+    if (latestVersion != null) {
+      if (latestVersion < 0) {
+        return null;
+      }
+      SchemaValue schemaValue = getSchemaValue(new SchemaKey(subject, latestVersion));
+      // The version may have been deleted since it was looked up
+      if (schemaValue != null && !schemaValue.isDeleted()) {
+        return schemaValue.toSchemaEntity();
+      }
+    }
     try (CloseableIterator<SchemaRegistryValue> allVersions = allVersions(subject, false)) {
       return getLatestVersionFromSubjectSchemas(allVersions);
     }
@@ -1890,6 +2176,12 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     if (leaderRestService != null) {
       leaderRestService.close();
     }
+    if (compatibilityCheckPool != null) {
+      compatibilityCheckPool.shutdownNow();
+    }
+    if (schemaCacheWarmupExecutor != null) {
+      schemaCacheWarmupExecutor.shutdownNow();
+    }
   }
 
   public void updateConfig(String subject, Config config)
@@ -2035,12 +2327,14 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
       log.error("Empty schema");
       throw new InvalidSchemaException("Empty schema");
     }
-    return isCompatibleWithPrevious(config, parsedSchema, prevParsedSchemas);
+    return isCompatibleWithPrevious(config, parsedSchema, normalize, prevParsedSchemas);
   }
 
   private List<String> isCompatibleWithPrevious(Config config,
                                                 ParsedSchema parsedSchema,
-                                                List<ParsedSchemaHolder> previousSchemas) {
+                                                boolean normalize,
+                                                List<ParsedSchemaHolder> previousSchemas)
+      throws SchemaRegistryException {
     List<String> errorMessages = new ArrayList<>();
     ParsedSchemaHolder previousSchemaHolder = !previousSchemas.isEmpty()
                                                   ? previousSchemas.get(previousSchemas.size() - 1)
@@ -2059,7 +2353,13 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
               getCompatibilityGroupValue(s.schema(), compatibilityGroup)))
           .collect(Collectors.toList());
     }
-    errorMessages.addAll(parsedSchema.isCompatible(compatibility, previousSchemas));
+    ExecutorService executor = compatibilityCheckExecutor(compatibility, previousSchemas);
+    if (compatibilityResults != null && CompatibilityResultCache.isCacheable(previousSchemas)) {
+      errorMessages.addAll(compatibilityResults.isCompatible(
+          parsedSchema, normalize, compatibility, previousSchemas, executor));
+    } else {
+      errorMessages.addAll(parsedSchema.isCompatible(compatibility, previousSchemas, executor));
+    }
     if (!errorMessages.isEmpty()) {
       try {
         errorMessages.add(String.format("{validateFields: '%b', compatibility: '%s'}",
@@ -2073,6 +2373,29 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     return errorMessages;
   }
 
+  private ExecutorService compatibilityCheckExecutor(CompatibilityLevel compatibility,
+                                                     List<ParsedSchemaHolder> previousSchemas) {
+    // Only transitive levels check more than one previous version; each task resolves the
+    // stored value of its version, so that the values stay softly referenced
+    if (compatibilityCheckPool == null
+        || !isTransitive(compatibility)
+        || previousSchemas.size() < compatibilityCheckParallelMinVersions) {
+      return null;
+    }
+    return compatibilityCheckPool;
+  }
+
+  private static boolean isTransitive(CompatibilityLevel compatibility) {
+    switch (compatibility) {
+      case BACKWARD_TRANSITIVE:
+      case FORWARD_TRANSITIVE:
+      case FULL_TRANSITIVE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   private List<String> validateReservedFields(ParsedSchema currentSchema,
                                               ParsedSchemaHolder previousSchema) {
     List<String> errorMessages = new ArrayList<>();
@@ -2391,6 +2714,46 @@ public class KafkaSchemaRegistry implements SchemaRegistry, LeaderAwareSchemaReg
     }
   }
 
+  /**
+   * A fingerprint of a schema as submitted, before it is parsed or canonicalized.
+   */
+  private static class RawSchemaFingerprint {
+    private final String tenant;
+    private final String subject;
+    private final String schemaType;
+    private final MD5 md5;
+    private final boolean normalize;
+
+    public RawSchemaFingerprint(String tenant, String subject, Schema schema, boolean normalize) {
+      this.tenant = tenant;
+      this.subject = subject;
+      this.schemaType = schema.getSchemaType();
+      this.md5 = MD5.ofSchema(schema);
+      this.normalize = normalize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      RawSchemaFingerprint that = (RawSchemaFingerprint) o;
+      return normalize == that.normalize
+          && Objects.equals(tenant, that.tenant)
+          && Objects.equals(subject, that.subject)
+          && Objects.equals(schemaType, that.schemaType)
+          && Objects.equals(md5, that.md5);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(tenant, subject, schemaType, md5, normalize);
+    }
+  }
+
   public static class SchemeAndPort {
     public int port;
     public String scheme;
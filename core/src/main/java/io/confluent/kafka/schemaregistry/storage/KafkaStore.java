@@ -48,6 +48,8 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import io.confluent.kafka.schemaregistry.exceptions.SchemaRegistryException;
+import io.confluent.kafka.schemaregistry.metrics.MetricsContainer;
+import io.confluent.kafka.schemaregistry.metrics.SchemaRegistryMetric;
 import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
 import io.confluent.kafka.schemaregistry.storage.exceptions.SerializationException;
 import io.confluent.kafka.schemaregistry.storage.exceptions.StoreException;
@@ -78,6 +80,7 @@ public class KafkaStore<K, V> implements Store<K, V> {
   private final K noopKey;
   private volatile long lastWrittenOffset = -1L;
   private final SchemaRegistryConfig config;
+  private final MetricsContainer metricsContainer;
   private final Lock leaderLock = new ReentrantLock();
   private final Lock lock = new ReentrantLock();
 
@@ -86,10 +89,20 @@ public class KafkaStore<K, V> implements Store<K, V> {
                     Serializer<K, V> serializer,
                     Store<K, V> localStore,
                     K noopKey) throws SchemaRegistryException {
+    this(config, storeUpdateHandler, serializer, localStore, noopKey, null);
+  }
+
+  public KafkaStore(SchemaRegistryConfig config,
+                    StoreUpdateHandler<K, V> storeUpdateHandler,
+                    Serializer<K, V> serializer,
+                    Store<K, V> localStore,
+                    K noopKey,
+                    MetricsContainer metricsContainer) throws SchemaRegistryException {
     this.topic = config.getString(SchemaRegistryConfig.KAFKASTORE_TOPIC_CONFIG);
     this.desiredReplicationFactor =
         config.getInt(SchemaRegistryConfig.KAFKASTORE_TOPIC_REPLICATION_FACTOR_CONFIG);
     this.config = config;
+    this.metricsContainer = metricsContainer;
     int port = KafkaSchemaRegistry.getInterInstanceListener(config.getListeners(),
         config.interInstanceListenerName(),
         config.interInstanceProtocol()).getUri().getPort();
@@ -139,7 +152,8 @@ public class KafkaStore<K, V> implements Store<K, V> {
     this.kafkaTopicReader =
         new KafkaStoreReaderThread<>(this.bootstrapBrokers, topic, groupId,
                                      this.storeUpdateHandler, serializer, this.localStore,
-                                     this.producer, this.noopKey, this.initialized, this.config);
+                                     this.producer, this.noopKey, this.initialized, this.config,
+                                     this.metricsContainer);
     this.kafkaTopicReader.start();
 
     try {
@@ -348,15 +362,23 @@ public class KafkaStore<K, V> implements Store<K, V> {
     boolean knownSuccessfulWrite = false;
     try {
       log.trace("Sending record to KafkaStore topic: {}", producerRecord);
+      long startNs = System.nanoTime();
       Future<RecordMetadata> ack = producer.send(producerRecord);
       RecordMetadata recordMetadata = ack.get(timeout, TimeUnit.MILLISECONDS);
+      recordLatency(metricsContainer != null
+          ? metricsContainer.getKafkaStoreProduceLatency()
+          : null, startNs);
 
       log.trace("Waiting for the local store to catch up to offset {}", recordMetadata.offset());
       this.lastWrittenOffset = recordMetadata.offset();
       if (key instanceof SubjectKey) {
         setLastOffset(((SubjectKey) key).getSubject(), recordMetadata.offset());
       }
+      startNs = System.nanoTime();
       waitUntilKafkaReaderReachesOffset(recordMetadata.offset(), timeout);
+      recordLatency(metricsContainer != null
+          ? metricsContainer.getKafkaStoreReaderWaitLatency()
+          : null, startNs);
       knownSuccessfulWrite = true;
     } catch (InterruptedException e) {
       throw new StoreException("Put operation interrupted while waiting for an ack from Kafka", e);
@@ -379,6 +401,12 @@ public class KafkaStore<K, V> implements Store<K, V> {
     return oldValue;
   }
 
+  private static void recordLatency(SchemaRegistryMetric metric, long startNs) {
+    if (metric != null) {
+      metric.record((System.nanoTime() - startNs) / 1_000_000.0);
+    }
+  }
+
   @Override
   public CloseableIterator<V> getAll(K key1, K key2) throws StoreException {
     assertInitialized();
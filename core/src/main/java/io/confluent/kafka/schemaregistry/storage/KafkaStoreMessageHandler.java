@@ -48,6 +48,27 @@ public class KafkaStoreMessageHandler implements SchemaUpdateHandler {
         SchemaRegistryConfig.SCHEMA_CANONICALIZE_ON_CONSUME_CONFIG);
   }
 
+  /**
+   * Canonicalizes the schema, if configured for its type, ahead of {@link #validateUpdate}.
+   *
+   * @param key   Key associated with the data
+   * @param value Data to be written to the store
+   */
+  @Override
+  public void prepareUpdate(SchemaRegistryKey key, SchemaRegistryValue value) {
+    if (key.getKeyType() != SchemaRegistryKeyType.SCHEMA) {
+      return;
+    }
+    SchemaValue schemaObj = (SchemaValue) value;
+    String schemaType = schemaObj.getSchemaType();
+    if (canonicalizeSchemaTypes.contains(schemaType)) {
+      SchemaProvider schemaProvider = schemaRegistry.schemaProvider(schemaType);
+      if (schemaProvider != null) {
+        canonicalize(schemaProvider, schemaObj);
+      }
+    }
+  }
+
   /**
    * Invoked before every new K,V pair written to the store
    *
@@ -67,13 +88,6 @@ public class KafkaStoreMessageHandler implements SchemaUpdateHandler {
 
     if (key.getKeyType() == SchemaRegistryKeyType.SCHEMA) {
       SchemaValue schemaObj = (SchemaValue) value;
-      String schemaType = schemaObj.getSchemaType();
-      if (canonicalizeSchemaTypes.contains(schemaType)) {
-        SchemaProvider schemaProvider = schemaRegistry.schemaProvider(schemaType);
-        if (schemaProvider != null) {
-          canonicalize(schemaProvider, schemaObj);
-        }
-      }
       try {
         String qctx = QualifiedSubject.qualifiedContextFor(
             schemaRegistry.tenant(), schemaObj.getSubject());
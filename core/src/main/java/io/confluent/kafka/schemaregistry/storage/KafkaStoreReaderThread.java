@@ -15,14 +15,21 @@
 
 package io.confluent.kafka.schemaregistry.storage;
 
+import io.confluent.kafka.schemaregistry.metrics.MetricsContainer;
+import io.confluent.kafka.schemaregistry.metrics.SchemaRegistryMetric;
 import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
 
 import io.confluent.kafka.schemaregistry.storage.StoreUpdateHandler.ValidationStatus;
 import io.confluent.kafka.schemaregistry.utils.ShutdownableThread;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -81,6 +88,12 @@ public class KafkaStoreReaderThread<K, V> extends ShutdownableThread {
   // messages with this key
   private final K noopKey;
   private final AtomicBoolean initialized;
+  private final boolean batchApply;
+  private final SchemaRegistryMetric applyLatency;
+  private final SchemaRegistryMetric applyRate;
+  private final int bootstrapParallelism;
+  // Only used until the store is initialized
+  private ExecutorService bootstrapExecutor;
 
   private Properties consumerProps = new Properties();
 
@@ -94,6 +107,21 @@ public class KafkaStoreReaderThread<K, V> extends ShutdownableThread {
                                 K noopKey,
                                 AtomicBoolean initialized,
                                 SchemaRegistryConfig config) {
+    this(bootstrapBrokers, topic, groupId, storeUpdateHandler, serializer, localStore,
+        producer, noopKey, initialized, config, null);
+  }
+
+  public KafkaStoreReaderThread(String bootstrapBrokers,
+                                String topic,
+                                String groupId,
+                                StoreUpdateHandler<K, V> storeUpdateHandler,
+                                Serializer<K, V> serializer,
+                                Store<K, V> localStore,
+                                Producer<byte[], byte[]> producer,
+                                K noopKey,
+                                AtomicBoolean initialized,
+                                SchemaRegistryConfig config,
+                                MetricsContainer metricsContainer) {
     super("kafka-store-reader-thread-" + topic, false);  // this thread is not interruptible
     offsetUpdateLock = new ReentrantLock();
     offsetReachedThreshold = offsetUpdateLock.newCondition();
@@ -105,6 +133,25 @@ public class KafkaStoreReaderThread<K, V> extends ShutdownableThread {
     this.producer = producer;
     this.noopKey = noopKey;
     this.initialized = initialized;
+    this.batchApply = config.getBoolean(SchemaRegistryConfig.KAFKASTORE_BATCH_APPLY_ENABLE_CONFIG);
+    this.applyLatency = metricsContainer != null
+        ? metricsContainer.getKafkaStoreApplyLatency()
+        : null;
+    this.applyRate = metricsContainer != null
+        ? metricsContainer.getKafkaStoreApplyRate()
+        : null;
+    int parallelism =
+        config.getInt(SchemaRegistryConfig.KAFKASTORE_BOOTSTRAP_PARALLELISM_CONFIG);
+    this.bootstrapParallelism = parallelism > 0
+        ? parallelism
+        : Runtime.getRuntime().availableProcessors();
+    if (bootstrapParallelism > 1) {
+      this.bootstrapExecutor = Executors.newFixedThreadPool(bootstrapParallelism, r -> {
+        Thread thread = new Thread(r, "kafka-store-bootstrap-" + topic);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
 
     if (localStore.isPersistent()) {
       try {
@@ -196,91 +243,19 @@ public class KafkaStoreReaderThread<K, V> extends ShutdownableThread {
     try {
       ConsumerRecords<byte[], byte[]> records = consumer.poll(Long.MAX_VALUE);
       storeUpdateHandler.startBatch(records.count());
-      for (ConsumerRecord<byte[], byte[]> record : records) {
-        K messageKey = null;
-        try {
-          messageKey = this.serializer.deserializeKey(record.key());
-        } catch (SerializationException e) {
-          log.error("Failed to deserialize the schema or config key at offset "
-                  + record.offset(), e);
-          continue;
-        }
-
-        if (messageKey.equals(noopKey)) {
-          // If it's a noop, update local offset counter and do nothing else
-          try {
-            offsetUpdateLock.lock();
-            offsetInSchemasTopic = record.offset();
-            offsetReachedThreshold.signalAll();
-          } finally {
-            offsetUpdateLock.unlock();
-          }
-        } else {
-          V message = null;
-          try {
-            message =
-                record.value() == null ? null
-                                       : serializer.deserializeValue(messageKey, record.value());
-          } catch (SerializationException e) {
-            log.error("Failed to deserialize a schema or config update at offset "
-                    + record.offset(), e);
-            continue;
-          }
-          try {
-            log.trace("Applying update ("
-                      + messageKey
-                      + ","
-                      + message
-                      + ") to the local store");
-            TopicPartition tp = new TopicPartition(record.topic(), record.partition());
-            long offset = record.offset();
-            long timestamp = record.timestamp();
-            ValidationStatus status = this.storeUpdateHandler.validateUpdate(
-                    messageKey, message, tp, offset, timestamp);
-            V oldMessage;
-            switch (status) {
-              case SUCCESS:
-                if (message == null) {
-                  oldMessage = localStore.delete(messageKey);
-                } else {
-                  oldMessage = localStore.put(messageKey, message);
-                }
-                this.storeUpdateHandler.handleUpdate(
-                        messageKey, message, oldMessage, tp, offset, timestamp);
-                break;
-              case ROLLBACK_FAILURE:
-                oldMessage = localStore.get(messageKey);
-                try {
-                  ProducerRecord<byte[], byte[]> producerRecord = new ProducerRecord<>(
-                      topic,
-                      record.key(),
-                      oldMessage == null ? null : serializer.serializeValue(oldMessage)
-                  );
-                  producer.send(producerRecord);
-                  log.warn("Rollback invalid update to key {}", messageKey);
-                } catch (KafkaException | SerializationException ke) {
-                  log.error("Failed to recover from invalid update to key {}", messageKey, ke);
-                }
-                break;
-              case IGNORE_FAILURE:
-              default:
-                log.warn("Ignore invalid update to key {}", messageKey);
-                break;
-            }
-            try {
-              offsetUpdateLock.lock();
-              offsetInSchemasTopic = record.offset();
-              offsetReachedThreshold.signalAll();
-            } finally {
-              offsetUpdateLock.unlock();
-            }
-          } catch (Exception se) {
-            log.error("Failed to add record from the Kafka topic"
-                      + topic
-                      + " the local store", se);
+      long startNs = System.nanoTime();
+      ExecutorService executor = bootstrapExecutor();
+      if (batchApply || executor != null) {
+        applyBatch(records, executor);
+      } else {
+        for (ConsumerRecord<byte[], byte[]> record : records) {
+          DeserializedRecord<K, V> deserialized = deserialize(record);
+          if (deserialized != null && apply(deserialized)) {
+            updateOffset(record.offset());
           }
         }
       }
+      recordApplyMetrics(records.count(), startNs);
       if (localStore.isPersistent() && initialized.get()) {
         try {
           localStore.flush();
@@ -303,6 +278,203 @@ public class KafkaStoreReaderThread<K, V> extends ShutdownableThread {
     }
   }
 
+  /**
+   * Deserializes all records of a poll up front, applies them in order, and then publishes
+   * the last applied offset once, so that writers waiting on an offset are woken once per
+   * poll rather than once per record.
+   *
+   * @param executor an optional executor used to deserialize the records concurrently
+   */
+  private void applyBatch(ConsumerRecords<byte[], byte[]> records, ExecutorService executor) {
+    List<DeserializedRecord<K, V>> batch = executor != null && records.count() > 1
+        ? deserialize(records, executor)
+        : deserialize(records);
+    long lastOffset = -1L;
+    for (DeserializedRecord<K, V> deserialized : batch) {
+      if (apply(deserialized)) {
+        lastOffset = deserialized.record.offset();
+      }
+    }
+    if (lastOffset >= 0) {
+      updateOffset(lastOffset);
+    }
+  }
+
+  private List<DeserializedRecord<K, V>> deserialize(
+      Iterable<ConsumerRecord<byte[], byte[]>> records) {
+    List<DeserializedRecord<K, V>> batch = new ArrayList<>();
+    for (ConsumerRecord<byte[], byte[]> record : records) {
+      DeserializedRecord<K, V> deserialized = deserialize(record);
+      if (deserialized != null) {
+        batch.add(deserialized);
+      }
+    }
+    return batch;
+  }
+
+  /**
+   * Deserializes and prepares contiguous chunks of the records on the executor, and
+   * returns the results in offset order.
+   */
+  private List<DeserializedRecord<K, V>> deserialize(
+      ConsumerRecords<byte[], byte[]> records, ExecutorService executor) {
+    List<ConsumerRecord<byte[], byte[]>> list = new ArrayList<>(records.count());
+    records.forEach(list::add);
+    int chunkSize = (list.size() + bootstrapParallelism - 1) / bootstrapParallelism;
+    List<Future<List<DeserializedRecord<K, V>>>> futures = new ArrayList<>();
+    for (int from = 0; from < list.size(); from += chunkSize) {
+      List<ConsumerRecord<byte[], byte[]>> chunk =
+          list.subList(from, Math.min(from + chunkSize, list.size()));
+      futures.add(executor.submit(() -> deserialize(chunk)));
+    }
+    List<DeserializedRecord<K, V>> batch = new ArrayList<>(list.size());
+    try {
+      for (Future<List<DeserializedRecord<K, V>>> future : futures) {
+        batch.addAll(future.get());
+      }
+      return batch;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while deserializing records", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to deserialize records", e.getCause());
+    } finally {
+      for (Future<List<DeserializedRecord<K, V>>> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private DeserializedRecord<K, V> deserialize(ConsumerRecord<byte[], byte[]> record) {
+    K messageKey;
+    try {
+      messageKey = this.serializer.deserializeKey(record.key());
+    } catch (SerializationException e) {
+      log.error("Failed to deserialize the schema or config key at offset "
+              + record.offset(), e);
+      return null;
+    }
+    if (messageKey.equals(noopKey)) {
+      return new DeserializedRecord<>(record, messageKey, null, true);
+    }
+    V message;
+    try {
+      message =
+          record.value() == null ? null
+                                 : serializer.deserializeValue(messageKey, record.value());
+    } catch (SerializationException e) {
+      log.error("Failed to deserialize a schema or config update at offset "
+              + record.offset(), e);
+      return null;
+    }
+    if (message != null) {
+      try {
+        storeUpdateHandler.prepareUpdate(messageKey, message);
+      } catch (Exception e) {
+        log.error("Failed to add record from the Kafka topic"
+                  + topic
+                  + " the local store", e);
+        return null;
+      }
+    }
+    return new DeserializedRecord<>(record, messageKey, message, false);
+  }
+
+  /**
+   * Applies a single update to the local store.
+   *
+   * @return whether the offset of the record may be published as read
+   */
+  private boolean apply(DeserializedRecord<K, V> deserialized) {
+    if (deserialized.noop) {
+      // If it's a noop, only the local offset counter needs to be updated
+      return true;
+    }
+    ConsumerRecord<byte[], byte[]> record = deserialized.record;
+    K messageKey = deserialized.key;
+    V message = deserialized.value;
+    try {
+      log.trace("Applying update ("
+                + messageKey
+                + ","
+                + message
+                + ") to the local store");
+      // The schemas topic has a single partition
+      TopicPartition tp = topicPartition;
+      long offset = record.offset();
+      long timestamp = record.timestamp();
+      ValidationStatus status = this.storeUpdateHandler.validateUpdate(
+              messageKey, message, tp, offset, timestamp);
+      V oldMessage;
+      switch (status) {
+        case SUCCESS:
+          if (message == null) {
+            oldMessage = localStore.delete(messageKey);
+          } else {
+            oldMessage = localStore.put(messageKey, message);
+          }
+          this.storeUpdateHandler.handleUpdate(
+                  messageKey, message, oldMessage, tp, offset, timestamp);
+          break;
+        case ROLLBACK_FAILURE:
+          oldMessage = localStore.get(messageKey);
+          try {
+            ProducerRecord<byte[], byte[]> producerRecord = new ProducerRecord<>(
+                topic,
+                record.key(),
+                oldMessage == null ? null : serializer.serializeValue(oldMessage)
+            );
+            producer.send(producerRecord);
+            log.warn("Rollback invalid update to key {}", messageKey);
+          } catch (KafkaException | SerializationException ke) {
+            log.error("Failed to recover from invalid update to key {}", messageKey, ke);
+          }
+          break;
+        case IGNORE_FAILURE:
+        default:
+          log.warn("Ignore invalid update to key {}", messageKey);
+          break;
+      }
+      return true;
+    } catch (Exception se) {
+      log.error("Failed to add record from the Kafka topic"
+                + topic
+                + " the local store", se);
+      return false;
+    }
+  }
+
+  private ExecutorService bootstrapExecutor() {
+    if (bootstrapExecutor != null && initialized.get()) {
+      // Once bootstrapped, updates arrive in small batches
+      bootstrapExecutor.shutdown();
+      bootstrapExecutor = null;
+    }
+    return bootstrapExecutor;
+  }
+
+  private void updateOffset(long offset) {
+    try {
+      offsetUpdateLock.lock();
+      offsetInSchemasTopic = offset;
+      offsetReachedThreshold.signalAll();
+    } finally {
+      offsetUpdateLock.unlock();
+    }
+  }
+
+  private void recordApplyMetrics(int count, long startNs) {
+    if (count == 0) {
+      return;
+    }
+    if (applyLatency != null) {
+      applyLatency.record((System.nanoTime() - startNs) / 1_000_000.0);
+    }
+    if (applyRate != null) {
+      applyRate.record(count);
+    }
+  }
+
   private void checkpointOffsets(Map<TopicPartition, Long> offsets) {
     Map<TopicPartition, Long> newOffsets = offsets != null
         ? offsets
@@ -331,6 +503,9 @@ public class KafkaStoreReaderThread<K, V> extends ShutdownableThread {
         checkpointFile.close();
       }
       super.awaitShutdown();
+      if (bootstrapExecutor != null) {
+        bootstrapExecutor.shutdownNow();
+      }
       if (consumer != null) {
         consumer.close();
       }
@@ -374,4 +549,18 @@ public class KafkaStoreReaderThread<K, V> extends ShutdownableThread {
   public String getConsumerProperty(String key) {
     return this.consumerProps.getProperty(key);
   }
+
+  private static class DeserializedRecord<K, V> {
+    private final ConsumerRecord<byte[], byte[]> record;
+    private final K key;
+    private final V value;
+    private final boolean noop;
+
+    DeserializedRecord(ConsumerRecord<byte[], byte[]> record, K key, V value, boolean noop) {
+      this.record = record;
+      this.key = key;
+      this.value = value;
+      this.noop = noop;
+    }
+  }
 }
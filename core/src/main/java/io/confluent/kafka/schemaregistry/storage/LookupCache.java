@@ -18,6 +18,8 @@ package io.confluent.kafka.schemaregistry.storage;
 import static io.confluent.kafka.schemaregistry.storage.SchemaRegistry.DEFAULT_TENANT;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Config;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -70,6 +72,52 @@ public interface LookupCache<K,V> extends Store<K,V> {
    */
   SchemaKey schemaKeyById(Integer id, String subject) throws StoreException;
 
+  /**
+   * Returns the versions of a subject that match the filter, in ascending order.
+   *
+   * @param subject the qualified subject
+   * @param filter the filter for deleted versions
+   * @return the versions, or null if the versions of the subject are not indexed
+   */
+  default List<Integer> versions(String subject, LookupFilter filter) throws StoreException {
+    return null;
+  }
+
+  /**
+   * Returns the latest version of a subject that matches the filter.
+   *
+   * @param subject the qualified subject
+   * @param filter the filter for deleted versions
+   * @return the latest version, -1 if there is none, or null if the versions of the subject
+   *     are not indexed
+   */
+  default Integer latestVersion(String subject, LookupFilter filter) throws StoreException {
+    return null;
+  }
+
+  /**
+   * Returns the contexts, other than the default context, in which the unqualified subject
+   * is associated with the schema id, in the order of the contexts.
+   *
+   * @param id the schema id; never {@code null}
+   * @param subject the unqualified subject
+   * @return the contexts, or null if the contexts of the subject are not indexed
+   */
+  default Collection<String> contextsById(Integer id, String subject) throws StoreException {
+    return null;
+  }
+
+  /**
+   * Returns the contexts, other than the default context, in which the unqualified subject
+   * has schemas, in the order of the contexts.
+   *
+   * @param subject the unqualified subject
+   * @return the contexts, or null if the contexts of the subject are not indexed
+   */
+  default Collection<String> contextsBySubject(String subject) throws StoreException {
+    return null;
+  }
+
   /**
    * Callback that is invoked when a schema is registered.
    * This can be used to update any internal data structure.
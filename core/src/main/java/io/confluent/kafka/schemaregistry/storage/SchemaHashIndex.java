@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.storage;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An index from schema MD5 hashes to schema IDs.
+ *
+ * <p>Each hash is kept as two longs in an open-addressing table with linear probing, next to
+ * its unboxed ID, so that an entry costs 21 bytes per table slot instead of an
+ * {@link MD5} wrapper, its byte array, a boxed ID and a hash map entry.</p>
+ */
+public class SchemaHashIndex {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // The high and low halves of each hash are stored in adjacent elements
+  private long[] hashes;
+  private int[] ids;
+  private boolean[] used;
+  private int size;
+
+  public SchemaHashIndex() {
+    this.hashes = new long[INITIAL_CAPACITY * 2];
+    this.ids = new int[INITIAL_CAPACITY];
+    this.used = new boolean[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Returns the ID for the given hash, or null if there is none.
+   */
+  public Integer get(MD5 md5) {
+    ByteBuffer buffer = ByteBuffer.wrap(md5.bytes());
+    long high = buffer.getLong();
+    long low = buffer.getLong();
+    Lock readLock = lock.readLock();
+    readLock.lock();
+    try {
+      int slot = slot(high, low);
+      return used[slot] ? ids[slot] : null;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  public void put(MD5 md5, int id) {
+    ByteBuffer buffer = ByteBuffer.wrap(md5.bytes());
+    long high = buffer.getLong();
+    long low = buffer.getLong();
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      int slot = slot(high, low);
+      ids[slot] = id;
+      if (used[slot]) {
+        return;
+      }
+      used[slot] = true;
+      hashes[slot * 2] = high;
+      hashes[slot * 2 + 1] = low;
+      if (++size * 4 > used.length * 3) {
+        resize(used.length * 2);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public int size() {
+    Lock readLock = lock.readLock();
+    readLock.lock();
+    try {
+      return size;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the slot holding the given hash, or the empty slot where it would be inserted.
+   */
+  private int slot(long high, long low) {
+    int mask = used.length - 1;
+    // MD5 hashes are uniformly distributed, so their low bits need no further mixing
+    int slot = (int) low & mask;
+    while (used[slot] && (hashes[slot * 2] != high || hashes[slot * 2 + 1] != low)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void resize(int capacity) {
+    long[] oldHashes = hashes;
+    int[] oldIds = ids;
+    boolean[] oldUsed = used;
+    hashes = new long[capacity * 2];
+    ids = new int[capacity];
+    used = new boolean[capacity];
+    for (int i = 0; i < oldUsed.length; i++) {
+      if (oldUsed[i]) {
+        int slot = slot(oldHashes[i * 2], oldHashes[i * 2 + 1]);
+        used[slot] = true;
+        hashes[slot * 2] = oldHashes[i * 2];
+        hashes[slot * 2 + 1] = oldHashes[i * 2 + 1];
+        ids[slot] = oldIds[i];
+      }
+    }
+  }
+}
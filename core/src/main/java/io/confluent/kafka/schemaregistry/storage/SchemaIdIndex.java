@@ -0,0 +1,281 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.storage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+
+/**
+ * An index from schema IDs to the subject-versions that use them.
+ *
+ * <p>IDs are kept unboxed in an open-addressing table with linear probing, and the
+ * subject-versions of an ID in a pair of arrays that are replaced on every change. Most IDs
+ * are used by a single subject-version, which then costs two small arrays instead of a
+ * hash map with boxed keys and values.</p>
+ */
+public class SchemaIdIndex {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private int[] ids;
+  private SubjectVersions[] values;
+  private int size;
+
+  public SchemaIdIndex() {
+    this.ids = new int[INITIAL_CAPACITY];
+    this.values = new SubjectVersions[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Returns a copy of the subject-versions for the given ID, or an empty map if there are none.
+   */
+  public Map<String, Integer> get(int id) {
+    SubjectVersions value = value(id);
+    return value != null ? value.toMap() : Collections.emptyMap();
+  }
+
+  /**
+   * Returns any subject-version for the given ID, or null if there are none.
+   */
+  public SchemaKey any(int id) {
+    SubjectVersions value = value(id);
+    return value != null ? new SchemaKey(value.subjects[0], value.versions[0]) : null;
+  }
+
+  /**
+   * Returns the version of the given subject for the given ID, or null if there is none.
+   */
+  public Integer version(int id, String subject) {
+    SubjectVersions value = value(id);
+    if (value == null) {
+      return null;
+    }
+    int i = value.indexOf(subject);
+    return i >= 0 ? value.versions[i] : null;
+  }
+
+  public void put(int id, String subject, int version) {
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      int slot = slot(id);
+      if (values[slot] != null) {
+        values[slot] = values[slot].with(subject, version);
+        return;
+      }
+      ids[slot] = id;
+      values[slot] = new SubjectVersions(new String[]{subject}, new int[]{version});
+      if (++size * 4 > values.length * 3) {
+        resize(values.length * 2);
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Removes the given subject from the given ID, if it is mapped to the given version.
+   */
+  public void remove(int id, String subject, int version) {
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      int slot = slot(id);
+      if (values[slot] != null) {
+        update(slot, values[slot].without((s, v) -> s.equals(subject) && v == version));
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Removes all subject-versions that match the given predicate.
+   */
+  public void removeIf(BiPredicate<String, Integer> filter) {
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      int slot = 0;
+      while (slot < values.length) {
+        SubjectVersions value = values[slot];
+        // A removal may shift the next entry into this slot, which is then visited again
+        if (value == null || !update(slot, value.without(filter))) {
+          slot++;
+        }
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public int size() {
+    Lock readLock = lock.readLock();
+    readLock.lock();
+    try {
+      return size;
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private SubjectVersions value(int id) {
+    Lock readLock = lock.readLock();
+    readLock.lock();
+    try {
+      return values[slot(id)];
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the slot holding the given ID, or the empty slot where it would be inserted.
+   */
+  private int slot(int id) {
+    int mask = values.length - 1;
+    int slot = hash(id) & mask;
+    while (values[slot] != null && ids[slot] != id) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Replaces the value in the given slot, and returns whether the entry was removed.
+   */
+  private boolean update(int slot, SubjectVersions value) {
+    if (value != null) {
+      values[slot] = value;
+      return false;
+    }
+    delete(slot);
+    return true;
+  }
+
+  private void delete(int slot) {
+    int mask = values.length - 1;
+    // Shift back any following entries that would no longer be found past the new gap
+    int gap = slot;
+    int next = (gap + 1) & mask;
+    while (values[next] != null) {
+      int home = hash(ids[next]) & mask;
+      if (((next - home) & mask) >= ((next - gap) & mask)) {
+        ids[gap] = ids[next];
+        values[gap] = values[next];
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+    values[gap] = null;
+    size--;
+  }
+
+  private void resize(int capacity) {
+    int[] oldIds = ids;
+    SubjectVersions[] oldValues = values;
+    ids = new int[capacity];
+    values = new SubjectVersions[capacity];
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = slot(oldIds[i]);
+        ids[slot] = oldIds[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private static int hash(int id) {
+    // Spread sequential IDs over the table
+    int h = id * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private static class SubjectVersions {
+    private final String[] subjects;
+    private final int[] versions;
+
+    SubjectVersions(String[] subjects, int[] versions) {
+      this.subjects = subjects;
+      this.versions = versions;
+    }
+
+    int indexOf(String subject) {
+      for (int i = 0; i < subjects.length; i++) {
+        if (subjects[i].equals(subject)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    SubjectVersions with(String subject, int version) {
+      int i = indexOf(subject);
+      if (i >= 0) {
+        if (versions[i] == version) {
+          return this;
+        }
+        int[] newVersions = versions.clone();
+        newVersions[i] = version;
+        return new SubjectVersions(subjects, newVersions);
+      }
+      String[] newSubjects = Arrays.copyOf(subjects, subjects.length + 1);
+      int[] newVersions = Arrays.copyOf(versions, versions.length + 1);
+      newSubjects[subjects.length] = subject;
+      newVersions[versions.length] = version;
+      return new SubjectVersions(newSubjects, newVersions);
+    }
+
+    /**
+     * Returns the subject-versions that do not match the given predicate, or null if none are
+     * left.
+     */
+    SubjectVersions without(BiPredicate<String, Integer> filter) {
+      String[] newSubjects = new String[subjects.length];
+      int[] newVersions = new int[versions.length];
+      int count = 0;
+      for (int i = 0; i < subjects.length; i++) {
+        if (!filter.test(subjects[i], versions[i])) {
+          newSubjects[count] = subjects[i];
+          newVersions[count] = versions[i];
+          count++;
+        }
+      }
+      if (count == subjects.length) {
+        return this;
+      }
+      return count > 0
+          ? new SubjectVersions(
+              Arrays.copyOf(newSubjects, count), Arrays.copyOf(newVersions, count))
+          : null;
+    }
+
+    Map<String, Integer> toMap() {
+      Map<String, Integer> map = new LinkedHashMap<>(subjects.length * 2);
+      for (int i = 0; i < subjects.length; i++) {
+        map.put(subjects[i], versions[i]);
+      }
+      return map;
+    }
+  }
+}
@@ -49,6 +49,18 @@ public interface StoreUpdateHandler<K, V> extends Configurable, Closeable {
   default void startBatch(int count) {
   }
 
+  /**
+   * Invoked on every new non-null value before it is validated, for example to normalize
+   * or precompute parts of the value. During bootstrap this may be invoked concurrently for
+   * different records and ahead of the updates of earlier records, so implementations must
+   * only depend on the key and value, not on the state of the store.
+   *
+   * @param key   Key associated with the data
+   * @param value Data to be written to the store
+   */
+  default void prepareUpdate(K key, V value) {
+  }
+
   /**
    * Invoked before every new K,V pair written to the store
    *
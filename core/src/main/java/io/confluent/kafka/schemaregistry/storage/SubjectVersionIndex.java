@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.storage;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The live and soft-deleted versions of a subject, kept as bitsets so that the latest version
+ * and the sorted version list can be read without scanning the store.
+ *
+ * <p>Versions above {@link #MAX_INDEXED_VERSION}, which only imports can create, would make the
+ * bitsets too large. Once such a version is seen the subject is no longer indexed, and readers
+ * must fall back to scanning the store.</p>
+ */
+class SubjectVersionIndex {
+
+  static final int MAX_INDEXED_VERSION = 1 << 20;
+
+  private final BitSet live = new BitSet();
+  private final BitSet deleted = new BitSet();
+  private boolean indexed = true;
+
+  synchronized void registered(int version) {
+    if (checkIndexed(version)) {
+      live.set(version);
+      deleted.clear(version);
+    }
+  }
+
+  synchronized void deleted(int version) {
+    if (checkIndexed(version)) {
+      deleted.set(version);
+      live.clear(version);
+    }
+  }
+
+  synchronized void removed(int version) {
+    if (checkIndexed(version)) {
+      live.clear(version);
+      deleted.clear(version);
+    }
+  }
+
+  synchronized boolean isEmpty() {
+    return indexed && live.isEmpty() && deleted.isEmpty();
+  }
+
+  /**
+   * Returns the versions that match the filter in ascending order, or null if the subject is
+   * not indexed.
+   */
+  synchronized List<Integer> versions(LookupFilter filter) {
+    if (!indexed) {
+      return null;
+    }
+    BitSet versions = select(filter);
+    List<Integer> result = new ArrayList<>(versions.cardinality());
+    for (int v = versions.nextSetBit(0); v >= 0; v = versions.nextSetBit(v + 1)) {
+      result.add(v);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the latest version that matches the filter, -1 if there is none, or null if the
+   * subject is not indexed.
+   */
+  synchronized Integer latestVersion(LookupFilter filter) {
+    if (!indexed) {
+      return null;
+    }
+    BitSet versions = select(filter);
+    return versions.length() - 1;
+  }
+
+  private BitSet select(LookupFilter filter) {
+    switch (filter) {
+      case DEFAULT:
+        return live;
+      case DELETED_ONLY:
+        return deleted;
+      case INCLUDE_DELETED:
+      default:
+        BitSet all = (BitSet) live.clone();
+        all.or(deleted);
+        return all;
+    }
+  }
+
+  private boolean checkIndexed(int version) {
+    if (version < 0 || version > MAX_INDEXED_VERSION) {
+      indexed = false;
+      live.clear();
+      deleted.clear();
+    }
+    return indexed;
+  }
+}
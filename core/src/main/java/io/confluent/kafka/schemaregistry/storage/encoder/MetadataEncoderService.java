@@ -15,6 +15,7 @@
 
 package io.confluent.kafka.schemaregistry.storage.encoder;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.crypto.tink.Aead;
 import com.google.crypto.tink.KeyTemplate;
@@ -47,10 +48,12 @@ import java.security.GeneralSecurityException;
 import java.util.AbstractMap;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Base64;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
@@ -68,11 +71,14 @@ public class MetadataEncoderService implements Closeable {
   private static final String AES_GCM_KEY = "type.googleapis.com/google.crypto.tink.AesGcmKey";
   private static final byte[] EMPTY_AAD = new byte[0];
   private static final String KEY_TEMPLATE_NAME = "AES128_GCM";
+  private static final int MAX_DECODED_VALUES = 10000;
 
   private final KafkaSchemaRegistry schemaRegistry;
   private KeyTemplate keyTemplate;
   // visible for testing
   Cache<String, KeysetWrapper> encoders = null;
+  // The primitives for the current keyset of each tenant
+  private final Map<String, EncoderPrimitive> primitives = new ConcurrentHashMap<>();
   private final AtomicBoolean initialized = new AtomicBoolean();
   private final CountDownLatch initLatch = new CountDownLatch(1);
 
@@ -258,9 +264,10 @@ public class MetadataEncoderService implements Closeable {
     if (!initialized.get() || schema == null || isEncoded(schema)) {
       return;
     }
-    transformMetadata(schema, true, (aead, value) -> {
+    transformMetadata(schema, true, (primitive, value) -> {
       try {
-        byte[] ciphertext = aead.encrypt(value.getBytes(StandardCharsets.UTF_8), EMPTY_AAD);
+        byte[] ciphertext =
+            primitive.aead.encrypt(value.getBytes(StandardCharsets.UTF_8), EMPTY_AAD);
         return Base64.getEncoder().encodeToString(ciphertext);
       } catch (GeneralSecurityException e) {
         throw new IllegalStateException("Could not encrypt sensitive metadata", e);
@@ -281,18 +288,20 @@ public class MetadataEncoderService implements Closeable {
     if (!initialized.get() || schema == null || !isEncoded(schema)) {
       return;
     }
-    transformMetadata(schema, false, (aead, value) -> {
-      try {
-        byte[] plaintext = aead.decrypt(Base64.getDecoder().decode(value), EMPTY_AAD);
-        return new String(plaintext, StandardCharsets.UTF_8);
-      } catch (GeneralSecurityException e) {
-        throw new IllegalStateException("Could not encrypt sensitive metadata", e);
-      }
-    });
+    // Values re-read from the store carry the same ciphertexts, which are decrypted only once
+    transformMetadata(schema, false, (primitive, value) ->
+        primitive.plaintexts.get(value, v -> {
+          try {
+            byte[] plaintext = primitive.aead.decrypt(Base64.getDecoder().decode(v), EMPTY_AAD);
+            return new String(plaintext, StandardCharsets.UTF_8);
+          } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt sensitive metadata", e);
+          }
+        }));
   }
 
   private void transformMetadata(
-      SchemaValue schema, boolean isEncode, BiFunction<Aead, String, String> func) {
+      SchemaValue schema, boolean isEncode, BiFunction<EncoderPrimitive, String, String> func) {
     Metadata metadata = schema.getMetadata();
     if (metadata == null
         || metadata.getProperties() == null
@@ -309,14 +318,13 @@ public class MetadataEncoderService implements Closeable {
       QualifiedSubject qualifiedSubject = QualifiedSubject.create(schemaRegistry.tenant(), subject);
       String tenant = qualifiedSubject.getTenant();
 
-      KeysetHandle handle = getOrCreateEncoder(tenant);
-      Aead aead = handle.getPrimitive(Aead.class);
+      EncoderPrimitive primitive = getPrimitive(tenant, getOrCreateEncoder(tenant));
 
       SortedMap<String, String> newProperties = metadata.getProperties().entrySet().stream()
           .map(e -> new AbstractMap.SimpleEntry<>(
               e.getKey(),
               metadata.getSensitive().contains(e.getKey())
-                  ? func.apply(aead, e.getValue())
+                  ? func.apply(primitive, e.getValue())
                   : e.getValue())
           )
           .collect(Collectors.toMap(
@@ -339,6 +347,17 @@ public class MetadataEncoderService implements Closeable {
     }
   }
 
+  private EncoderPrimitive getPrimitive(String tenant, KeysetHandle handle)
+      throws GeneralSecurityException {
+    EncoderPrimitive primitive = primitives.get(tenant);
+    if (primitive == null || primitive.handle != handle) {
+      // The keyset was created, rotated or reloaded
+      primitive = new EncoderPrimitive(handle, handle.getPrimitive(Aead.class));
+      primitives.put(tenant, primitive);
+    }
+    return primitive;
+  }
+
   private KeysetHandle getOrCreateEncoder(String tenant) {
     KeysetWrapper wrapper = encoders.computeIfAbsent(tenant,
         k -> {
@@ -353,6 +372,23 @@ public class MetadataEncoderService implements Closeable {
     return wrapper.getKeysetHandle();
   }
 
+  /**
+   * The AEAD primitive of a keyset, and the plaintexts of the values it decrypted.
+   */
+  private static class EncoderPrimitive {
+    private final KeysetHandle handle;
+    private final Aead aead;
+    private final com.github.benmanes.caffeine.cache.Cache<String, String> plaintexts;
+
+    EncoderPrimitive(KeysetHandle handle, Aead aead) {
+      this.handle = handle;
+      this.aead = aead;
+      this.plaintexts = Caffeine.newBuilder()
+          .maximumSize(MAX_DECODED_VALUES)
+          .build();
+    }
+  }
+
   @Override
   public void close() {
     log.info("Shutting down MetadataEncoderService");
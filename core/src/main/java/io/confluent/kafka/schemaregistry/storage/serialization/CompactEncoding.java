@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.storage.serialization;
+
+import io.confluent.kafka.schemaregistry.storage.exceptions.SerializationException;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A compact envelope for values of the schemas topic.
+ *
+ * <p>The envelope consists of a magic prefix, a format version, a codec id and the payload.
+ * The payload is the JSON encoding of the value, compressed if the codec is not
+ * {@link #CODEC_NONE}. Since a JSON document never starts with a zero byte, readers can
+ * tell both encodings apart and replay topics that contain a mix of them.</p>
+ */
+public final class CompactEncoding {
+
+  public static final String JSON = "json";
+  public static final String COMPACT = "compact";
+
+  private static final byte[] MAGIC = {0x0, 'S', 'R', 'C'};
+  private static final byte VERSION = 1;
+  private static final byte CODEC_NONE = 0;
+  private static final byte CODEC_DEFLATE = 1;
+  private static final int HEADER_SIZE = MAGIC.length + 2;
+  // Smaller payloads are not worth compressing
+  private static final int MIN_COMPRESS_SIZE = 256;
+
+  private CompactEncoding() {
+  }
+
+  public static boolean isCompact(byte[] bytes) {
+    if (bytes == null || bytes.length < HEADER_SIZE) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (bytes[i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static byte[] encode(byte[] json) {
+    byte[] payload = json;
+    byte codec = CODEC_NONE;
+    if (json.length >= MIN_COMPRESS_SIZE) {
+      byte[] compressed = deflate(json);
+      if (compressed.length < json.length) {
+        payload = compressed;
+        codec = CODEC_DEFLATE;
+      }
+    }
+    byte[] bytes = new byte[HEADER_SIZE + payload.length];
+    System.arraycopy(MAGIC, 0, bytes, 0, MAGIC.length);
+    bytes[MAGIC.length] = VERSION;
+    bytes[MAGIC.length + 1] = codec;
+    System.arraycopy(payload, 0, bytes, HEADER_SIZE, payload.length);
+    return bytes;
+  }
+
+  public static byte[] decode(byte[] bytes) throws SerializationException {
+    byte version = bytes[MAGIC.length];
+    if (version != VERSION) {
+      throw new SerializationException("Unsupported compact encoding version " + version);
+    }
+    byte codec = bytes[MAGIC.length + 1];
+    switch (codec) {
+      case CODEC_NONE:
+        return Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+      case CODEC_DEFLATE:
+        return inflate(bytes, HEADER_SIZE);
+      default:
+        throw new SerializationException("Unsupported compact encoding codec " + codec);
+    }
+  }
+
+  private static byte[] deflate(byte[] input) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(input);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+      byte[] buffer = new byte[4096];
+      while (!deflater.finished()) {
+        int count = deflater.deflate(buffer);
+        out.write(buffer, 0, count);
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] input, int offset) throws SerializationException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(input, offset, input.length - offset);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+      byte[] buffer = new byte[4096];
+      while (!inflater.finished()) {
+        int count = inflater.inflate(buffer);
+        if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new SerializationException("Truncated compact encoded value");
+        }
+        out.write(buffer, 0, count);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new SerializationException("Error while inflating compact encoded value", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
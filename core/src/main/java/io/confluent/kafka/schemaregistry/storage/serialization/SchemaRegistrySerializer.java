@@ -18,6 +18,7 @@ package io.confluent.kafka.schemaregistry.storage.serialization;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
 import io.confluent.kafka.schemaregistry.storage.ContextKey;
 import io.confluent.kafka.schemaregistry.storage.ContextValue;
 import java.io.IOException;
@@ -45,6 +46,8 @@ public class SchemaRegistrySerializer
 
   private static final long serialVersionUID = -2564877824075394626L;
 
+  private boolean compact;
+
   // The default ctor is required since this instance may be serialized for persistent caches.
   public SchemaRegistrySerializer() {
   }
@@ -70,7 +73,8 @@ public class SchemaRegistrySerializer
   @Override
   public byte[] serializeValue(SchemaRegistryValue value) throws SerializationException {
     try {
-      return JacksonMapper.INSTANCE.writeValueAsBytes(value);
+      byte[] json = JacksonMapper.INSTANCE.writeValueAsBytes(value);
+      return compact ? CompactEncoding.encode(json) : json;
     } catch (IOException e) {
       throw new SerializationException(
           "Error while serializing value schema value " + value.toString(),
@@ -133,6 +137,9 @@ public class SchemaRegistrySerializer
   @Override
   public SchemaRegistryValue deserializeValue(SchemaRegistryKey key, byte[] value)
       throws SerializationException {
+    if (CompactEncoding.isCompact(value)) {
+      value = CompactEncoding.decode(value);
+    }
     SchemaRegistryValue schemaRegistryValue = null;
     if (key.getKeyType().equals(SchemaRegistryKeyType.CONFIG)) {
       try {
@@ -184,7 +191,9 @@ public class SchemaRegistrySerializer
 
   @Override
   public void configure(Map<String, ?> stringMap) {
-
+    Object encoding = stringMap.get(SchemaRegistryConfig.KAFKASTORE_VALUE_ENCODING_CONFIG);
+    // Values are always readable in both encodings; this only affects writes
+    compact = encoding != null && CompactEncoding.COMPACT.equals(encoding.toString());
   }
 
   private void validateMagicByte(SchemaKey schemaKey) throws SerializationException {
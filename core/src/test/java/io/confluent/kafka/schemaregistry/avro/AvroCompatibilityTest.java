@@ -17,14 +17,18 @@ package io.confluent.kafka.schemaregistry.avro;
 import org.apache.avro.Schema;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import io.confluent.kafka.schemaregistry.CompatibilityChecker;
+import io.confluent.kafka.schemaregistry.CompatibilityLevel;
 
 public class AvroCompatibilityTest {
 
@@ -136,6 +140,25 @@ public class AvroCompatibilityTest {
         checker.isCompatible(schema3, Arrays.asList(schema2, schema1)).isEmpty());
   }
   
+  @Test
+  public void testParallelBackwardsTransitiveCompatibility() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CompatibilityChecker checker =
+          CompatibilityChecker.checker(CompatibilityLevel.BACKWARD_TRANSITIVE, executor);
+      assertTrue("iteratively adding fields with defaults is a compatible change",
+          checker.isCompatible(schema8, Arrays.asList(schema1, schema2)).isEmpty());
+      assertFalse("removing a default is not a transitively compatible change",
+          checker.isCompatible(schema3, Arrays.asList(schema1, schema2)).isEmpty());
+      assertEquals("parallel check reports the same errors as the sequential check",
+          CompatibilityChecker.BACKWARD_TRANSITIVE_CHECKER.isCompatible(
+              schema3, Arrays.asList(schema1, schema2)),
+          checker.isCompatible(schema3, Arrays.asList(schema1, schema2)));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   /*
    * Forward compatibility: A new schema is forward compatible if the previous schema can read data written in this
    * schema.
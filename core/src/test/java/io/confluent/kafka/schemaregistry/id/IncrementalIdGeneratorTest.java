@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.confluent.kafka.schemaregistry.id;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.confluent.kafka.schemaregistry.storage.SchemaKey;
+import io.confluent.kafka.schemaregistry.storage.SchemaRegistry;
+import io.confluent.kafka.schemaregistry.storage.SchemaValue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IncrementalIdGeneratorTest {
+
+  private IncrementalIdGenerator generator;
+
+  @Before
+  public void setUp() {
+    SchemaRegistry schemaRegistry = mock(SchemaRegistry.class);
+    when(schemaRegistry.tenant()).thenReturn(SchemaRegistry.DEFAULT_TENANT);
+    generator = new IncrementalIdGenerator(schemaRegistry);
+  }
+
+  @Test
+  public void testIsUnusedAfterReplay() throws Exception {
+    SchemaValue schema = schema("subject", 0);
+    assertEquals(1, generator.id(schema));
+    assertTrue(generator.isUnused(schema, 1));
+
+    // An imported schema is replayed with a higher ID than any generated one
+    register(schema("subject", 10));
+    assertFalse(generator.isUnused(schema, 2));
+    assertFalse(generator.isUnused(schema, 10));
+    assertTrue(generator.isUnused(schema, 11));
+    assertEquals(10, generator.getMaxId(schema));
+    assertEquals(11, generator.id(schema));
+
+    // Replaying a lower ID changes nothing
+    register(schema("subject", 5));
+    assertTrue(generator.isUnused(schema, 11));
+    assertEquals(12, generator.id(schema));
+  }
+
+  @Test
+  public void testGetMaxIdBeforeFirstId() throws Exception {
+    SchemaValue schema = schema("subject", 0);
+    assertEquals(1, generator.getMaxId(schema));
+    // As before, reading the max ID of a new context counts ID 1 as handed out
+    assertEquals(2, generator.id(schema));
+    assertEquals(2, generator.getMaxId(schema));
+
+    SchemaValue other = schema(":.other:subject", 0);
+    assertEquals(1, generator.id(other));
+    assertEquals(1, generator.getMaxId(other));
+  }
+
+  @Test
+  public void testContextsAreIndependent() throws Exception {
+    SchemaValue schema = schema("subject", 0);
+    SchemaValue other = schema(":.other:subject", 0);
+    assertEquals(1, generator.id(other));
+    assertEquals(2, generator.id(other));
+    assertEquals(1, generator.id(schema));
+
+    register(schema(":.other:subject", 20));
+    assertFalse(generator.isUnused(other, 20));
+    assertTrue(generator.isUnused(schema, 20));
+    assertEquals(20, generator.getMaxId(other));
+    assertEquals(1, generator.getMaxId(schema));
+    assertEquals(2, generator.id(schema));
+  }
+
+  private void register(SchemaValue schema) {
+    generator.schemaRegistered(
+        new SchemaKey(schema.getSubject(), schema.getVersion()), schema);
+  }
+
+  private static SchemaValue schema(String subject, int id) {
+    return new SchemaValue(subject, 1, id, "\"string\"", false);
+  }
+}
@@ -16,16 +16,28 @@
 package io.confluent.kafka.schemaregistry.metrics;
 
 import io.confluent.kafka.schemaregistry.ClusterTestHarness;
+import io.confluent.kafka.schemaregistry.CompatibilityLevel;
+import io.confluent.kafka.schemaregistry.RestApp;
 import io.confluent.kafka.schemaregistry.client.rest.RestService;
 import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
+import io.confluent.kafka.schemaregistry.storage.KafkaSchemaRegistry;
+import io.confluent.kafka.schemaregistry.storage.LazyParsedSchemaHolder;
+import io.confluent.kafka.schemaregistry.storage.SchemaKey;
 import io.confluent.kafka.schemaregistry.utils.TestUtils;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Metrics;
 import org.junit.Test;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 import java.lang.management.ManagementFactory;
+import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_GROUP_API_LATENCY;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_GROUP_REGISTER_STAGE_LATENCY;
 import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_NAME_API_FAILURE_COUNT;
 import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_NAME_API_SUCCESS_COUNT;
 import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_NAME_AVRO_SCHEMAS_CREATED;
@@ -33,7 +45,13 @@ import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_
 import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_NAME_DELETED_COUNT;
 import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_NAME_MASTER_SLAVE_ROLE;
 import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_NAME_REGISTERED_COUNT;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_NAME_SCHEMA_CACHE_HIT_COUNT;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.METRIC_NAME_SCHEMA_CACHE_MISS_COUNT;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_CANONICALIZE;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_COMPATIBILITY;
+import static io.confluent.kafka.schemaregistry.metrics.MetricsContainer.REGISTER_STAGE_WRITE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class MetricsTest extends ClusterTestHarness {
@@ -126,4 +144,96 @@ public class MetricsTest extends ClusterTestHarness {
       assertEquals(1.0, mBeanServer.getAttribute(apiFailure, METRIC_NAME_API_FAILURE_COUNT));
     }
   }
+
+  @Test
+  public void testLatencyMetrics() throws Exception {
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    String subject = "testTopic1";
+    int schemaCount = 2;
+    List<String> schemas = TestUtils.getRandomCanonicalAvroString(schemaCount);
+
+    int schemaIdCounter = 1;
+    for (int i = 0; i < schemaCount; i++) {
+      String schema = schemas.get(i);
+      TestUtils.registerAndVerifySchema(restApp.restClient, schema, schemaIdCounter++, subject);
+    }
+
+    ObjectName registerLatency = new ObjectName("kafka.schema.registry:type="
+        + METRIC_GROUP_API_LATENCY + ",operation=registerSchema");
+    assertTrue((double) mBeanServer.getAttribute(
+        registerLatency, METRIC_GROUP_API_LATENCY + "-max") > 0.0);
+    ObjectName getLatency = new ObjectName("kafka.schema.registry:type="
+        + METRIC_GROUP_API_LATENCY + ",operation=getSchemasById");
+    assertTrue((double) mBeanServer.getAttribute(
+        getLatency, METRIC_GROUP_API_LATENCY + "-max") > 0.0);
+
+    for (String stage : new String[] {REGISTER_STAGE_CANONICALIZE,
+        REGISTER_STAGE_COMPATIBILITY, REGISTER_STAGE_WRITE}) {
+      ObjectName stageLatency = new ObjectName("kafka.schema.registry:type="
+          + METRIC_GROUP_REGISTER_STAGE_LATENCY + ",stage=" + stage);
+      assertTrue((double) mBeanServer.getAttribute(
+          stageLatency, METRIC_GROUP_REGISTER_STAGE_LATENCY + "-max") > 0.0);
+    }
+  }
+
+  @Test
+  public void testSchemaCacheMetrics() throws Exception {
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    ObjectName cacheHits =
+            new ObjectName("kafka.schema.registry:type=" + METRIC_NAME_SCHEMA_CACHE_HIT_COUNT);
+    ObjectName cacheMisses =
+            new ObjectName("kafka.schema.registry:type=" + METRIC_NAME_SCHEMA_CACHE_MISS_COUNT);
+
+    String subject = "testTopic1";
+    String schema = TestUtils.getRandomCanonicalAvroString(1).get(0);
+    TestUtils.registerAndVerifySchema(restApp.restClient, schema, 1, subject);
+
+    double misses = (double) mBeanServer.getAttribute(
+        cacheMisses, METRIC_NAME_SCHEMA_CACHE_MISS_COUNT);
+    double hits = (double) mBeanServer.getAttribute(cacheHits, METRIC_NAME_SCHEMA_CACHE_HIT_COUNT);
+    assertTrue(misses > 0.0);
+
+    // Registering the same schema again parses it from the cache
+    restApp.restClient.registerSchema(schema, subject);
+    assertTrue((double) mBeanServer.getAttribute(cacheHits, METRIC_NAME_SCHEMA_CACHE_HIT_COUNT)
+        > hits);
+  }
+
+  @Test
+  public void testSchemaCacheWarmUp() throws Exception {
+    String subject = "testTopic1";
+    int schemaCount = 3;
+    List<String> schemas = TestUtils.getRandomCanonicalAvroString(schemaCount);
+    for (int i = 0; i < schemaCount; i++) {
+      TestUtils.registerAndVerifySchema(restApp.restClient, schemas.get(i), i + 1, subject);
+    }
+
+    Properties props = new Properties();
+    props.setProperty(SchemaRegistryConfig.SCHEMA_CACHE_WARMUP_VERSIONS_CONFIG, "2");
+    RestApp follower = new RestApp(choosePort(), null, bootstrapServers, KAFKASTORE_TOPIC,
+        CompatibilityLevel.NONE.name, false, props);
+    follower.start();
+    try {
+      KafkaSchemaRegistry schemaRegistry = (KafkaSchemaRegistry) follower.schemaRegistry();
+      Metrics metrics = schemaRegistry.getMetricsContainer().getMetrics();
+
+      // Only the latest two versions are parsed
+      TestUtils.waitUntilTrue(
+          () -> metricValue(metrics, METRIC_NAME_SCHEMA_CACHE_MISS_COUNT) == 2.0,
+          30000, "Schema cache should be warmed up");
+      assertEquals(0.0, metricValue(metrics, METRIC_NAME_SCHEMA_CACHE_HIT_COUNT), 0.0);
+
+      // Compatibility checks find the latest version in the cache
+      new LazyParsedSchemaHolder(schemaRegistry, new SchemaKey(subject, schemaCount)).schema();
+      assertEquals(1.0, metricValue(metrics, METRIC_NAME_SCHEMA_CACHE_HIT_COUNT), 0.0);
+      assertEquals(2.0, metricValue(metrics, METRIC_NAME_SCHEMA_CACHE_MISS_COUNT), 0.0);
+    } finally {
+      follower.stop();
+    }
+  }
+
+  private static double metricValue(Metrics metrics, String name) {
+    MetricName metricName = new MetricName(name, name, "", Collections.emptyMap());
+    return (double) metrics.metric(metricName).metricValue();
+  }
 }
@@ -20,6 +20,7 @@ import static io.confluent.kafka.schemaregistry.CompatibilityLevel.NONE;
 import static io.confluent.kafka.schemaregistry.utils.QualifiedSubject.DEFAULT_CONTEXT;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
@@ -1931,6 +1932,101 @@ public class RestApiTest extends ClusterTestHarness {
     }
   }
 
+  @Test
+  public void testRegisterSameSchemaByFingerprint() throws Exception {
+    String subject = "testSubject";
+    List<String> schemas = TestUtils.getRandomCanonicalAvroString(2);
+    int id = restApp.restClient.registerSchema(schemas.get(0), subject);
+
+    // The second registration caches the fingerprint, which the third one hits
+    assertEquals(id, restApp.restClient.registerSchema(schemas.get(0), subject));
+    assertEquals(id, restApp.restClient.registerSchema(schemas.get(0), subject));
+
+    // Another schema misses the cache
+    int otherId = restApp.restClient.registerSchema(schemas.get(1), subject);
+    assertTrue(otherId != id);
+    assertEquals(otherId, restApp.restClient.registerSchema(schemas.get(1), subject));
+  }
+
+  @Test
+  public void testRegisterByFingerprintAfterPermanentDelete() throws Exception {
+    String subject = "testSubject";
+    List<String> schemas = TestUtils.getRandomCanonicalAvroString(2);
+    int id = restApp.restClient.registerSchema(schemas.get(0), subject);
+    assertEquals(id, restApp.restClient.registerSchema(schemas.get(0), subject));
+
+    restApp.restClient.deleteSubject(RestService.DEFAULT_REQUEST_PROPERTIES, subject);
+    restApp.restClient.deleteSubject(RestService.DEFAULT_REQUEST_PROPERTIES, subject, true);
+
+    // Version 1 of the subject is reused by another schema
+    int otherId = restApp.restClient.registerSchema(schemas.get(1), subject);
+    assertTrue(otherId != id);
+    Schema other = restApp.restClient.lookUpSubjectVersion(schemas.get(1), subject);
+    assertEquals(otherId, other.getId().intValue());
+    assertEquals(1, other.getVersion().intValue());
+
+    int newId = restApp.restClient.registerSchema(schemas.get(0), subject);
+    assertTrue(newId != otherId);
+    assertEquals(schemas.get(0), restApp.restClient.getId(newId).getSchemaString());
+  }
+
+  @Test
+  public void testConditionalGetSchemaById() throws Exception {
+    String subject = "testSubject";
+    String schema = TestUtils.getRandomCanonicalAvroString(1).get(0);
+    int id = restApp.restClient.registerSchema(schema, subject);
+
+    String baseUrl = restApp.restClient.getBaseUrls().current();
+    String schemaUrl = buildRequestUrl(baseUrl, "/schemas/ids/" + id);
+    HttpURLConnection connection = conditionalGet(schemaUrl, null);
+    assertEquals(HttpURLConnection.HTTP_OK, connection.getResponseCode());
+    String etag = connection.getHeaderField("ETag");
+    assertNotNull(etag);
+    assertNotNull(matchHeaderValue(connection.getHeaderFields(), "Cache-Control", "no-cache"));
+    connection.disconnect();
+
+    connection = conditionalGet(schemaUrl, etag);
+    assertEquals(HttpURLConnection.HTTP_NOT_MODIFIED, connection.getResponseCode());
+    assertEquals(etag, connection.getHeaderField("ETag"));
+    connection.disconnect();
+
+    // Another version of the subject has another ETag
+    String versionUrl = buildRequestUrl(baseUrl, "/subjects/" + subject + "/versions/1");
+    connection = conditionalGet(versionUrl, etag);
+    assertEquals(HttpURLConnection.HTTP_OK, connection.getResponseCode());
+    connection.disconnect();
+
+    // The raw schema of a version carries the ETag set by the resource
+    String rawUrl = buildRequestUrl(baseUrl, "/subjects/" + subject + "/versions/latest/schema");
+    connection = conditionalGet(rawUrl, null);
+    assertEquals(HttpURLConnection.HTTP_OK, connection.getResponseCode());
+    String rawEtag = connection.getHeaderField("ETag");
+    assertNotNull(rawEtag);
+    assertNotEquals(etag, rawEtag);
+    connection.disconnect();
+    connection = conditionalGet(rawUrl, rawEtag);
+    assertEquals(HttpURLConnection.HTTP_NOT_MODIFIED, connection.getResponseCode());
+    connection.disconnect();
+
+    // The client reuses the body of the response if it is not modified
+    RestService restClient = new RestService(restApp.restConnect);
+    restClient.setHttpEtagCacheSize(10);
+    assertEquals(schema, restClient.getId(id).getSchemaString());
+    assertEquals(schema, restClient.getId(id).getSchemaString());
+    assertEquals(schema, restClient.getVersion(subject, 1).getSchema());
+    assertEquals(schema, restClient.getVersion(subject, 1).getSchema());
+  }
+
+  private HttpURLConnection conditionalGet(String requestUrl, String etag) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(requestUrl).openConnection();
+    connection.setRequestMethod("GET");
+    connection.setUseCaches(false);
+    if (etag != null) {
+      connection.setRequestProperty("If-None-Match", etag);
+    }
+    return connection;
+  }
+
   @Test
   public void testGlobalMode() throws Exception {
     // test default globalMode
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.confluent.kafka.schemaregistry.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.confluent.kafka.schemaregistry.CompatibilityLevel;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.ParsedSchemaHolder;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.metrics.SchemaRegistryMetric;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompatibilityResultCacheTest {
+
+  private static final String STRING_FIELD = "{\"type\":\"record\",\"name\":\"r\","
+      + "\"fields\":[{\"name\":\"f1\",\"type\":\"string\"}]}";
+  private static final String INT_FIELD = "{\"type\":\"record\",\"name\":\"r\","
+      + "\"fields\":[{\"name\":\"f1\",\"type\":\"int\"}]}";
+  private static final String NEW_FIELD = "{\"type\":\"record\",\"name\":\"r\","
+      + "\"fields\":[{\"name\":\"f1\",\"type\":\"string\"},"
+      + "{\"name\":\"f2\",\"type\":\"string\",\"default\":\"x\"}]}";
+
+  private Metrics metrics;
+  private MetricName hitName;
+  private MetricName missName;
+  private CompatibilityResultCache cache;
+
+  @Before
+  public void setUp() {
+    metrics = new Metrics();
+    hitName = metrics.metricName("hit-count", "test");
+    missName = metrics.metricName("miss-count", "test");
+    cache = new CompatibilityResultCache(100,
+        new SchemaRegistryMetric(metrics, "hits", hitName, new CumulativeCount()),
+        new SchemaRegistryMetric(metrics, "misses", missName, new CumulativeCount()));
+  }
+
+  @After
+  public void tearDown() {
+    metrics.close();
+  }
+
+  @Test
+  public void testHitAndMiss() throws Exception {
+    List<ParsedSchemaHolder> previous =
+        Collections.singletonList(new StoredSchemaHolder("subject", 1, 1, STRING_FIELD));
+    ParsedSchema candidate = new AvroSchema(NEW_FIELD);
+
+    assertTrue(isCompatible(candidate, CompatibilityLevel.BACKWARD, previous).isEmpty());
+    assertCounts(0, 1);
+    assertTrue(isCompatible(candidate, CompatibilityLevel.BACKWARD, previous).isEmpty());
+    assertCounts(1, 1);
+
+    // Another direction is another pair
+    assertTrue(isCompatible(candidate, CompatibilityLevel.FORWARD, previous).isEmpty());
+    assertCounts(1, 2);
+
+    // Incompatible results are cached as well
+    ParsedSchema incompatible = new AvroSchema(INT_FIELD);
+    List<String> errors = isCompatible(incompatible, CompatibilityLevel.BACKWARD, previous);
+    assertFalse(errors.isEmpty());
+    assertCounts(1, 3);
+    assertEquals(errors, isCompatible(incompatible, CompatibilityLevel.BACKWARD, previous));
+    assertCounts(2, 3);
+  }
+
+  @Test
+  public void testTransitive() throws Exception {
+    List<ParsedSchemaHolder> previous = Arrays.asList(
+        new StoredSchemaHolder("subject", 1, 1, STRING_FIELD),
+        new StoredSchemaHolder("subject", 2, 2, NEW_FIELD));
+    ParsedSchema candidate = new AvroSchema(NEW_FIELD);
+
+    // The non-transitive check only memoizes the latest version
+    assertTrue(isCompatible(candidate, CompatibilityLevel.BACKWARD, previous).isEmpty());
+    assertCounts(0, 1);
+    assertTrue(isCompatible(candidate, CompatibilityLevel.BACKWARD_TRANSITIVE, previous)
+        .isEmpty());
+    assertCounts(1, 2);
+    assertTrue(isCompatible(candidate, CompatibilityLevel.BACKWARD_TRANSITIVE, previous)
+        .isEmpty());
+    assertCounts(3, 2);
+  }
+
+  @Test
+  public void testTransitiveWithExecutor() throws Exception {
+    List<ParsedSchemaHolder> previous = Arrays.asList(
+        new StoredSchemaHolder("subject", 1, 1, INT_FIELD),
+        new StoredSchemaHolder("subject", 2, 2, STRING_FIELD),
+        new StoredSchemaHolder("subject", 3, 3, NEW_FIELD));
+    ParsedSchema candidate = new AvroSchema(NEW_FIELD);
+    List<String> expected = candidate.isCompatible(
+        CompatibilityLevel.BACKWARD_TRANSITIVE, previous);
+    assertFalse(expected.isEmpty());
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<String> errors = cache.isCompatible(
+          candidate, false, CompatibilityLevel.BACKWARD_TRANSITIVE, previous, executor);
+      assertEquals(expected, errors);
+      // The cached results are combined in the same order
+      assertEquals(expected, cache.isCompatible(
+          candidate, false, CompatibilityLevel.BACKWARD_TRANSITIVE, previous, executor));
+      assertEquals(expected, isCompatible(
+          candidate, CompatibilityLevel.BACKWARD_TRANSITIVE, previous));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testReusedVersion() throws Exception {
+    ParsedSchema candidate = new AvroSchema(STRING_FIELD);
+    List<ParsedSchemaHolder> previous =
+        Collections.singletonList(new StoredSchemaHolder("subject", 1, 1, STRING_FIELD));
+    assertTrue(isCompatible(candidate, CompatibilityLevel.BACKWARD, previous).isEmpty());
+    assertCounts(0, 1);
+
+    // After a permanent delete, the version is reused by another schema
+    previous = Collections.singletonList(new StoredSchemaHolder("subject", 1, 2, INT_FIELD));
+    assertFalse(isCompatible(candidate, CompatibilityLevel.BACKWARD, previous).isEmpty());
+    assertCounts(0, 2);
+  }
+
+  private List<String> isCompatible(ParsedSchema candidate, CompatibilityLevel level,
+      List<ParsedSchemaHolder> previous) throws Exception {
+    return cache.isCompatible(candidate, false, level, previous, null);
+  }
+
+  private void assertCounts(int hits, int misses) {
+    assertEquals((double) hits, metrics.metric(hitName).metricValue());
+    assertEquals((double) misses, metrics.metric(missName).metricValue());
+  }
+
+  private static class StoredSchemaHolder extends LazyParsedSchemaHolder {
+    private final SchemaValue schemaValue;
+    private final ParsedSchema schema;
+
+    StoredSchemaHolder(String subject, int version, int id, String schemaString) {
+      super(null, new SchemaKey(subject, version));
+      this.schemaValue = new SchemaValue(subject, version, id, AvroSchema.TYPE,
+          Collections.emptyList(), schemaString, false);
+      this.schema = new AvroSchema(schemaString);
+    }
+
+    @Override
+    public SchemaValue schemaValue() {
+      return schemaValue;
+    }
+
+    @Override
+    public ParsedSchema schema() {
+      return schema;
+    }
+  }
+}
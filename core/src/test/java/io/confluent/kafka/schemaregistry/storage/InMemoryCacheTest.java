@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.confluent.kafka.schemaregistry.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class InMemoryCacheTest {
+
+  @Test
+  public void testVersionIndex() throws Exception {
+    InMemoryCache<SchemaRegistryKey, SchemaRegistryValue> cache = new InMemoryCache<>(null);
+    for (int version = 1; version <= 4; version++) {
+      register(cache, "subject", version, false);
+    }
+    register(cache, "subject", 4, true);
+    SchemaKey key = new SchemaKey("subject", 2);
+    cache.schemaTombstoned(key, (SchemaValue) cache.delete(key));
+
+    assertEquals(Arrays.asList(1, 3), cache.versions("subject", LookupFilter.DEFAULT));
+    assertEquals(Collections.singletonList(4),
+        cache.versions("subject", LookupFilter.DELETED_ONLY));
+    assertEquals(Arrays.asList(1, 3, 4),
+        cache.versions("subject", LookupFilter.INCLUDE_DELETED));
+    assertEquals(Integer.valueOf(3), cache.latestVersion("subject", LookupFilter.DEFAULT));
+    assertEquals(Integer.valueOf(4),
+        cache.latestVersion("subject", LookupFilter.INCLUDE_DELETED));
+
+    assertEquals(Collections.emptyList(), cache.versions("other", LookupFilter.DEFAULT));
+    assertEquals(Integer.valueOf(-1), cache.latestVersion("other", LookupFilter.DEFAULT));
+    assertNull(cache.versions(":*:subject", LookupFilter.DEFAULT));
+
+    // Clearing removes the soft-deleted versions
+    cache.clearSubjects("subject");
+    assertEquals(Arrays.asList(1, 3), cache.versions("subject", LookupFilter.INCLUDE_DELETED));
+  }
+
+  @Test
+  public void testVersionIndexNormalizesSubjects() throws Exception {
+    InMemoryCache<SchemaRegistryKey, SchemaRegistryValue> cache = new InMemoryCache<>(null);
+    register(cache, "subject", 1, false);
+    register(cache, ":.:subject", 2, false);
+
+    // The default context may be explicit, as for the keys of the store
+    assertEquals(Arrays.asList(1, 2), cache.versions("subject", LookupFilter.DEFAULT));
+    assertEquals(Arrays.asList(1, 2), cache.versions(":.:subject", LookupFilter.DEFAULT));
+    assertEquals(Integer.valueOf(2), cache.latestVersion("subject", LookupFilter.DEFAULT));
+
+    SchemaKey key = new SchemaKey(":.:subject", 1);
+    cache.schemaTombstoned(key, (SchemaValue) cache.delete(key));
+    assertEquals(Collections.singletonList(2), cache.versions("subject", LookupFilter.DEFAULT));
+  }
+
+  @Test
+  public void testContextIndex() throws Exception {
+    InMemoryCache<SchemaRegistryKey, SchemaRegistryValue> cache = new InMemoryCache<>(null);
+    register(cache, ":.b:subject", 1, false);
+    register(cache, ":.a:subject", 1, false);
+    register(cache, "subject", 2, false);
+    register(cache, ":.a:subject", 2, true);
+
+    assertEquals(Arrays.asList(".a", ".b"), new ArrayList<>(cache.contextsById(1, "subject")));
+    assertEquals(Collections.singletonList(".a"),
+        new ArrayList<>(cache.contextsById(2, "subject")));
+    assertEquals(Arrays.asList(".a", ".b"), new ArrayList<>(cache.contextsBySubject("subject")));
+    assertEquals(Collections.emptySet(), cache.contextsById(1, "other"));
+
+    SchemaKey key = new SchemaKey(":.b:subject", 1);
+    cache.schemaTombstoned(key, (SchemaValue) cache.delete(key));
+    assertEquals(Collections.singletonList(".a"),
+        new ArrayList<>(cache.contextsById(1, "subject")));
+
+    // Clearing removes the soft-deleted versions
+    cache.clearSubjects(":.a:subject");
+    assertEquals(Collections.emptySet(), cache.contextsById(2, "subject"));
+    assertEquals(Collections.singletonList(".a"),
+        new ArrayList<>(cache.contextsBySubject("subject")));
+  }
+
+  private static void register(InMemoryCache<SchemaRegistryKey, SchemaRegistryValue> cache,
+      String subject, int version, boolean deleted) throws Exception {
+    SchemaKey key = new SchemaKey(subject, version);
+    SchemaValue value = new SchemaValue(subject, version, version, "AVRO",
+        Collections.emptyList(), "\"string\"", deleted);
+    SchemaValue oldValue = (SchemaValue) cache.put(key, value);
+    if (deleted) {
+      cache.schemaDeleted(key, value, oldValue);
+    } else {
+      cache.schemaRegistered(key, value, oldValue);
+    }
+  }
+}
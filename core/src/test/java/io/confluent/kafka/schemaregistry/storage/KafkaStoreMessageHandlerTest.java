@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.confluent.kafka.schemaregistry.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.confluent.kafka.schemaregistry.CompatibilityLevel;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaProvider;
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
+import io.confluent.kafka.schemaregistry.storage.serialization.SchemaRegistrySerializer;
+import java.util.Properties;
+import org.junit.Test;
+
+public class KafkaStoreMessageHandlerTest {
+
+  private static final String SCHEMA = "{ \"type\" : \"record\", \"name\" : \"r\", "
+      + "\"fields\" : [ { \"name\" : \"f1\", \"type\" : \"string\" } ] }";
+  private static final String CANONICAL_SCHEMA = "{\"type\":\"record\",\"name\":\"r\","
+      + "\"fields\":[{\"name\":\"f1\",\"type\":\"string\"}]}";
+
+  @Test
+  public void testPrepareUpdateCanonicalizes() throws Exception {
+    KafkaStoreMessageHandler handler = handler(AvroSchema.TYPE);
+    SchemaValue schemaValue = new SchemaValue("subject", 1, 1, SCHEMA, false);
+    MD5 md5 = MD5.ofSchema(schemaValue);
+
+    handler.prepareUpdate(new SchemaKey("subject", 1), schemaValue);
+
+    assertEquals(CANONICAL_SCHEMA, schemaValue.getSchema());
+    // The MD5 is computed from the current schema, not from the one before canonicalization
+    assertNotEquals(md5, MD5.ofSchema(schemaValue));
+    assertEquals(MD5.ofSchema(new SchemaValue("subject", 1, 1, CANONICAL_SCHEMA, false)),
+        MD5.ofSchema(schemaValue));
+  }
+
+  @Test
+  public void testPrepareUpdateSkipsOtherTypes() throws Exception {
+    KafkaStoreMessageHandler handler = handler("");
+    SchemaValue schemaValue = new SchemaValue("subject", 1, 1, SCHEMA, false);
+    handler.prepareUpdate(new SchemaKey("subject", 1), schemaValue);
+    assertEquals(SCHEMA, schemaValue.getSchema());
+
+    ConfigValue configValue = new ConfigValue("subject", CompatibilityLevel.FULL);
+    handler.prepareUpdate(new ConfigKey("subject"), configValue);
+    assertEquals(CompatibilityLevel.FULL, configValue.getCompatibilityLevel());
+  }
+
+  private static KafkaStoreMessageHandler handler(String canonicalizeSchemaTypes)
+      throws Exception {
+    Properties props = new Properties();
+    props.setProperty(SchemaRegistryConfig.SCHEMA_CANONICALIZE_ON_CONSUME_CONFIG,
+        canonicalizeSchemaTypes);
+    KafkaSchemaRegistry schemaRegistry = mock(KafkaSchemaRegistry.class);
+    when(schemaRegistry.config()).thenReturn(new SchemaRegistryConfig(props));
+    when(schemaRegistry.schemaProvider(AvroSchema.TYPE)).thenReturn(new AvroSchemaProvider());
+    return new KafkaStoreMessageHandler(schemaRegistry,
+        new InMemoryCache<>(new SchemaRegistrySerializer()), null);
+  }
+}
@@ -15,16 +15,26 @@
 package io.confluent.kafka.schemaregistry.storage;
 
 import io.confluent.kafka.schemaregistry.ClusterTestHarness;
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
 import io.confluent.kafka.schemaregistry.storage.exceptions.StoreTimeoutException;
 import io.confluent.kafka.schemaregistry.utils.TestUtils;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class KafkaStoreReaderThreadTest extends ClusterTestHarness {
@@ -65,4 +75,171 @@ public class KafkaStoreReaderThreadTest extends ClusterTestHarness {
       fail("5 seconds should be more than enough time to reach offset 0 in the log.");
     }
   }
+
+  @Test
+  public void testBatchApply() throws Exception {
+    for (boolean batchApply : new boolean[] {true, false}) {
+      String topic = "_schemas_batch_apply_" + batchApply;
+      int count = 10;
+      KafkaStore<String, String> writer =
+          createStore(topic, batchApply, new StringMessageHandler());
+      long lastOffset = -1L;
+      try {
+        for (int i = 0; i < count; i++) {
+          writer.put("key" + i, "value" + i);
+          assertTrue("Last written offset should increase", writer.lastOffset(null) > lastOffset);
+          lastOffset = writer.lastOffset(null);
+          // The writer's own reader has applied the record
+          assertEquals("value" + i, writer.get("key" + i));
+        }
+      } finally {
+        writer.close();
+      }
+
+      // A new store reads all records back, in as few polls as the consumer returns them
+      RecordingMessageHandler handler = new RecordingMessageHandler();
+      KafkaStore<String, String> reader = createStore(topic, batchApply, handler);
+      try {
+        for (int i = 0; i < count; i++) {
+          assertEquals("value" + i, reader.get("key" + i));
+        }
+        assertEquals(count, handler.offsets.size());
+        for (int i = 1; i < count; i++) {
+          assertTrue(handler.offsets.get(i) > handler.offsets.get(i - 1));
+        }
+        assertEquals(lastOffset, (long) handler.offsets.get(count - 1));
+        reader.getKafkaStoreReaderThread()
+            .waitUntilOffset(lastOffset, 5000L, TimeUnit.MILLISECONDS);
+      } finally {
+        reader.close();
+      }
+    }
+  }
+
+  @Test
+  public void testValidationFailureInBatch() throws Exception {
+    for (boolean batchApply : new boolean[] {true, false}) {
+      String topic = "_schemas_validation_" + batchApply;
+      KafkaStore<String, String> writer =
+          createStore(topic, batchApply, new StringMessageHandler());
+      long lastOffset;
+      try {
+        writer.put("key1", "value1");
+        writer.put("key2", RecordingMessageHandler.IGNORED);
+        writer.put("key3", RecordingMessageHandler.FAILED);
+        writer.put("key4", "value4");
+        lastOffset = writer.lastOffset(null);
+      } finally {
+        writer.close();
+      }
+
+      RecordingMessageHandler handler = new RecordingMessageHandler();
+      KafkaStore<String, String> reader = createStore(topic, batchApply, handler);
+      try {
+        // Records after an invalid or failed update in the same poll are still applied
+        assertEquals("value1", reader.get("key1"));
+        assertNull(reader.get("key2"));
+        assertNull(reader.get("key3"));
+        assertEquals("value4", reader.get("key4"));
+        assertEquals(2, handler.offsets.size());
+        assertEquals(lastOffset, (long) handler.offsets.get(1));
+        reader.getKafkaStoreReaderThread()
+            .waitUntilOffset(lastOffset, 5000L, TimeUnit.MILLISECONDS);
+      } finally {
+        reader.close();
+      }
+    }
+  }
+
+  @Test
+  public void testParallelBootstrap() throws Exception {
+    String topic = "_schemas_parallel_bootstrap";
+    int count = 100;
+    KafkaStore<String, String> writer = createStore(topic, true, new StringMessageHandler());
+    long lastOffset;
+    try {
+      for (int i = 0; i < count; i++) {
+        writer.put("key" + i, i % 10 == 0 ? RecordingMessageHandler.IGNORED : "value" + i);
+      }
+      lastOffset = writer.lastOffset(null);
+    } finally {
+      writer.close();
+    }
+
+    RecordingMessageHandler handler = new RecordingMessageHandler();
+    KafkaStore<String, String> reader = createStore(topic, true, 4, handler);
+    try {
+      for (int i = 0; i < count; i++) {
+        assertEquals(i % 10 == 0 ? null : "value" + i, reader.get("key" + i));
+      }
+      // Every record is prepared before it is validated, and applied in offset order
+      assertEquals(count, handler.prepared.size());
+      assertTrue(handler.validatedBeforePrepared.isEmpty());
+      assertEquals(count - count / 10, handler.offsets.size());
+      for (int i = 1; i < handler.offsets.size(); i++) {
+        assertTrue(handler.offsets.get(i) > handler.offsets.get(i - 1));
+      }
+      reader.getKafkaStoreReaderThread()
+          .waitUntilOffset(lastOffset, 5000L, TimeUnit.MILLISECONDS);
+    } finally {
+      reader.close();
+    }
+  }
+
+  private KafkaStore<String, String> createStore(String topic, boolean batchApply,
+      StoreUpdateHandler<String, String> handler) throws Exception {
+    return createStore(topic, batchApply, 1, handler);
+  }
+
+  private KafkaStore<String, String> createStore(String topic, boolean batchApply,
+      int bootstrapParallelism, StoreUpdateHandler<String, String> handler) throws Exception {
+    Properties props = new Properties();
+    props.put(SchemaRegistryConfig.KAFKASTORE_BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    props.put(SchemaRegistryConfig.KAFKASTORE_TOPIC_CONFIG, topic);
+    props.put(SchemaRegistryConfig.KAFKASTORE_BATCH_APPLY_ENABLE_CONFIG,
+        String.valueOf(batchApply));
+    props.put(SchemaRegistryConfig.KAFKASTORE_BOOTSTRAP_PARALLELISM_CONFIG,
+        String.valueOf(bootstrapParallelism));
+    KafkaStore<String, String> kafkaStore = new KafkaStore<>(new SchemaRegistryConfig(props),
+        handler, StringSerializer.INSTANCE, new InMemoryCache<>(StringSerializer.INSTANCE),
+        new NoopKey().toString());
+    kafkaStore.init();
+    return kafkaStore;
+  }
+
+  /**
+   * Records the prepared keys and the offsets of applied updates, ignores updates with the
+   * value {@link #IGNORED}, and throws on updates with the value {@link #FAILED}.
+   */
+  private static class RecordingMessageHandler extends StringMessageHandler {
+    static final String IGNORED = "ignored";
+    static final String FAILED = "failed";
+
+    final Set<String> prepared = ConcurrentHashMap.newKeySet();
+    final List<String> validatedBeforePrepared = new ArrayList<>();
+    final List<Long> offsets = new ArrayList<>();
+
+    @Override
+    public void prepareUpdate(String key, String value) {
+      prepared.add(key);
+    }
+
+    @Override
+    public ValidationStatus validateUpdate(String key, String value,
+                                           TopicPartition tp, long offset, long timestamp) {
+      if (!prepared.contains(key)) {
+        validatedBeforePrepared.add(key);
+      }
+      if (FAILED.equals(value)) {
+        throw new IllegalStateException("Invalid update to key " + key);
+      }
+      return IGNORED.equals(value) ? ValidationStatus.IGNORE_FAILURE : ValidationStatus.SUCCESS;
+    }
+
+    @Override
+    public void handleUpdate(String key, String value, String oldValue,
+                             TopicPartition tp, long offset, long timestamp) {
+      offsets.add(offset);
+    }
+  }
 }
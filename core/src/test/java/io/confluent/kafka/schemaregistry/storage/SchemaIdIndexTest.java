@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.confluent.kafka.schemaregistry.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class SchemaIdIndexTest {
+
+  @Test
+  public void testPutAndRemove() {
+    SchemaIdIndex index = new SchemaIdIndex();
+    index.put(1, "subject1", 1);
+    index.put(1, "subject2", 3);
+    index.put(2, "subject1", 2);
+
+    Map<String, Integer> expected = new HashMap<>();
+    expected.put("subject1", 1);
+    expected.put("subject2", 3);
+    assertEquals(expected, index.get(1));
+    assertEquals(new SchemaKey("subject1", 1), index.any(1));
+    assertEquals(Integer.valueOf(3), index.version(1, "subject2"));
+    assertNull(index.version(2, "subject2"));
+
+    // Only the matching version is removed
+    index.remove(1, "subject1", 2);
+    assertEquals(expected, index.get(1));
+    index.remove(1, "subject1", 1);
+    assertEquals(new SchemaKey("subject2", 3), index.any(1));
+    index.remove(1, "subject2", 3);
+    assertTrue(index.get(1).isEmpty());
+    assertNull(index.any(1));
+    assertEquals(1, index.size());
+  }
+
+  @Test
+  public void testRemoveIf() {
+    SchemaIdIndex index = new SchemaIdIndex();
+    for (int id = 0; id < 10000; id++) {
+      index.put(id, "subject" + (id % 3), id);
+    }
+    index.removeIf((subject, version) -> subject.equals("subject0") || version % 2 == 0);
+
+    for (int id = 0; id < 10000; id++) {
+      boolean removed = id % 3 == 0 || id % 2 == 0;
+      assertEquals(removed ? null : Integer.valueOf(id), index.version(id, "subject" + (id % 3)));
+    }
+    assertEquals(3333, index.size());
+  }
+
+  @Test
+  public void testHashIndex() {
+    SchemaHashIndex index = new SchemaHashIndex();
+    for (int id = 0; id < 10000; id++) {
+      index.put(md5(id), id);
+    }
+    index.put(md5(5), 50);
+
+    for (int id = 0; id < 10000; id++) {
+      assertEquals(Integer.valueOf(id == 5 ? 50 : id), index.get(md5(id)));
+    }
+    assertNull(index.get(md5(10000)));
+    assertEquals(10000, index.size());
+  }
+
+  private static MD5 md5(int id) {
+    // Share the low half between hashes to exercise probing
+    return new MD5(ByteBuffer.allocate(16).putLong(id).putLong(id % 7).array());
+  }
+}
@@ -18,14 +18,19 @@ package io.confluent.kafka.schemaregistry.storage;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchemaProvider;
+import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
+import java.util.Collections;
 import org.junit.Test;
 
 import io.confluent.kafka.schemaregistry.storage.exceptions.SerializationException;
+import io.confluent.kafka.schemaregistry.storage.serialization.CompactEncoding;
 import io.confluent.kafka.schemaregistry.storage.serialization.SchemaRegistrySerializer;
 import io.confluent.kafka.schemaregistry.storage.serialization.Serializer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class SchemaValuesTest {
@@ -162,6 +167,38 @@ public class SchemaValuesTest {
     assertEquals(newSchema, schemaValue.getSchema());
   }
 
+  @Test
+  public void testSchemaValueCompactEncodingRoundTrip() throws SerializationException {
+    SchemaKey key = new SchemaKey("test", 1);
+    SchemaRegistrySerializer compactSerializer = new SchemaRegistrySerializer();
+    compactSerializer.configure(Collections.singletonMap(
+        SchemaRegistryConfig.KAFKASTORE_VALUE_ENCODING_CONFIG, CompactEncoding.COMPACT));
+    Serializer<SchemaRegistryKey, SchemaRegistryValue> jsonSerializer =
+        new SchemaRegistrySerializer();
+
+    StringBuilder fields = new StringBuilder();
+    for (int i = 0; i < 50; i++) {
+      fields.append(i > 0 ? "," : "")
+          .append("{\"name\":\"f").append(i).append("\",\"type\":\"string\"}");
+    }
+    String schema = "{\"type\":\"record\",\"name\":\"myrecord\",\"fields\":["
+        + fields + "]}";
+    SchemaValue schemaValue =
+        new SchemaValue("test", 1, 1, AvroSchema.TYPE, null, schema, false);
+
+    byte[] compactBytes = compactSerializer.serializeValue(schemaValue);
+    byte[] jsonBytes = jsonSerializer.serializeValue(schemaValue);
+    assertTrue(CompactEncoding.isCompact(compactBytes));
+    assertFalse(CompactEncoding.isCompact(jsonBytes));
+    assertTrue(compactBytes.length < jsonBytes.length);
+
+    // Both encodings are readable regardless of the configured encoding
+    assertSchemaValue("test", 1, 1, schema, AvroSchema.TYPE, false,
+        (SchemaValue) jsonSerializer.deserializeValue(key, compactBytes));
+    assertSchemaValue("test", 1, 1, schema, AvroSchema.TYPE, false,
+        (SchemaValue) compactSerializer.deserializeValue(key, jsonBytes));
+  }
+
   private void assertSchemaValue(String subject, int version, int schemaId,
                                  String schema, String type, boolean deleted,
                                  SchemaValue schemaValue) {
@@ -22,6 +22,9 @@ import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.crypto.tink.KeyTemplates;
+import com.google.crypto.tink.KeysetHandle;
+import com.google.crypto.tink.KeysetManager;
 import io.confluent.kafka.schemaregistry.client.rest.entities.Metadata;
 import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
 import io.confluent.kafka.schemaregistry.storage.KafkaSchemaRegistry;
@@ -67,4 +70,47 @@ public class MetadataEncoderServiceTest {
     assertEquals(schema.getMetadata().getProperties().get("sensitive"), "foo");
     assertNull(schema.getMetadata().getProperties().get(SchemaValue.ENCODED_PROPERTY));
   }
+
+  @Test
+  public void testDecodingCopiesAndRotation() throws Exception {
+    KafkaSchemaRegistry schemaRegistry = mock(KafkaSchemaRegistry.class);
+    Properties props = new Properties();
+    props.setProperty(SchemaRegistryConfig.METADATA_ENCODER_SECRET_CONFIG, "mysecret");
+    SchemaRegistryConfig config = new SchemaRegistryConfig(props);
+    when(schemaRegistry.config()).thenReturn(config);
+    Cache<String, KeysetWrapper> encoders = new InMemoryCache<>();
+    MetadataEncoderService encoderService = new MetadataEncoderService(schemaRegistry, encoders);
+    encoderService.init();
+
+    Map<String, String> properties = new HashMap<>();
+    properties.put("sensitive", "foo");
+    Metadata metadata = new Metadata(null, properties, Collections.singleton("sensitive"));
+    SchemaValue schema = new SchemaValue(
+        "mysubject", null, null, null, null, null,
+        new io.confluent.kafka.schemaregistry.storage.Metadata(metadata), null, "true", false);
+    encoderService.encodeMetadata(schema);
+    Metadata encoded = schema.getMetadata().toMetadataEntity();
+
+    // Copies of a stored value share its ciphertext
+    for (int i = 0; i < 2; i++) {
+      SchemaValue copy = new SchemaValue(
+          "mysubject", null, null, null, null, null,
+          new io.confluent.kafka.schemaregistry.storage.Metadata(encoded), null, "true", false);
+      encoderService.decodeMetadata(copy);
+      assertEquals("foo", copy.getMetadata().getProperties().get("sensitive"));
+    }
+
+    // A rotated keyset can still decode values encoded with the previous key
+    String tenant = encoders.keySet().iterator().next();
+    KeysetHandle handle = encoders.get(tenant).getKeysetHandle();
+    KeysetHandle rotated = KeysetManager.withKeysetHandle(handle)
+        .add(KeyTemplates.get("AES128_GCM"))
+        .getKeysetHandle();
+    encoders.put(tenant, new KeysetWrapper(rotated, false));
+    SchemaValue copy = new SchemaValue(
+        "mysubject", null, null, null, null, null,
+        new io.confluent.kafka.schemaregistry.storage.Metadata(encoded), null, "true", false);
+    encoderService.decodeMetadata(copy);
+    assertEquals("foo", copy.getMetadata().getProperties().get("sensitive"));
+  }
 }
@@ -60,6 +60,7 @@ public class DefaultDekCacheUpdateHandler implements DekCacheUpdateHandler {
       long offset,
       long timestamp) {
     String tenant = key.getTenant();
+    invalidateUnwrappedDeks(key, oldValue);
     if (value == null) {
       if (oldValue != null) {
         // Delete KEK/DEK case
@@ -100,6 +101,27 @@ public class DefaultDekCacheUpdateHandler implements DekCacheUpdateHandler {
     }
   }
 
+  private void invalidateUnwrappedDeks(EncryptionKeyId key, EncryptionKey oldValue) {
+    UnwrappedDekCache unwrappedDeks = dekRegistry.getUnwrappedDeks();
+    if (unwrappedDeks == null || oldValue == null) {
+      return;
+    }
+    if (key instanceof DataEncryptionKeyId) {
+      unwrappedDeks.invalidate((DataEncryptionKeyId) key);
+    } else if (key instanceof KeyEncryptionKeyId) {
+      // The kek may no longer be shared, so drop any deks it unwrapped
+      unwrappedDeks.invalidateKek(key.getTenant(), ((KeyEncryptionKeyId) key).getName());
+    }
+  }
+
+  @Override
+  public void cacheReset() {
+    UnwrappedDekCache unwrappedDeks = dekRegistry.getUnwrappedDeks();
+    if (unwrappedDeks != null) {
+      unwrappedDeks.invalidateAll();
+    }
+  }
+
   @Override
   public void close() {
   }
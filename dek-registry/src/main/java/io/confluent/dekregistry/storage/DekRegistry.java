@@ -124,6 +124,7 @@ public class DekRegistry implements Closeable {
   final Cache<EncryptionKeyId, EncryptionKey> keys;
   private final SetMultimap<String, KeyEncryptionKeyId> sharedKeys;
   private final Map<DekFormat, Cryptor> cryptors;
+  private final UnwrappedDekCache unwrappedDeks;
   private final Map<String, Lock> tenantToLock = new ConcurrentHashMap<>();
   private final AtomicBoolean initialized = new AtomicBoolean();
   private final CountDownLatch initLatch = new CountDownLatch(1);
@@ -138,6 +139,10 @@ public class DekRegistry implements Closeable {
       this.schemaRegistry.addUpdateRequestHandler(new EncryptionUpdateRequestHandler());
       this.metricsManager = metricsManager;
       this.config = new DekRegistryConfig(schemaRegistry.config().originalProperties());
+      this.unwrappedDeks = config.unwrappedDekCacheSize() > 0
+          ? new UnwrappedDekCache(
+              config.unwrappedDekCacheSize(), config.unwrappedDekCacheExpirySecs())
+          : null;
       this.keys = createCache(new EncryptionKeyIdSerde(), new EncryptionKeySerde(),
           config.topic(), getCacheUpdateHandler(config));
       this.sharedKeys = Multimaps.synchronizedSetMultimap(TreeMultimap.create());
@@ -226,6 +231,10 @@ public class DekRegistry implements Closeable {
     return sharedKeys;
   }
 
+  protected UnwrappedDekCache getUnwrappedDeks() {
+    return unwrappedDeks;
+  }
+
   protected Cryptor getCryptor(DekFormat dekFormat) {
     return cryptors.computeIfAbsent(dekFormat, k -> {
       try {
@@ -384,10 +393,26 @@ public class DekRegistry implements Closeable {
   public DataEncryptionKey getLatestDek(String kekName, String subject, DekFormat algorithm,
       boolean lookupDeleted) throws SchemaRegistryException {
     String tenant = schemaRegistry.tenant();
-    List<KeyValue<EncryptionKeyId, EncryptionKey>> deks =
-        getDeks(tenant, kekName, subject, algorithm, lookupDeleted);
-    Collections.reverse(deks);
-    return deks.isEmpty() ? null : (DataEncryptionKey) deks.get(0).value;
+    if (algorithm == null) {
+      algorithm = DekFormat.AES256_GCM;
+    }
+    DataEncryptionKeyId key1 = new DataEncryptionKeyId(
+        tenant, kekName, subject,
+        algorithm, MIN_VERSION);
+    DataEncryptionKeyId key2 = new DataEncryptionKeyId(
+        tenant, kekName, subject,
+        algorithm, Integer.MAX_VALUE);
+    // Scan from the highest version down so that only the latest key is visited
+    try (KeyValueIterator<EncryptionKeyId, EncryptionKey> iter =
+        keys().descendingCache().range(key2, false, key1, true)) {
+      while (iter.hasNext()) {
+        KeyValue<EncryptionKeyId, EncryptionKey> kv = iter.next();
+        if (!kv.value.isDeleted() || lookupDeleted) {
+          return (DataEncryptionKey) kv.value;
+        }
+      }
+    }
+    return null;
   }
 
   public DataEncryptionKey getDek(String kekName, String subject, int version,
@@ -405,7 +430,7 @@ public class DekRegistry implements Closeable {
     if (key != null && (!key.isDeleted() || lookupDeleted)) {
       KeyEncryptionKey kek = getKek(key.getKekName(), true);
       if (kek.isShared()) {
-        key = generateRawDek(kek, key);
+        key = getRawDek(kek, keyId, key);
       }
       return key;
     } else {
@@ -580,7 +605,7 @@ public class DekRegistry implements Closeable {
     if (kek.isShared()) {
       Mode mode = schemaRegistry.getModeInScope(request.getSubject());
       if (mode != Mode.IMPORT) {
-        key = generateRawDek(kek, key);
+        key = getRawDek(kek, keyId, key);
       }
     }
     return key;
@@ -604,6 +629,21 @@ public class DekRegistry implements Closeable {
     }
   }
 
+  protected DataEncryptionKey getRawDek(
+      KeyEncryptionKey kek, DataEncryptionKeyId keyId, DataEncryptionKey key)
+      throws DekGenerationException {
+    if (unwrappedDeks == null) {
+      return generateRawDek(kek, key);
+    }
+    String rawDekStr = unwrappedDeks.get(keyId, key.getEncryptedKeyMaterial());
+    if (rawDekStr != null) {
+      return copyDek(key, rawDekStr);
+    }
+    DataEncryptionKey newKey = generateRawDek(kek, key);
+    unwrappedDeks.put(keyId, key.getEncryptedKeyMaterial(), newKey.getKeyMaterial());
+    return newKey;
+  }
+
   protected DataEncryptionKey generateRawDek(KeyEncryptionKey kek, DataEncryptionKey key)
       throws DekGenerationException {
     try {
@@ -614,18 +654,21 @@ public class DekRegistry implements Closeable {
       byte[] rawDek = aead.decrypt(encryptedDek, EMPTY_AAD);
       String rawDekStr =
           new String(Base64.getEncoder().encode(rawDek), StandardCharsets.UTF_8);
-      // Copy dek
-      DataEncryptionKey newKey = new DataEncryptionKey(key.getKekName(), key.getSubject(),
-          key.getAlgorithm(), key.getVersion(), key.getEncryptedKeyMaterial(), key.isDeleted());
-      newKey.setKeyMaterial(rawDekStr);
-      newKey.setTimestamp(key.getTimestamp());
-      return newKey;
+      return copyDek(key, rawDekStr);
     } catch (GeneralSecurityException e) {
       log.error("Could not generate raw dek for " + key.getSubject(), e);
       throw new DekGenerationException("Could not generate raw dek for " + key.getSubject());
     }
   }
 
+  private static DataEncryptionKey copyDek(DataEncryptionKey key, String rawDekStr) {
+    DataEncryptionKey newKey = new DataEncryptionKey(key.getKekName(), key.getSubject(),
+        key.getAlgorithm(), key.getVersion(), key.getEncryptedKeyMaterial(), key.isDeleted());
+    newKey.setKeyMaterial(rawDekStr);
+    newKey.setTimestamp(key.getTimestamp());
+    return newKey;
+  }
+
   protected Aead getAead(KeyEncryptionKey kek) throws GeneralSecurityException {
     return kek.toKekEntity().toAead(config.originals());
   }
@@ -1152,6 +1195,9 @@ public class DekRegistry implements Closeable {
     if (keys != null) {
       keys.close();
     }
+    if (unwrappedDeks != null) {
+      unwrappedDeks.invalidateAll();
+    }
   }
 
   private static byte[] toJson(Object o) throws JsonProcessingException {
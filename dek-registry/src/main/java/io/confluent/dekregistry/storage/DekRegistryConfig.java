@@ -18,6 +18,7 @@ package io.confluent.dekregistry.storage;
 import static org.apache.kafka.common.config.ConfigDef.Importance.HIGH;
 import static org.apache.kafka.common.config.ConfigDef.Importance.LOW;
 import static org.apache.kafka.common.config.ConfigDef.Type.INT;
+import static org.apache.kafka.common.config.ConfigDef.Type.LONG;
 import static org.apache.kafka.common.config.ConfigDef.Type.STRING;
 
 import io.confluent.kafka.schemaregistry.rest.SchemaRegistryConfig;
@@ -36,9 +37,15 @@ public class DekRegistryConfig extends SchemaRegistryConfig {
   public static final String DEK_REGISTRY_TOPIC_CONFIG = "dek.registry.topic";
   public static final String DEK_REGISTRY_MAX_KEYS_CONFIG = "dek.registry.max.keys";
   public static final String DEK_REGISTRY_UPDATE_HANDLERS_CONFIG = "dek.registry.update.handlers";
+  public static final String DEK_REGISTRY_UNWRAPPED_DEK_CACHE_SIZE_CONFIG =
+      "dek.registry.unwrapped.dek.cache.size";
+  public static final String DEK_REGISTRY_UNWRAPPED_DEK_CACHE_EXPIRY_SECS_CONFIG =
+      "dek.registry.unwrapped.dek.cache.expiry.secs";
 
   protected static final String DEK_REGISTRY_TOPIC_DEFAULT = "_dek_registry_keys";
   protected static final int DEK_REGISTRY_MAX_KEYS_DEFAULT = 10000;
+  protected static final int DEK_REGISTRY_UNWRAPPED_DEK_CACHE_SIZE_DEFAULT = 10000;
+  protected static final long DEK_REGISTRY_UNWRAPPED_DEK_CACHE_EXPIRY_SECS_DEFAULT = 300;
 
   protected static final String DEK_REGISTRY_TOPIC_DOC =
       "The topic used to persist keys for the dek registry.";
@@ -47,6 +54,11 @@ public class DekRegistryConfig extends SchemaRegistryConfig {
   protected static final String DEK_REGISTRY_UPDATE_HANDLERS_DOC =
       "A list of classes to use as CacheUpdateHandler. Implementing the interface "
           + "<code>CacheUpdateHandler</code> allows you to handle Kafka cache update events.";
+  protected static final String DEK_REGISTRY_UNWRAPPED_DEK_CACHE_SIZE_DOC =
+      "Maximum number of unwrapped deks of shared keks to cache. "
+          + "A value of 0 disables the cache.";
+  protected static final String DEK_REGISTRY_UNWRAPPED_DEK_CACHE_EXPIRY_SECS_DOC =
+      "Number of seconds after which an unwrapped dek is evicted from the cache.";
 
   private static final ConfigDef serverConfig;
 
@@ -57,7 +69,13 @@ public class DekRegistryConfig extends SchemaRegistryConfig {
         .define(DEK_REGISTRY_MAX_KEYS_CONFIG, INT, DEK_REGISTRY_MAX_KEYS_DEFAULT,
             LOW, DEK_REGISTRY_MAX_KEYS_DOC)
         .define(DEK_REGISTRY_UPDATE_HANDLERS_CONFIG, ConfigDef.Type.LIST, "",
-            LOW, DEK_REGISTRY_UPDATE_HANDLERS_DOC);
+            LOW, DEK_REGISTRY_UPDATE_HANDLERS_DOC)
+        .define(DEK_REGISTRY_UNWRAPPED_DEK_CACHE_SIZE_CONFIG, INT,
+            DEK_REGISTRY_UNWRAPPED_DEK_CACHE_SIZE_DEFAULT,
+            LOW, DEK_REGISTRY_UNWRAPPED_DEK_CACHE_SIZE_DOC)
+        .define(DEK_REGISTRY_UNWRAPPED_DEK_CACHE_EXPIRY_SECS_CONFIG, LONG,
+            DEK_REGISTRY_UNWRAPPED_DEK_CACHE_EXPIRY_SECS_DEFAULT,
+            LOW, DEK_REGISTRY_UNWRAPPED_DEK_CACHE_EXPIRY_SECS_DOC);
   }
 
   private static Properties getPropsFromFile(String propsFile) throws RestConfigException {
@@ -94,4 +112,12 @@ public class DekRegistryConfig extends SchemaRegistryConfig {
   public int maxKeys() {
     return getInt(DEK_REGISTRY_MAX_KEYS_CONFIG);
   }
+
+  public int unwrappedDekCacheSize() {
+    return getInt(DEK_REGISTRY_UNWRAPPED_DEK_CACHE_SIZE_CONFIG);
+  }
+
+  public long unwrappedDekCacheExpirySecs() {
+    return getLong(DEK_REGISTRY_UNWRAPPED_DEK_CACHE_EXPIRY_SECS_CONFIG);
+  }
 }
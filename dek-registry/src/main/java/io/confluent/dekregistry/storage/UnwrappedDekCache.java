@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.dekregistry.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.confluent.kafka.schemaregistry.encryption.tink.Cryptor;
+import io.confluent.kafka.schemaregistry.encryption.tink.DekFormat;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of unwrapped (KMS-decrypted) DEKs for shared KEKs.
+ *
+ * <p>The raw key material is never held in the clear. Each entry is encrypted with an
+ * ephemeral key that is generated in memory when the cache is created and never persisted,
+ * so a heap dump alone does not reveal the raw DEKs. An entry is only returned if the
+ * encrypted key material it was derived from is still the current one.
+ */
+public class UnwrappedDekCache {
+
+  private static final Logger log = LoggerFactory.getLogger(UnwrappedDekCache.class);
+
+  private static final DekFormat WRAPPING_FORMAT = DekFormat.AES256_GCM;
+
+  private final Cache<DataEncryptionKeyId, Entry> cache;
+  private final Cryptor cryptor;
+  private final byte[] wrappingKey;
+
+  public UnwrappedDekCache(int maxSize, long expirySecs) {
+    try {
+      this.cryptor = new Cryptor(WRAPPING_FORMAT);
+      this.wrappingKey = cryptor.generateKey();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("Could not create unwrapped dek cache", e);
+    }
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder()
+        .maximumSize(maxSize);
+    if (expirySecs >= 0) {
+      cacheBuilder = cacheBuilder.expireAfterWrite(Duration.ofSeconds(expirySecs));
+    }
+    this.cache = cacheBuilder.build();
+  }
+
+  /**
+   * Returns the raw key material for the given DEK, or null if it is not cached
+   * or was cached for different encrypted key material.
+   */
+  public String get(DataEncryptionKeyId keyId, String encryptedKeyMaterial) {
+    Entry entry = cache.getIfPresent(keyId);
+    if (entry == null || !Objects.equals(entry.encryptedKeyMaterial, encryptedKeyMaterial)) {
+      return null;
+    }
+    try {
+      byte[] rawDek = cryptor.decrypt(wrappingKey, entry.wrappedKeyMaterial, aad(keyId));
+      return new String(rawDek, StandardCharsets.UTF_8);
+    } catch (GeneralSecurityException e) {
+      log.warn("Could not unwrap cached dek for " + keyId.getSubject(), e);
+      cache.invalidate(keyId);
+      return null;
+    }
+  }
+
+  public void put(DataEncryptionKeyId keyId, String encryptedKeyMaterial, String keyMaterial) {
+    try {
+      byte[] wrapped = cryptor.encrypt(
+          wrappingKey, keyMaterial.getBytes(StandardCharsets.UTF_8), aad(keyId));
+      cache.put(keyId, new Entry(encryptedKeyMaterial, wrapped));
+    } catch (GeneralSecurityException e) {
+      log.warn("Could not wrap dek for " + keyId.getSubject(), e);
+    }
+  }
+
+  public void invalidate(DataEncryptionKeyId keyId) {
+    cache.invalidate(keyId);
+  }
+
+  public void invalidateKek(String tenant, String kekName) {
+    cache.asMap().keySet().removeIf(id ->
+        id.getTenant().equals(tenant) && id.getKekName().equals(kekName));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  private static byte[] aad(DataEncryptionKeyId keyId) {
+    // Bind each wrapped entry to its key id so entries cannot be swapped
+    String aad = keyId.getTenant() + ":" + keyId.getKekName() + ":" + keyId.getSubject()
+        + ":" + keyId.getAlgorithm() + ":" + keyId.getVersion();
+    return aad.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static class Entry {
+    private final String encryptedKeyMaterial;
+    private final byte[] wrappedKeyMaterial;
+
+    Entry(String encryptedKeyMaterial, byte[] wrappedKeyMaterial) {
+      this.encryptedKeyMaterial = encryptedKeyMaterial;
+      this.wrappedKeyMaterial = wrappedKeyMaterial;
+    }
+  }
+}
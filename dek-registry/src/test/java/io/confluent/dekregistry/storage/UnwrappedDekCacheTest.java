@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Confluent Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.confluent.io/confluent-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package io.confluent.dekregistry.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import io.confluent.kafka.schemaregistry.encryption.tink.DekFormat;
+import org.junit.Test;
+
+public class UnwrappedDekCacheTest {
+
+  private static final DataEncryptionKeyId KEY_ID = new DataEncryptionKeyId(
+      "default", "kek1", "subject1", DekFormat.AES256_GCM, 1);
+  private static final DataEncryptionKeyId OTHER_KEY_ID = new DataEncryptionKeyId(
+      "default", "kek2", "subject1", DekFormat.AES256_GCM, 1);
+
+  @Test
+  public void testRoundTrip() {
+    UnwrappedDekCache cache = new UnwrappedDekCache(10, 60);
+    cache.put(KEY_ID, "encrypted", "raw");
+    assertEquals("raw", cache.get(KEY_ID, "encrypted"));
+    assertNull(cache.get(OTHER_KEY_ID, "encrypted"));
+  }
+
+  @Test
+  public void testStaleEncryptedMaterial() {
+    UnwrappedDekCache cache = new UnwrappedDekCache(10, 60);
+    cache.put(KEY_ID, "encrypted", "raw");
+    assertNull(cache.get(KEY_ID, "encrypted2"));
+  }
+
+  @Test
+  public void testInvalidateKek() {
+    UnwrappedDekCache cache = new UnwrappedDekCache(10, 60);
+    cache.put(KEY_ID, "encrypted", "raw");
+    cache.put(OTHER_KEY_ID, "encrypted", "raw2");
+    cache.invalidateKek("default", "kek1");
+    assertNull(cache.get(KEY_ID, "encrypted"));
+    assertEquals("raw2", cache.get(OTHER_KEY_ID, "encrypted"));
+  }
+}
@@ -18,7 +18,6 @@ package io.confluent.kafka.schemaregistry.maven;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.json.JsonSchema;
 import io.confluent.kafka.schemaregistry.maven.derive.schema.DeriveAvroSchema;
@@ -32,14 +31,14 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 
+import java.io.BufferedReader;
 import java.io.FileOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Files;
 
 @Mojo(name = "derive-schema", configurator = "custom-basic")
 public class DeriveSchemaMojo extends AbstractMojo {
@@ -53,6 +52,10 @@ public class DeriveSchemaMojo extends AbstractMojo {
   @Parameter(defaultValue = "AVRO")
   String schemaType;
 
+  // The number of threads deriving schemas, 0 for the number of processors
+  @Parameter(defaultValue = "0")
+  int parallelism;
+
   protected static final ObjectMapper mapper = JacksonMapper.INSTANCE;
 
   public static void writeOutput(File outputPath, JsonNode schemaInformation) throws IOException {
@@ -63,34 +66,8 @@ public class DeriveSchemaMojo extends AbstractMojo {
     writer.close();
   }
 
-  public static List<JsonNode> readLinesOfMessages(File messagePath) throws IOException {
-    String content = MojoUtils.readFile(messagePath, StandardCharsets.UTF_8);
-    List<JsonNode> listOfMessages = new ArrayList<>();
-    String[] lineSeparatedMessages = content.split("\n");
-    for (int i = 0; i < lineSeparatedMessages.length; i++) {
-      // Ignore empty messages
-      if (lineSeparatedMessages[i].length() == 0) {
-        continue;
-      }
-      try {
-        listOfMessages.add(mapper.readValue(lineSeparatedMessages[i], ObjectNode.class));
-      } catch (IOException e) {
-        throw new IllegalArgumentException(
-            String.format("Message on line %d is an invalid JSON message", i + 1), e);
-      }
-    }
-    return listOfMessages;
-  }
-
   @Override
   public void execute() throws MojoExecutionException {
-    List<JsonNode> listOfMessages;
-    try {
-      listOfMessages = readLinesOfMessages(messagePath);
-    } catch (IOException e) {
-      throw new MojoExecutionException("Exception thrown while reading input file", e);
-    }
-
     DeriveSchema derive;
     if (schemaType.equalsIgnoreCase(JsonSchema.TYPE)) {
       derive = new DeriveJsonSchema();
@@ -103,8 +80,13 @@ public class DeriveSchemaMojo extends AbstractMojo {
     }
 
     JsonNode schemaInformation;
-    try {
-      schemaInformation = derive.getSchemaForMultipleMessages(listOfMessages);
+    // Stream the messages, so that large samples do not need to fit in memory
+    try (BufferedReader reader = Files.newBufferedReader(
+        messagePath.toPath(), StandardCharsets.UTF_8)) {
+      schemaInformation = derive.getSchemaForMultipleMessages(
+          reader, parallelism, DeriveSchema.DEFAULT_CHUNK_SIZE);
+    } catch (IOException e) {
+      throw new MojoExecutionException("Exception thrown while reading input file", e);
     } catch (Exception e) {
       throw new MojoExecutionException("Exception thrown while deriving schema", e);
     }
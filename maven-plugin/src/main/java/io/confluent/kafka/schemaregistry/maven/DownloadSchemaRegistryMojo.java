@@ -21,6 +21,8 @@ import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.client.SchemaMetadata;
 
 import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SubjectVersion;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
 import io.confluent.kafka.schemaregistry.json.JsonSchema;
 import io.confluent.kafka.schemaregistry.protobuf.ProtobufSchema;
 import java.net.URLEncoder;
@@ -36,10 +38,16 @@ import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -63,6 +71,10 @@ public class DownloadSchemaRegistryMojo extends SchemaRegistryMojo {
   @Parameter(required = false)
   boolean encodeSubject = true;
 
+  // An optional directory in which schemas downloaded for a given version are cached
+  @Parameter(required = false)
+  File cacheDirectory;
+
   Map<String, ParsedSchema> downloadSchemas(List<String> subjects, List<String> versionsToDownload)
       throws MojoExecutionException {
     Map<String, ParsedSchema> results = new LinkedHashMap<>();
@@ -71,42 +83,167 @@ public class DownloadSchemaRegistryMojo extends SchemaRegistryMojo {
       throw new MojoExecutionException("Number of versions specified should "
           + "be same as number of subjects");
     }
-    for (int i = 0; i < subjects.size(); i++) {
-      SchemaMetadata schemaMetadata;
-      try {
-        getLog().info(String.format("Downloading metadata "
-            + "for %s.for version %s", subjects.get(i), versionsToDownload.get(i)));
-        schemaMetadata = this.client().getLatestSchemaMetadata(subjects.get(i));
-        if (!versionsToDownload.get(i).equalsIgnoreCase("latest")) {
-          Integer maxVersion = schemaMetadata.getVersion();
-          if (maxVersion < Integer.parseInt(versionsToDownload.get(i))) {
-            throw new MojoExecutionException(
-                String.format("Max possible version "
-                    + "for %s is %d", subjects.get(i), maxVersion));
-          } else {
-            schemaMetadata = this.client().getSchemaMetadata(subjects.get(i),
-                Integer.parseInt(versionsToDownload.get(i)));
-          }
-        }
-        Optional<ParsedSchema> schema = this.client().parseSchema(new Schema(null, schemaMetadata));
-        if (schema.isPresent()) {
-          results.put(subjects.get(i), schema.get());
-        } else {
+    SchemaFileCache cache = cacheDirectory != null ? new SchemaFileCache(cacheDirectory) : null;
+    // Initialize the client before it is shared by the request threads
+    this.client();
+    ExecutorService executor = requestExecutor();
+    try {
+      List<Future<ParsedSchema>> futures = new ArrayList<>(subjects.size());
+      for (int i = 0; i < subjects.size(); i++) {
+        String subject = subjects.get(i);
+        String version = versionsToDownload.get(i);
+        futures.add(executor.submit(() -> downloadSchema(subject, version, cache)));
+      }
+      for (int i = 0; i < subjects.size(); i++) {
+        try {
+          results.put(subjects.get(i), futures.get(i).get());
+        } catch (ExecutionException ex) {
           throw new MojoExecutionException(
-              String.format("Error while parsing schema for %s", subjects.get(i))
+              String.format("Exception thrown while downloading metadata for %s.", subjects.get(i)),
+              ex.getCause()
           );
         }
-      } catch (Exception ex) {
-        throw new MojoExecutionException(
-            String.format("Exception thrown while downloading metadata for %s.", subjects.get(i)),
-            ex
-        );
       }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted while downloading metadata", ex);
+    } finally {
+      executor.shutdownNow();
     }
 
     return results;
   }
 
+  private ParsedSchema downloadSchema(String subject, String version, SchemaFileCache cache)
+      throws Exception {
+    getLog().info(String.format("Downloading metadata "
+        + "for %s.for version %s", subject, version));
+    // The latest version is fetched in a single request, which the cache can not improve on
+    Schema schema = cache != null && !version.equalsIgnoreCase("latest")
+        ? fetchSchemaWithCache(subject, Integer.parseInt(version), cache)
+        : fetchSchema(subject, version);
+    Optional<ParsedSchema> parsedSchema = this.client().parseSchema(schema);
+    if (!parsedSchema.isPresent()) {
+      throw new MojoExecutionException(
+          String.format("Error while parsing schema for %s", subject)
+      );
+    }
+    return parsedSchema.get();
+  }
+
+  private Schema fetchSchemaWithCache(String subject, int version, SchemaFileCache cache)
+      throws Exception {
+    Schema schema = cache.get(subject, version);
+    if (schema != null && isRegistered(schema)) {
+      getLog().debug(String.format("Using cached schema for %s version %d", subject, version));
+      return schema;
+    }
+    schema = fetchSchema(subject, String.valueOf(version));
+    cache.put(schema);
+    return schema;
+  }
+
+  /**
+   * Returns whether the registry still maps the ID of the schema to its subject and version,
+   * which is not the case if the version was deleted and then reused for another schema.
+   */
+  private boolean isRegistered(Schema schema) throws IOException {
+    try {
+      return this.client().getAllVersionsById(schema.getId())
+          .contains(new SubjectVersion(schema.getSubject(), schema.getVersion()));
+    } catch (RestClientException e) {
+      getLog().debug(String.format("Schema ID %d is no longer registered", schema.getId()), e);
+      return false;
+    }
+  }
+
+  private Schema fetchSchema(String subject, String version) throws Exception {
+    SchemaMetadata schemaMetadata = this.client().getLatestSchemaMetadata(subject);
+    if (!version.equalsIgnoreCase("latest")) {
+      Integer maxVersion = schemaMetadata.getVersion();
+      if (maxVersion < Integer.parseInt(version)) {
+        throw new MojoExecutionException(
+            String.format("Max possible version "
+                + "for %s is %d", subject, maxVersion));
+      } else {
+        schemaMetadata = this.client().getSchemaMetadata(subject, Integer.parseInt(version));
+      }
+    }
+    return new Schema(subject, schemaMetadata);
+  }
+
+  /**
+   * Returns the literal prefix that all subjects matching the given pattern start with, or an
+   * empty string if there is none.
+   */
+  static String literalPrefix(String pattern) {
+    StringBuilder prefix = new StringBuilder();
+    boolean done = false;
+    boolean inClass = false;
+    int depth = 0;
+    for (int i = pattern.startsWith("^") ? 1 : 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (c == '\\') {
+        // Skip the escaped character
+        i++;
+        done = true;
+      } else if (inClass) {
+        inClass = c != ']';
+      } else if (c == '[') {
+        inClass = true;
+        done = true;
+      } else if (c == '(') {
+        depth++;
+        done = true;
+      } else if (c == ')') {
+        depth--;
+      } else if (c == '|') {
+        if (depth == 0) {
+          // A top level alternation has no common prefix
+          return "";
+        }
+      } else if (c == '?' || c == '*' || c == '{') {
+        // The preceding character is optional
+        if (!done && prefix.length() > 0) {
+          prefix.setLength(prefix.length() - 1);
+        }
+        done = true;
+      } else if (!done) {
+        if (".+$".indexOf(c) >= 0) {
+          done = true;
+        } else {
+          prefix.append(c);
+        }
+      }
+    }
+    return prefix.toString();
+  }
+
+  private Collection<String> getSubjects(List<Pattern> patterns) throws Exception {
+    Set<String> prefixes = new LinkedHashSet<>();
+    for (Pattern pattern : patterns) {
+      String prefix = literalPrefix(pattern.pattern());
+      if (prefix.isEmpty() || prefix.startsWith(":")) {
+        // Context prefixes are not filtered literally by the server
+        getLog().info("Getting all subjects on schema registry...");
+        return this.client().getAllSubjects();
+      }
+      prefixes.add(prefix);
+    }
+    Set<String> subjects = new LinkedHashSet<>();
+    try {
+      for (String prefix : prefixes) {
+        getLog().info(String.format("Getting subjects with prefix '%s' on schema registry...",
+            prefix));
+        subjects.addAll(this.client().getAllSubjectsByPrefix(prefix));
+      }
+    } catch (UnsupportedOperationException e) {
+      getLog().info("Getting all subjects on schema registry...");
+      return this.client().getAllSubjects();
+    }
+    return subjects;
+  }
+
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
     if (skip) {
@@ -130,12 +267,12 @@ public class DownloadSchemaRegistryMojo extends SchemaRegistryMojo {
     }
     Collection<String> allSubjects;
     try {
-      getLog().info("Getting all subjects on schema registry...");
-      allSubjects = this.client().getAllSubjects();
+      // Let the server filter subjects by the literal prefixes of the patterns
+      allSubjects = getSubjects(patterns);
     } catch (Exception ex) {
       throw new MojoExecutionException("Exception thrown", ex);
     }
-    getLog().info(String.format("Schema Registry has %s subject(s).", allSubjects.size()));
+    getLog().info(String.format("Found %s candidate subject(s).", allSubjects.size()));
     List<String> subjectsToDownload = new ArrayList<>();
     List<String> versionsToDownload = new ArrayList<>();
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.maven;
+
+import io.confluent.kafka.schemaregistry.client.rest.entities.Schema;
+import io.confluent.kafka.schemaregistry.utils.JacksonMapper;
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * An on-disk cache of downloaded schemas, keyed by subject, version and schema ID.
+ *
+ * <p>The content of a schema ID never changes, but a version of a subject can be reused for
+ * another schema after a hard delete. Callers must therefore check that the registry still maps
+ * the ID of a cached schema to its subject and version before using it.</p>
+ */
+class SchemaFileCache {
+
+  private static final String SUFFIX = ".json";
+
+  private final File directory;
+
+  SchemaFileCache(File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the cached schema for the given subject and version, or null if it is not cached.
+   */
+  Schema get(String subject, int version) throws IOException {
+    File[] files = entries(subject, version);
+    if (files == null || files.length == 0) {
+      return null;
+    }
+    return JacksonMapper.INSTANCE.readValue(files[0], Schema.class);
+  }
+
+  void put(Schema schema) throws IOException {
+    if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+      throw new IOException("Could not create cache directory " + directory);
+    }
+    String prefix = prefix(schema.getSubject(), schema.getVersion());
+    Path target = new File(directory, prefix + schema.getId() + SUFFIX).toPath();
+    // Write to a temporary file first, so that readers never see a partial entry
+    Path temp = Files.createTempFile(directory.toPath(), "schema", ".tmp");
+    try {
+      JacksonMapper.INSTANCE.writeValue(temp.toFile(), schema);
+      Files.move(temp, target,
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    // Drop the entries of schemas that were previously registered under this version
+    File[] files = entries(schema.getSubject(), schema.getVersion());
+    if (files != null) {
+      for (File file : files) {
+        if (!file.toPath().equals(target)) {
+          Files.deleteIfExists(file.toPath());
+        }
+      }
+    }
+  }
+
+  private File[] entries(String subject, int version) throws UnsupportedEncodingException {
+    String prefix = prefix(subject, version);
+    // The rest of the name must be an ID, as the prefix of another subject may match too
+    return directory.listFiles((dir, name) -> name.startsWith(prefix)
+        && name.endsWith(SUFFIX)
+        && name.substring(prefix.length(), name.length() - SUFFIX.length()).matches("\\d+"));
+  }
+
+  private static String prefix(String subject, int version)
+      throws UnsupportedEncodingException {
+    return URLEncoder.encode(subject, StandardCharsets.UTF_8.name()) + "-" + version + "-";
+  }
+}
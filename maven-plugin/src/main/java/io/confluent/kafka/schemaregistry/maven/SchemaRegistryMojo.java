@@ -26,6 +26,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import io.confluent.kafka.schemaregistry.SchemaProvider;
@@ -53,6 +55,10 @@ public abstract class SchemaRegistryMojo extends AbstractMojo implements Closeab
   @Parameter
   Map<String, String> configs = new HashMap<>();
 
+  // The maximum number of requests to the schema registry that are in flight at once
+  @Parameter(defaultValue = "8")
+  int maxConcurrentRequests = 8;
+
   protected SchemaRegistryClient client;
 
   void client(SchemaRegistryClient client) {
@@ -85,6 +91,14 @@ public abstract class SchemaRegistryMojo extends AbstractMojo implements Closeab
     return this.client;
   }
 
+  protected ExecutorService requestExecutor() {
+    return Executors.newFixedThreadPool(Math.max(1, maxConcurrentRequests), r -> {
+      Thread thread = new Thread(r, "schema-registry-request");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
   private List<SchemaProvider> schemaProviders() {
     return schemaProviders.stream().map(s -> {
       try {
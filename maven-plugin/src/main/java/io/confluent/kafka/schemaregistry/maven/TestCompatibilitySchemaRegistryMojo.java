@@ -23,9 +23,9 @@ import org.apache.maven.plugins.annotations.Parameter;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Mojo(name = "test-compatibility", configurator = "custom-basic")
 public class TestCompatibilitySchemaRegistryMojo extends UploadSchemaRegistryMojo {
@@ -33,7 +33,12 @@ public class TestCompatibilitySchemaRegistryMojo extends UploadSchemaRegistryMoj
   @Parameter(required = false)
   boolean verbose = true;
 
-  Map<String, Boolean> schemaCompatibility = new HashMap<>();
+  Map<String, Boolean> schemaCompatibility = new ConcurrentHashMap<>();
+
+  @Override
+  protected boolean processSubjectsConcurrently() {
+    return true;
+  }
 
   @Override
   protected boolean processSchema(String subject,
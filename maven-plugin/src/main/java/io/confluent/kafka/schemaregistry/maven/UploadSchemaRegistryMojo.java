@@ -27,14 +27,23 @@ import org.apache.maven.plugins.annotations.Parameter;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
@@ -63,12 +72,12 @@ public abstract class UploadSchemaRegistryMojo extends SchemaRegistryMojo {
   @Parameter(required = false)
   boolean decodeSubject = true;
 
-  Map<String, ParsedSchema> schemas = new HashMap<>();
-  Map<String, Integer> schemaVersions = new HashMap<>();
-  Set<String> subjectsProcessed = new HashSet<>();
+  Map<String, ParsedSchema> schemas = new ConcurrentHashMap<>();
+  Map<String, Integer> schemaVersions = new ConcurrentHashMap<>();
+  Map<String, CompletableFuture<Void>> subjectsProcessed = new ConcurrentHashMap<>();
 
-  int errors = 0;
-  int failures = 0;
+  AtomicInteger errors = new AtomicInteger();
+  AtomicInteger failures = new AtomicInteger();
 
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
@@ -77,8 +86,8 @@ public abstract class UploadSchemaRegistryMojo extends SchemaRegistryMojo {
       return;
     }
 
-    errors = 0;
-    failures = 0;
+    errors.set(0);
+    failures.set(0);
 
     if (decodeSubject) {
       subjects = decode(subjects);
@@ -88,16 +97,96 @@ public abstract class UploadSchemaRegistryMojo extends SchemaRegistryMojo {
       ruleSet = decode(ruleSet);
     }
 
+    checkReferenceCycles();
+
+    if (processSubjectsConcurrently()) {
+      processSubjectsConcurrently(subjects.keySet());
+    } else {
+      for (String subject : subjects.keySet()) {
+        processSubject(subject, false);
+      }
+    }
+
+    Preconditions.checkState(errors.get() == 0, "One or more exceptions were encountered.");
+    Preconditions.checkState(failures.get() == 0, failureMessage());
+  }
+
+  /**
+   * Returns whether independent subjects may be processed concurrently, bounded by
+   * <code>maxConcurrentRequests</code>.
+   */
+  protected boolean processSubjectsConcurrently() {
+    return false;
+  }
+
+  private void processSubjectsConcurrently(Collection<String> keys)
+      throws MojoExecutionException {
+    // Initialize the client before it is shared by the request threads
+    client();
+    ExecutorService executor = requestExecutor();
+    try {
+      List<Future<?>> futures = new ArrayList<>(keys.size());
+      for (String key : keys) {
+        futures.add(executor.submit(() -> processSubject(key, false, false)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted while processing schemas", e);
+    } catch (ExecutionException e) {
+      throw new MojoExecutionException("Exception thrown while processing schemas", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    try {
+      close();
+    } catch (IOException e) {
+      throw new MojoExecutionException("Exception while closing schema registry client", e);
+    }
+  }
+
+  /**
+   * Fails if the references of a subject lead back to it, as processing the subject would then
+   * wait for itself.
+   */
+  private void checkReferenceCycles() throws MojoExecutionException {
+    Set<String> visited = new HashSet<>();
     for (String subject : subjects.keySet()) {
-      processSubject(subject, false);
+      checkReferenceCycles(subject, new ArrayDeque<>(), visited);
     }
+  }
 
-    Preconditions.checkState(errors == 0, "One or more exceptions were encountered.");
-    Preconditions.checkState(failures == 0, failureMessage());
+  private void checkReferenceCycles(String subject, Deque<String> path, Set<String> visited)
+      throws MojoExecutionException {
+    if (path.contains(subject)) {
+      List<String> cycle = new ArrayList<>(path);
+      cycle = new ArrayList<>(cycle.subList(cycle.indexOf(subject), cycle.size()));
+      cycle.add(subject);
+      throw new MojoExecutionException(
+          "Schema references contain a cycle: " + String.join(" -> ", cycle));
+    }
+    if (!visited.add(subject)) {
+      return;
+    }
+    path.addLast(subject);
+    for (Reference ref : references.getOrDefault(subject, Collections.emptyList())) {
+      checkReferenceCycles(ref.subject, path, visited);
+    }
+    path.removeLast();
   }
 
   private void processSubject(String key, boolean isReference) {
-    if (subjectsProcessed.contains(key)) {
+    processSubject(key, isReference, true);
+  }
+
+  private void processSubject(String key, boolean isReference, boolean closeClient) {
+    CompletableFuture<Void> processed = new CompletableFuture<>();
+    CompletableFuture<Void> existing = subjectsProcessed.putIfAbsent(key, processed);
+    if (existing != null) {
+      // Wait for a reference that is being processed by another thread
+      existing.join();
       return;
     }
 
@@ -110,7 +199,7 @@ public abstract class UploadSchemaRegistryMojo extends SchemaRegistryMojo {
       if (file == null) {
         if (!isReference) {
           getLog().error("File for " + key + " could not be found.");
-          errors++;
+          errors.incrementAndGet();
         }
         return;
       }
@@ -123,20 +212,22 @@ public abstract class UploadSchemaRegistryMojo extends SchemaRegistryMojo {
         schemas.put(key, schema.get());
       } else {
         getLog().error("Schema for " + key + " could not be parsed.");
-        errors++;
+        errors.incrementAndGet();
         return;
       }
 
       boolean success = processSchema(key, file, schema.get(), schemaVersions);
       if (!success) {
-        failures++;
+        failures.incrementAndGet();
+      }
+      if (closeClient) {
+        close();
       }
-      close();
     } catch (Exception ex) {
       getLog().error("Exception thrown while processing " + key, ex);
-      errors++;
+      errors.incrementAndGet();
     } finally {
-      subjectsProcessed.add(key);
+      processed.complete(null);
     }
   }
 
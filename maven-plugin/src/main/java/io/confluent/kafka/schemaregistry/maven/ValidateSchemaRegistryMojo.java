@@ -26,6 +26,11 @@ import org.apache.maven.plugins.annotations.Mojo;
 @Mojo(name = "validate", configurator = "custom-basic")
 public class ValidateSchemaRegistryMojo extends UploadSchemaRegistryMojo {
 
+  @Override
+  protected boolean processSubjectsConcurrently() {
+    return true;
+  }
+
   @Override
   protected boolean processSchema(String subject,
                                   File schemaPath,
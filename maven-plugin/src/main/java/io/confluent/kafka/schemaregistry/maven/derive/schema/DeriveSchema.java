@@ -24,17 +24,28 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.confluent.kafka.schemaregistry.utils.JacksonMapper;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public abstract class DeriveSchema {
 
   protected final HashMap<String, String> classToDataType = new HashMap<>();
   protected static final ObjectMapper mapper = JacksonMapper.INSTANCE;
   public static final String PRIMITIVE_SCHEMA_TYPE = "{\"type\":\"%s\"}";
+  public static final int DEFAULT_CHUNK_SIZE = 1000;
 
   protected List<JsonNode> getSchemaOfAllElements(List<JsonNode> messages, String name)
       throws JsonProcessingException {
@@ -200,6 +211,127 @@ public abstract class DeriveSchema {
     return mapper.createObjectNode().set("schemas", schemaInfoList);
   }
 
+  /**
+   * Derives the schemas of newline-delimited JSON messages, reading them incrementally.
+   *
+   * <p>Messages are parsed and their schemas derived in chunks, by up to the given number of
+   * threads. Only the distinct schemas and the indices of the messages matching them are
+   * retained, so memory is bounded by the number of distinct schemas, not by the number of
+   * messages. The result is the same as that of {@link #getSchemaForMultipleMessages(List)}
+   * for the non-empty lines of the input.</p>
+   *
+   * @param reader the reader of the messages, one JSON object per line
+   * @param parallelism the number of threads deriving schemas, or 0 for the number of processors
+   * @param chunkSize the number of lines per chunk
+   */
+  public ObjectNode getSchemaForMultipleMessages(BufferedReader reader,
+                                                 int parallelism,
+                                                 int chunkSize) throws IOException {
+    int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+      Thread thread = new Thread(r, "derive-schema");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      // Chunks are merged in order, so schemas keep the order of their first match
+      Map<JsonNode, ArrayNode> schemaToIndex = new LinkedHashMap<>();
+      Deque<Future<Map<JsonNode, ArrayNode>>> pending = new ArrayDeque<>();
+      List<String> lines = new ArrayList<>(chunkSize);
+      int firstLine = 1;
+      int firstIndex = 0;
+      int lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        lines.add(line);
+        if (lines.size() == chunkSize) {
+          pending.add(submitChunk(executor, lines, firstLine, firstIndex));
+          firstLine = lineNumber + 1;
+          firstIndex += countMessages(lines);
+          lines = new ArrayList<>(chunkSize);
+          // Bound the number of chunks held in memory
+          if (pending.size() >= 2 * threads) {
+            mergeChunk(schemaToIndex, pending.remove());
+          }
+        }
+      }
+      if (!lines.isEmpty()) {
+        pending.add(submitChunk(executor, lines, firstLine, firstIndex));
+      }
+      while (!pending.isEmpty()) {
+        mergeChunk(schemaToIndex, pending.remove());
+      }
+      List<JsonNode> uniqueSchemas = new ArrayList<>(schemaToIndex.keySet());
+      ArrayNode schemaInfoList = mergeMultipleMessages(uniqueSchemas, schemaToIndex);
+      return mapper.createObjectNode().set("schemas", schemaInfoList);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Future<Map<JsonNode, ArrayNode>> submitChunk(ExecutorService executor,
+                                                       List<String> lines,
+                                                       int firstLine,
+                                                       int firstIndex) {
+    return executor.submit(() -> {
+      Map<JsonNode, ArrayNode> schemaToIndex = new LinkedHashMap<>();
+      int index = firstIndex;
+      for (int i = 0; i < lines.size(); i++) {
+        String line = lines.get(i);
+        // Ignore empty messages
+        if (line.isEmpty()) {
+          continue;
+        }
+        JsonNode message;
+        try {
+          message = mapper.readValue(line, ObjectNode.class);
+        } catch (IOException e) {
+          throw new IllegalArgumentException(String.format(
+              "Message on line %d is an invalid JSON message", firstLine + i), e);
+        }
+        JsonNode schema;
+        try {
+          schema = getSchemaOfElement(message, "Schema");
+        } catch (IllegalArgumentException e) {
+          throw new IllegalArgumentException(
+              String.format("Unable to find schema for message %d: %s", index, message), e);
+        }
+        schemaToIndex.computeIfAbsent(schema, k -> mapper.createArrayNode()).add(index);
+        index++;
+      }
+      return schemaToIndex;
+    });
+  }
+
+  private static int countMessages(List<String> lines) {
+    int count = 0;
+    for (String line : lines) {
+      if (!line.isEmpty()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static void mergeChunk(Map<JsonNode, ArrayNode> schemaToIndex,
+                                 Future<Map<JsonNode, ArrayNode>> chunk) throws IOException {
+    try {
+      for (Map.Entry<JsonNode, ArrayNode> entry : chunk.get().entrySet()) {
+        schemaToIndex.computeIfAbsent(entry.getKey(), k -> mapper.createArrayNode())
+            .addAll(entry.getValue());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while deriving schema");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
   protected void updateSchemaInformation(JsonNode mergedSchema,
                                          ArrayNode messagesMatched,
                                          ArrayNode schemaInformationList) {
@@ -15,11 +15,14 @@
  */
 package io.confluent.kafka.schemaregistry.maven;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.avro.AvroSchema;
 import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SubjectVersion;
 import org.apache.avro.Schema;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,7 +33,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 
 public class DownloadSchemaRegistryMojoTest extends SchemaRegistryTest {
@@ -112,4 +117,69 @@ public class DownloadSchemaRegistryMojoTest extends SchemaRegistryTest {
       }
     }
   }
+
+  @Test
+  public void literalPrefix() {
+    assertEquals("TestSubject001-",
+        DownloadSchemaRegistryMojo.literalPrefix("^TestSubject001-(key|value)$"));
+    assertEquals("TestSubjec", DownloadSchemaRegistryMojo.literalPrefix("TestSubject?-key"));
+    assertEquals("Test", DownloadSchemaRegistryMojo.literalPrefix("Test\\.Subject"));
+    assertEquals("Test", DownloadSchemaRegistryMojo.literalPrefix("Test[A-Z]*"));
+    assertEquals("", DownloadSchemaRegistryMojo.literalPrefix("key|value"));
+    assertEquals("", DownloadSchemaRegistryMojo.literalPrefix(".*"));
+  }
+
+  @Test
+  public void cachedSubjects() throws Exception {
+    File cacheDirectory = new File(this.tempDirectory, "cache");
+    this.mojo.cacheDirectory = cacheDirectory;
+    Schema valueSchema = Schema.create(Schema.Type.STRING);
+    this.mojo.client().register("TestSubject-value", new AvroSchema(valueSchema));
+
+    // The latest version is not cached
+    this.mojo.downloadSchemas(
+        Collections.singletonList("TestSubject-value"), Collections.singletonList("latest"));
+    assertFalse(cacheDirectory.exists());
+
+    Map<String, ParsedSchema> schemas = this.mojo.downloadSchemas(
+        Collections.singletonList("TestSubject-value"), Collections.singletonList("1"));
+    assertEquals(new AvroSchema(valueSchema).canonicalString(),
+        schemas.get("TestSubject-value").canonicalString());
+    assertEquals(1, cacheDirectory.listFiles().length);
+
+    // The cached schema is used as long as the registry maps its ID to the same version
+    this.mojo.client(new MockSchemaRegistryClient() {
+      @Override
+      public Collection<SubjectVersion> getAllVersionsById(int id) {
+        return Collections.singletonList(new SubjectVersion("TestSubject-value", 1));
+      }
+    });
+    schemas = this.mojo.downloadSchemas(
+        Collections.singletonList("TestSubject-value"), Collections.singletonList("1"));
+    assertEquals(new AvroSchema(valueSchema).canonicalString(),
+        schemas.get("TestSubject-value").canonicalString());
+  }
+
+  @Test
+  public void cachedSubjectsReusedVersion() throws Exception {
+    File cacheDirectory = new File(this.tempDirectory, "cache");
+    this.mojo.cacheDirectory = cacheDirectory;
+    Schema valueSchema = Schema.create(Schema.Type.STRING);
+    this.mojo.client().register("TestSubject-value", new AvroSchema(valueSchema));
+    this.mojo.downloadSchemas(
+        Collections.singletonList("TestSubject-value"), Collections.singletonList("1"));
+
+    // After a hard delete, version 1 is reused for another schema with a new ID
+    MockSchemaRegistryClient client = new MockSchemaRegistryClient();
+    client.register("OtherSubject-value", new AvroSchema(Schema.create(Schema.Type.LONG)));
+    Schema newValueSchema = Schema.create(Schema.Type.INT);
+    client.register("TestSubject-value", new AvroSchema(newValueSchema));
+    this.mojo.client(client);
+
+    Map<String, ParsedSchema> schemas = this.mojo.downloadSchemas(
+        Collections.singletonList("TestSubject-value"), Collections.singletonList("1"));
+    assertEquals(new AvroSchema(newValueSchema).canonicalString(),
+        schemas.get("TestSubject-value").canonicalString());
+    assertEquals(1, cacheDirectory.listFiles().length);
+  }
 }
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Set;
 import org.apache.avro.Schema;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -227,4 +228,46 @@ public class SchemasWithDependenciesTest extends SchemaRegistryTest {
         Assert.assertTrue("The schema should contain fields from the dependency", pizza.toString().contains("currency"));
     }
 
+    @Test
+    public void testSchemaWithCyclicDependencies() throws Exception {
+        RegisterSchemaRegistryMojo schemaRegistryMojo = new RegisterSchemaRegistryMojo();
+        schemaRegistryMojo.client = new MockSchemaRegistryClient();
+
+        File pizzaFile = new File(tempDirectory, "pizza.avsc");
+        File amountFile = new File(tempDirectory, "amount.avsc");
+        try (
+            FileWriter pizzaWriter = new FileWriter(pizzaFile);
+            FileWriter amountWriter = new FileWriter(amountFile)
+        ) {
+            pizzaWriter.write(schema);
+            amountWriter.write(dependency);
+        }
+
+        Map<String, List<Reference>> schemaRefs = new LinkedHashMap<>();
+        Reference amountRef = new Reference();
+        amountRef.name = "com.pizza.Amount";
+        amountRef.subject = "Amount";
+        schemaRefs.put("Pizza", Collections.singletonList(amountRef));
+        Reference pizzaRef = new Reference();
+        pizzaRef.name = "com.pizza.Pizza";
+        pizzaRef.subject = "Pizza";
+        schemaRefs.put("Amount", Collections.singletonList(pizzaRef));
+        schemaRegistryMojo.references = schemaRefs;
+
+        Map<String, File> schemas = new LinkedHashMap<>();
+        schemas.put("Pizza", pizzaFile);
+        schemas.put("Amount", amountFile);
+        schemaRegistryMojo.subjects = schemas;
+
+        try {
+            schemaRegistryMojo.execute();
+            Assert.fail("The cycle should've been rejected");
+        } catch (MojoExecutionException e) {
+            Assert.assertEquals("Schema references contain a cycle: Pizza -> Amount -> Pizza",
+                e.getMessage());
+        }
+        Assert.assertTrue("No schema should've been processed",
+            schemaRegistryMojo.subjectsProcessed.isEmpty());
+    }
+
 }
@@ -20,9 +20,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -277,6 +279,24 @@ public class DeriveAvroSchemaTest extends DeriveSchemaTest {
     assertEquals(schema.get(2).get("messagesMatched").toString(), "[4]");
   }
 
+  @Test
+  public void testDeriveMultipleMessagesStreaming() throws IOException {
+    String message1 = "{\"F1\": 1.5, \"F2\": true}";
+    String message2 = "{\"F1\": 1, \"F2\": 1}";
+    String message3 = "{\"F3\": [1, 1.5, 3]}";
+    // Empty lines are skipped and small chunks are merged across threads
+    String lines = String.join("\n",
+        message1, message1, "", message2, message2, message3, "", message1, message1);
+    JsonNode streamed = derive.getSchemaForMultipleMessages(
+        new BufferedReader(new StringReader(lines)), 2, 2);
+    JsonNode expected = derive.getSchemaForMultipleMessages(Arrays.asList(
+        mapper.readTree(message1), mapper.readTree(message1), mapper.readTree(message2),
+        mapper.readTree(message2), mapper.readTree(message3), mapper.readTree(message1),
+        mapper.readTree(message1)));
+    assertEquals(expected, streamed);
+    assertEquals(3, streamed.get("schemas").size());
+  }
+
   @Test
   public void testDeriveMultipleMessagesWithUnion() throws JsonProcessingException {
     // Field F1 should have all branches: int, long and null
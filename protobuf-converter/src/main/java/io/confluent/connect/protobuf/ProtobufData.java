@@ -292,6 +292,7 @@ public class ProtobufData {
 
   private final Map<Schema, ProtobufSchema> fromConnectSchemaCache;
   private final Map<Pair<String, ProtobufSchema>, Schema> toConnectSchemaCache;
+  private final Map<StructPlanKey, StructPlan> structPlanCache;
   private boolean generalizedSumTypeSupport;
   private boolean ignoreDefaultForNullables;
   private boolean enhancedSchemaSupport;
@@ -318,6 +319,7 @@ public class ProtobufData {
   public ProtobufData(ProtobufDataConfig protobufDataConfig) {
     fromConnectSchemaCache = new BoundedConcurrentHashMap<>(protobufDataConfig.schemaCacheSize());
     toConnectSchemaCache = new BoundedConcurrentHashMap<>(protobufDataConfig.schemaCacheSize());
+    structPlanCache = new BoundedConcurrentHashMap<>(protobufDataConfig.schemaCacheSize());
     this.generalizedSumTypeSupport = protobufDataConfig.isGeneralizedSumTypeSupport();
     this.ignoreDefaultForNullables = protobufDataConfig.ignoreDefaultForNullables();
     this.enhancedSchemaSupport = protobufDataConfig.isEnhancedProtobufSchemaSupport();
@@ -1275,40 +1277,26 @@ public class ProtobufData {
           final Schema keySchema = schema.keySchema();
           final Schema valueSchema = schema.valueSchema();
           final Collection<? extends Message> map = (Collection<? extends Message>) value;
-          final Map<Object, Object> newMap = new HashMap<>();
+          final Map<Object, Object> newMap = new HashMap<>(map.size() * 4 / 3 + 1);
+          FieldDescriptor keyDescriptor = null;
+          FieldDescriptor valueDescriptor = null;
           for (Message message : map) {
-            Descriptor descriptor = message.getDescriptorForType();
-            Object elemKey = message.getField(descriptor.findFieldByName(KEY_FIELD));
-            Object elemValue = message.getField(descriptor.findFieldByName(VALUE_FIELD));
+            if (keyDescriptor == null) {
+              // All entries share the same descriptor
+              Descriptor descriptor = message.getDescriptorForType();
+              keyDescriptor = descriptor.findFieldByName(KEY_FIELD);
+              valueDescriptor = descriptor.findFieldByName(VALUE_FIELD);
+            }
+            Object elemKey = message.getField(keyDescriptor);
+            Object elemValue = message.getField(valueDescriptor);
             newMap.put(toConnectData(keySchema, elemKey), toConnectData(valueSchema, elemValue));
           }
           converted = newMap;
           break;
         case STRUCT:
           final Message message = (Message) value;
-          final Struct struct = new Struct(schema.schema());
-          final Descriptor descriptor = message.getDescriptorForType();
-
-          for (OneofDescriptor oneOfDescriptor : descriptor.getRealOneofs()) {
-            if (message.hasOneof(oneOfDescriptor)) {
-              FieldDescriptor fieldDescriptor = message.getOneofFieldDescriptor(oneOfDescriptor);
-              Object obj = message.getField(fieldDescriptor);
-              if (obj != null) {
-                setUnionField(schema, message, struct, oneOfDescriptor, fieldDescriptor);
-              }
-            }
-          }
-
-          for (FieldDescriptor fieldDescriptor : descriptor.getFields()) {
-            OneofDescriptor oneOfDescriptor = fieldDescriptor.getRealContainingOneof();
-            if (oneOfDescriptor != null) {
-              // Already added field as oneof
-              continue;
-            }
-            setStructField(schema, message, struct, fieldDescriptor);
-          }
-
-          converted = struct;
+          converted = toConnectStruct(
+              structPlan(schema.schema(), message.getDescriptorForType()), message);
           break;
         default:
           throw new DataException("Unknown Connect schema type: " + schema.type());
@@ -1326,26 +1314,6 @@ public class ProtobufData {
     return message.getField(fieldDescriptor);
   }
 
-  private void setUnionField(
-      Schema schema,
-      Message message,
-      Struct result,
-      OneofDescriptor oneOfDescriptor,
-      FieldDescriptor fieldDescriptor
-  ) {
-    String unionFieldName = unionFieldName(oneOfDescriptor);
-    Field unionField = schema.field(unionFieldName);
-    Schema unionSchema = unionField.schema();
-    Struct union = new Struct(unionSchema);
-
-    final String fieldName = fieldDescriptor.getName();
-    final Field field = unionSchema.field(fieldName);
-    Object obj = message.getField(fieldDescriptor);
-    union.put(fieldName, toConnectData(field.schema(), obj));
-
-    result.put(unionField, union);
-  }
-
   private String unionFieldName(OneofDescriptor oneofDescriptor) {
     String name = oneofDescriptor.getName();
     if (generateIndexForUnions) {
@@ -1354,19 +1322,44 @@ public class ProtobufData {
     return name;
   }
 
-  private void setStructField(
-      Schema schema,
-      Message message,
-      Struct result,
-      FieldDescriptor fieldDescriptor
-  ) {
-    final String fieldName = fieldDescriptor.getName();
-    final Field field = schema.field(fieldName);
-    if ((isPrimitiveOrRepeated(fieldDescriptor) && !isOptional(fieldDescriptor))
-        || (generateStructForNulls || message.hasField(fieldDescriptor))) {
-      Object obj = message.getField(fieldDescriptor);
-      result.put(fieldName, toConnectData(field.schema(), obj));
+  private Struct toConnectStruct(StructPlan plan, Message message) {
+    final Struct struct = new Struct(plan.schema);
+
+    for (UnionPlan union : plan.unions) {
+      if (message.hasOneof(union.descriptor)) {
+        FieldDescriptor fieldDescriptor = message.getOneofFieldDescriptor(union.descriptor);
+        Object obj = message.getField(fieldDescriptor);
+        if (obj != null) {
+          Field field = union.members[fieldDescriptor.getIndex()];
+          Struct unionStruct = new Struct(union.field.schema());
+          unionStruct.put(field, toConnectData(field.schema(), obj));
+          struct.put(union.field, unionStruct);
+        }
+      }
     }
+
+    for (FieldPlan fieldPlan : plan.fields) {
+      if (fieldPlan.alwaysSet || message.hasField(fieldPlan.descriptor)) {
+        Object obj = message.getField(fieldPlan.descriptor);
+        struct.put(fieldPlan.field, toConnectData(fieldPlan.field.schema(), obj));
+      }
+    }
+    return struct;
+  }
+
+  /**
+   * Returns the accessor plan that maps the fields of messages with the given descriptor to the
+   * fields of the given struct schema, so that they do not need to be looked up by name for
+   * every message.
+   */
+  private StructPlan structPlan(Schema schema, Descriptor descriptor) {
+    StructPlanKey key = new StructPlanKey(schema, descriptor);
+    StructPlan plan = structPlanCache.get(key);
+    if (plan == null) {
+      plan = new StructPlan(schema, descriptor);
+      structPlanCache.put(key, plan);
+    }
+    return plan;
   }
 
   private boolean isPrimitiveOrRepeated(FieldDescriptor fieldDescriptor) {
@@ -1907,6 +1900,94 @@ public class ProtobufData {
     }
   }
 
+  private class StructPlan {
+    private final Schema schema;
+    private final UnionPlan[] unions;
+    private final FieldPlan[] fields;
+
+    StructPlan(Schema schema, Descriptor descriptor) {
+      this.schema = schema;
+      List<OneofDescriptor> oneOfDescriptors = descriptor.getRealOneofs();
+      this.unions = new UnionPlan[oneOfDescriptors.size()];
+      for (int i = 0; i < unions.length; i++) {
+        OneofDescriptor oneOfDescriptor = oneOfDescriptors.get(i);
+        Field unionField = schema.field(unionFieldName(oneOfDescriptor));
+        unions[i] = new UnionPlan(oneOfDescriptor, unionField, descriptor.getFields().size());
+      }
+      List<FieldPlan> fieldPlans = new ArrayList<>();
+      for (FieldDescriptor fieldDescriptor : descriptor.getFields()) {
+        if (fieldDescriptor.getRealContainingOneof() != null) {
+          // Added as oneof
+          continue;
+        }
+        boolean alwaysSet = generateStructForNulls
+            || (isPrimitiveOrRepeated(fieldDescriptor) && !isOptional(fieldDescriptor));
+        fieldPlans.add(new FieldPlan(
+            fieldDescriptor, schema.field(fieldDescriptor.getName()), alwaysSet));
+      }
+      this.fields = fieldPlans.toArray(new FieldPlan[0]);
+    }
+  }
+
+  private static class UnionPlan {
+    private final OneofDescriptor descriptor;
+    private final Field field;
+    // The union members, indexed by the index of their descriptor in the message
+    private final Field[] members;
+
+    UnionPlan(OneofDescriptor descriptor, Field field, int messageFieldCount) {
+      this.descriptor = descriptor;
+      this.field = field;
+      this.members = new Field[messageFieldCount];
+      for (FieldDescriptor fieldDescriptor : descriptor.getFields()) {
+        members[fieldDescriptor.getIndex()] = field.schema().field(fieldDescriptor.getName());
+      }
+    }
+  }
+
+  private static class FieldPlan {
+    private final FieldDescriptor descriptor;
+    private final Field field;
+    private final boolean alwaysSet;
+
+    FieldPlan(FieldDescriptor descriptor, Field field, boolean alwaysSet) {
+      this.descriptor = descriptor;
+      this.field = field;
+      this.alwaysSet = alwaysSet;
+    }
+  }
+
+  /**
+   * Identifies a struct plan by the identity of its schema and descriptor, as both are cached
+   * and comparing schemas by value is expensive.
+   */
+  private static class StructPlanKey {
+    private final Schema schema;
+    private final Descriptor descriptor;
+
+    StructPlanKey(Schema schema, Descriptor descriptor) {
+      this.schema = schema;
+      this.descriptor = descriptor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      StructPlanKey that = (StructPlanKey) o;
+      return schema == that.schema && descriptor == that.descriptor;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(schema) + System.identityHashCode(descriptor);
+    }
+  }
+
   private interface LogicalTypeConverter {
     Object convert(Schema schema, Object value);
   }
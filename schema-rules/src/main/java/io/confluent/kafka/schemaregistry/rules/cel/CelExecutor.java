@@ -34,6 +34,7 @@ import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.Message;
 import com.google.protobuf.Timestamp;
 import com.hubspot.jackson.datatype.protobuf.ProtobufModule;
+import io.confluent.kafka.schemaregistry.client.rest.entities.Rule;
 import io.confluent.kafka.schemaregistry.client.rest.entities.RuleKind;
 import io.confluent.kafka.schemaregistry.rules.RuleContext;
 import io.confluent.kafka.schemaregistry.rules.RuleException;
@@ -43,9 +44,11 @@ import io.confluent.kafka.schemaregistry.rules.cel.builtin.BuiltinLibrary;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
@@ -76,7 +79,18 @@ public class CelExecutor implements RuleExecutor {
 
   private final LoadingCache<RuleWithArgs, Script> cache;
 
+  // Keyed by rule identity, as the rules of a schema are parsed once and reused for every record
+  private final LoadingCache<Rule, CompiledRule> compiledRules;
+
   public CelExecutor() {
+    compiledRules = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(new CacheLoader<Rule, CompiledRule>() {
+          @Override
+          public CompiledRule load(Rule rule) {
+            return new CompiledRule(rule.getExpr());
+          }
+        });
     cache = CacheBuilder.newBuilder()
         .maximumSize(DEFAULT_CACHE_SIZE)
         .build(new CacheLoader<RuleWithArgs, Script>() {
@@ -153,33 +167,30 @@ public class CelExecutor implements RuleExecutor {
   protected Object execute(
       RuleContext ctx, Object obj, Map<String, Object> args)
       throws RuleException {
-    String expr = ctx.rule().getExpr();
+    CompiledRule compiled = compiledRules.getUnchecked(ctx.rule());
     String ignoreGuardStr = ctx.getParameter(CEL_IGNORE_GUARD_SEPARATOR);
     boolean ignoreGuard = Boolean.parseBoolean(ignoreGuardStr);
-    if (!ignoreGuard) {
-      // An optional guard (followed by semicolon) can precede the expr
-      int index = expr.indexOf(';');
-      if (index >= 0) {
-        String guard = expr.substring(0, index);
-        if (!guard.trim().isEmpty()) {
-          Object guardResult = Boolean.FALSE;
-          try {
-            guardResult = execute(guard, obj, args);
-          } catch (RuleException e) {
-            // ignore
-          }
-          if (Boolean.FALSE.equals(guardResult)) {
-            // Skip the expr
-            return ctx.rule().getKind() == RuleKind.CONDITION ? Boolean.TRUE : obj;
-          }
-        }
-        expr = expr.substring(index + 1);
+    if (ignoreGuard) {
+      return execute(compiled, compiled.getExpr(), obj, args);
+    }
+    // An optional guard (followed by semicolon) can precede the expr
+    String guard = compiled.getGuard();
+    if (guard != null) {
+      Object guardResult = Boolean.FALSE;
+      try {
+        guardResult = execute(compiled, guard, obj, args);
+      } catch (RuleException e) {
+        // ignore
+      }
+      if (Boolean.FALSE.equals(guardResult)) {
+        // Skip the expr
+        return ctx.rule().getKind() == RuleKind.CONDITION ? Boolean.TRUE : obj;
       }
     }
-    return execute(expr, obj, args);
+    return execute(compiled, compiled.getGuardedExpr(), obj, args);
   }
 
-  private Object execute(String rule, Object obj, Map<String, Object> args)
+  private Object execute(CompiledRule compiled, String rule, Object obj, Map<String, Object> args)
       throws RuleException {
     try {
       Object msg = args.get("message");
@@ -196,23 +207,30 @@ public class CelExecutor implements RuleExecutor {
         return obj;
       }
 
-      List<Decl> decls = toDecls(args);
-      RuleWithArgs ruleWithArgs = null;
-      switch (type) {
-        case AVRO:
-          ruleWithArgs = new RuleWithArgs(rule, type, decls, ((GenericContainer) msg).getSchema());
-          break;
-        case JSON:
-          ruleWithArgs = new RuleWithArgs(rule, type, decls, msg.getClass());
-          break;
-        case PROTOBUF:
-          ruleWithArgs = new RuleWithArgs(rule, type, decls,
-              ((Message) msg).getDescriptorForType());
-          break;
-        default:
-          throw new IllegalArgumentException("Unsupported type " + type);
+      ScriptKey key = new ScriptKey(rule, type, typeSource(msg), typeSources(args));
+      Script script = compiled.getScript(key);
+      if (script == null) {
+        // Only build the declarations when the rule is first seen with these arg types
+        List<Decl> decls = toDecls(args);
+        RuleWithArgs ruleWithArgs = null;
+        switch (type) {
+          case AVRO:
+            ruleWithArgs =
+                new RuleWithArgs(rule, type, decls, ((GenericContainer) msg).getSchema());
+            break;
+          case JSON:
+            ruleWithArgs = new RuleWithArgs(rule, type, decls, msg.getClass());
+            break;
+          case PROTOBUF:
+            ruleWithArgs = new RuleWithArgs(rule, type, decls,
+                ((Message) msg).getDescriptorForType());
+            break;
+          default:
+            throw new IllegalArgumentException("Unsupported type " + type);
+        }
+        script = cache.get(ruleWithArgs);
+        compiled.putScript(key, script);
       }
-      Script script = cache.get(ruleWithArgs);
 
       return script.execute(Object.class, args);
     } catch (ScriptException e) {
@@ -226,6 +244,31 @@ public class CelExecutor implements RuleExecutor {
     }
   }
 
+  /**
+   * Returns the object that determines the declared type of an arg, see {@link #findType}.
+   */
+  private static Object typeSource(Object arg) {
+    if (arg == null) {
+      return null;
+    } else if (arg instanceof GenericContainer) {
+      return ((GenericContainer) arg).getSchema();
+    } else if (arg instanceof Message) {
+      return ((Message) arg).getDescriptorForType();
+    } else {
+      return arg.getClass();
+    }
+  }
+
+  private static Object[] typeSources(Map<String, Object> args) {
+    Object[] sources = new Object[args.size() * 2];
+    int i = 0;
+    for (Map.Entry<String, Object> entry : args.entrySet()) {
+      sources[i++] = entry.getKey();
+      sources[i++] = typeSource(entry.getValue());
+    }
+    return sources;
+  }
+
   private static List<Decl> toDecls(Map<String, Object> args) {
     return args.entrySet().stream()
         .map(e -> Decls.newVar(e.getKey(), findType(e.getValue())))
@@ -328,6 +371,93 @@ public class CelExecutor implements RuleExecutor {
     PROTOBUF
   }
 
+  /**
+   * The guard and expression of a rule, split once, along with the scripts compiled for them.
+   */
+  static class CompiledRule {
+    private final String expr;
+    private final String guard;
+    private final String guardedExpr;
+    private final Map<ScriptKey, Script> scripts = new ConcurrentHashMap<>();
+
+    public CompiledRule(String expr) {
+      this.expr = expr;
+      int index = expr.indexOf(';');
+      if (index >= 0) {
+        String guard = expr.substring(0, index);
+        this.guard = !guard.trim().isEmpty() ? guard : null;
+        this.guardedExpr = expr.substring(index + 1);
+      } else {
+        this.guard = null;
+        this.guardedExpr = expr;
+      }
+    }
+
+    public String getExpr() {
+      return expr;
+    }
+
+    public String getGuard() {
+      return guard;
+    }
+
+    public String getGuardedExpr() {
+      return guardedExpr;
+    }
+
+    public Script getScript(ScriptKey key) {
+      return scripts.get(key);
+    }
+
+    public void putScript(ScriptKey key, Script script) {
+      if (scripts.size() >= DEFAULT_CACHE_SIZE) {
+        scripts.clear();
+      }
+      scripts.put(key, script);
+    }
+  }
+
+  /**
+   * Identifies a compiled script by the types of its args, rather than by their declarations.
+   * Schemas cache their hash codes and descriptors use identity, so lookups are cheap.
+   */
+  static class ScriptKey {
+    private final String rule;
+    private final ScriptType type;
+    private final Object typeSource;
+    private final Object[] argTypeSources;
+    private final int hash;
+
+    public ScriptKey(String rule, ScriptType type, Object typeSource, Object[] argTypeSources) {
+      this.rule = rule;
+      this.type = type;
+      this.typeSource = typeSource;
+      this.argTypeSources = argTypeSources;
+      this.hash = Objects.hash(rule, type, typeSource, Arrays.hashCode(argTypeSources));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      ScriptKey that = (ScriptKey) o;
+      return hash == that.hash
+          && Objects.equals(rule, that.rule)
+          && type == that.type
+          && Objects.equals(typeSource, that.typeSource)
+          && Arrays.equals(argTypeSources, that.argTypeSources);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
   static class RuleWithArgs {
     private final String rule;
     private final ScriptType type;
@@ -25,14 +25,26 @@ import org.projectnessie.cel.common.types.ref.FieldType;
 public final class AvroFieldType extends FieldType {
 
   private final Schema schema;
+  private final String name;
+  private final int pos;
 
   AvroFieldType(
-      Type type, FieldTester isSet, FieldGetter getFrom, Schema schema) {
+      Type type, FieldTester isSet, FieldGetter getFrom, Schema schema, String name, int pos) {
     super(type, isSet, getFrom);
     this.schema = schema;
+    this.name = name;
+    this.pos = pos;
   }
 
   Schema schema() {
     return schema;
   }
+
+  String name() {
+    return name;
+  }
+
+  int pos() {
+    return pos;
+  }
 }
@@ -27,6 +27,9 @@ import org.projectnessie.cel.common.types.ref.Val;
 
 public final class AvroObjectT extends ObjectT {
 
+  // Adapted field values by position, an object is only evaluated by one thread at a time
+  private Val[] fieldValues;
+
   private AvroObjectT(AvroRegistry registry, Object value, AvroTypeDescription typeDesc) {
     super(registry, value, typeDesc, typeDesc.type());
   }
@@ -51,11 +54,12 @@ public final class AvroObjectT extends ObjectT {
     }
     String fieldName = (String) field.value();
 
-    if (!typeDesc().hasProperty(fieldName)) {
+    AvroFieldType ft = typeDesc().fieldType(fieldName);
+    if (ft == null) {
       return noSuchField(fieldName);
     }
 
-    Object value = typeDesc().fromObject(value(), fieldName);
+    Object value = typeDesc().fromObject(value(), ft.name(), ft.pos());
 
     return boolOf(value != null);
   }
@@ -67,13 +71,21 @@ public final class AvroObjectT extends ObjectT {
     }
     String fieldName = (String) index.value();
 
-    if (!typeDesc().hasProperty(fieldName)) {
+    AvroFieldType ft = typeDesc().fieldType(fieldName);
+    if (ft == null) {
       return noSuchField(fieldName);
     }
 
-    Object v = typeDesc().fromObject(value(), fieldName);
-
-    return registry().nativeToValue(v);
+    // Reuse the adapted field values, so that nested records are only wrapped once
+    if (fieldValues == null) {
+      fieldValues = new Val[typeDesc().fieldCount()];
+    }
+    Val v = fieldValues[ft.pos()];
+    if (v == null) {
+      v = registry().nativeToValue(typeDesc().fromObject(value(), ft.name(), ft.pos()));
+      fieldValues[ft.pos()] = v;
+    }
+    return v;
   }
 
   @Override
@@ -18,8 +18,8 @@ package io.confluent.kafka.schemaregistry.rules.cel.avro;
 
 import static org.projectnessie.cel.common.types.Err.newErr;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericEnumSymbol;
@@ -39,11 +39,12 @@ import org.projectnessie.cel.common.types.ref.Val;
  * in {@link UnsupportedOperationException}s.
  */
 public final class AvroRegistry implements TypeRegistry {
-  private final Map<Schema, AvroTypeDescription> knownTypes = new HashMap<>();
-  private final Map<String, AvroTypeDescription> knownTypesByName = new HashMap<>();
+  // Compiled scripts, and therefore their registry, are shared by the threads of a serde
+  private final Map<Schema, AvroTypeDescription> knownTypes = new ConcurrentHashMap<>();
+  private final Map<String, AvroTypeDescription> knownTypesByName = new ConcurrentHashMap<>();
 
-  private final Map<Schema, AvroEnumDescription> enumMap = new HashMap<>();
-  private final Map<String, AvroEnumValue> enumValues = new HashMap<>();
+  private final Map<Schema, AvroEnumDescription> enumMap = new ConcurrentHashMap<>();
+  private final Map<String, AvroEnumValue> enumValues = new ConcurrentHashMap<>();
 
   private AvroRegistry() {
   }
@@ -134,6 +135,7 @@ public final class AvroRegistry implements TypeRegistry {
     }
 
     if (value instanceof Utf8) {
+      // Field values are read as is, so strings are only converted here
       return StringT.stringOf(value.toString());
     }
 
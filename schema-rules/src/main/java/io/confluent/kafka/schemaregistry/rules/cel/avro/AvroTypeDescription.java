@@ -17,18 +17,18 @@
 package io.confluent.kafka.schemaregistry.rules.cel.avro;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
 import org.apache.avro.reflect.ReflectData;
 import org.apache.avro.specific.SpecificData;
 import org.apache.avro.specific.SpecificRecord;
-import org.apache.avro.util.Utf8;
 import org.projectnessie.cel.common.types.TypeT;
 import org.projectnessie.cel.common.types.pb.Checked;
-import org.projectnessie.cel.common.types.ref.FieldType;
 import org.projectnessie.cel.common.types.ref.Type;
 import org.projectnessie.cel.common.types.ref.TypeDescription;
 
@@ -53,13 +53,17 @@ public final class AvroTypeDescription implements TypeDescription {
 
     for (Schema.Field field : schema.getFields()) {
       String n = field.name();
+      int pos = field.pos();
 
+      // Fields are read by position, without looking up the name again
       AvroFieldType ft =
           new AvroFieldType(
               findTypeForAvroType(field.schema(), typeQuery),
-              target -> fromObject(target, n) != null,
-              target -> fromObject(target, n),
-              field.schema());
+              target -> fromObject(target, n, pos) != null,
+              target -> fromObject(target, n, pos),
+              field.schema(),
+              n,
+              pos);
       fieldTypes.put(n, ft);
     }
   }
@@ -119,14 +123,30 @@ public final class AvroTypeDescription implements TypeDescription {
     if (ft == null) {
       throw new IllegalArgumentException(String.format("No property named '%s'", property));
     }
+    return fromObject(value, ft.name(), ft.pos());
+  }
+
+  /**
+   * Returns the raw value of the field. Avro strings are returned as is, and only converted
+   * when the registry adapts the value for CEL.
+   */
+  Object fromObject(Object value, String name, int pos) {
     Schema schema = getSchema(value);
-    GenericData data = getData(value);
-    Schema.Field f = schema.getField(property);
-    Object result = data.getField(value, f.name(), f.pos());
-    if (result instanceof Utf8) {
-      result = result.toString();
+    if (schema != this.schema) {
+      // Records of an equivalent schema usually have the field at the same position
+      List<Schema.Field> fields = schema.getFields();
+      if (pos >= fields.size() || !fields.get(pos).name().equals(name)) {
+        Schema.Field f = schema.getField(name);
+        if (f == null) {
+          return null;
+        }
+        pos = f.pos();
+      }
     }
-    return result;
+    if (value instanceof IndexedRecord) {
+      return ((IndexedRecord) value).get(pos);
+    }
+    return getData(value).getField(value, name, pos);
   }
 
   Type type() {
@@ -137,10 +157,14 @@ public final class AvroTypeDescription implements TypeDescription {
     return pbType;
   }
 
-  FieldType fieldType(String fieldName) {
+  AvroFieldType fieldType(String fieldName) {
     return fieldTypes.get(fieldName);
   }
 
+  int fieldCount() {
+    return schema.getFields().size();
+  }
+
   @Override
   public String name() {
     return fullName;
@@ -22,6 +22,7 @@ import com.api.jsonata4java.expressions.Expressions;
 import com.api.jsonata4java.expressions.ParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -46,16 +47,16 @@ public class JsonataExecutor implements RuleExecutor {
 
   private static final int DEFAULT_CACHE_SIZE = 100;
 
-  private final LoadingCache<String, Expressions> cache;
+  private final LoadingCache<String, CompiledExpression> cache;
 
   public JsonataExecutor() {
     cache = CacheBuilder.newBuilder()
         .maximumSize(DEFAULT_CACHE_SIZE)
-        .build(new CacheLoader<String, Expressions>() {
+        .build(new CacheLoader<String, CompiledExpression>() {
           @Override
-          public Expressions load(String expr) throws Exception {
+          public CompiledExpression load(String expr) throws Exception {
             try {
-              return Expressions.parse(expr);
+              return new CompiledExpression(Expressions.parse(expr), MigrationPlan.parse(expr));
             } catch (ParseException e) {
               throw new RuleException("Could not parse expression", e);
             } catch (EvaluateRuntimeException ere) {
@@ -107,7 +108,7 @@ public class JsonataExecutor implements RuleExecutor {
         throw new RuleException(e);
       }
     }
-    Expressions expr;
+    CompiledExpression expr;
     try {
       expr = cache.get(ctx.rule().getExpr());
     } catch (ExecutionException e) {
@@ -117,11 +118,30 @@ public class JsonataExecutor implements RuleExecutor {
         throw new RuleException("Could not get expression", e.getCause());
       }
     }
+    if (expr.plan != null
+        && ctx.rule().getKind() == RuleKind.TRANSFORM
+        && jsonObj instanceof ObjectNode) {
+      JsonNode result = expr.plan.apply((ObjectNode) jsonObj);
+      if (result != null) {
+        return result;
+      }
+    }
     try {
-      JsonNode result = expr.evaluate(jsonObj, timeoutMs, maxDepth);
+      JsonNode result = expr.expressions.evaluate(jsonObj, timeoutMs, maxDepth);
       return ctx.rule().getKind() == RuleKind.CONDITION ? result.asBoolean(true) : result;
     } catch (EvaluateException e) {
       throw new RuleException("Could not evaluate expression", e);
     }
   }
+
+  static class CompiledExpression {
+    private final Expressions expressions;
+    // Null if the expression is not a simple migration
+    private final MigrationPlan plan;
+
+    CompiledExpression(Expressions expressions, MigrationPlan plan) {
+      this.expressions = expressions;
+      this.plan = plan;
+    }
+  }
 }
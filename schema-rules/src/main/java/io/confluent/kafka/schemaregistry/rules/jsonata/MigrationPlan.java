@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.rules.jsonata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.confluent.kafka.schemaregistry.utils.JacksonMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A structural transform for the common shapes of migration expressions, which drop fields,
+ * rename fields, or set fields to a literal, such as
+ * <pre>
+ * $merge([$sift($, function($v, $k) {$k != 'size'}), {'height': $.'size'}])
+ * </pre>
+ * The plan is applied directly to the JSON object, without evaluating the expression.
+ * Expressions of any other shape are evaluated by JSONata.
+ */
+class MigrationPlan {
+
+  private static final String STRING = "(?:'[^'\\\\]*'|\"[^\"\\\\]*\")";
+  private static final String NOT_KEY = "\\$k\\s*!=\\s*(" + STRING + ")";
+  private static final String SIFT = "\\$sift\\(\\s*\\$\\s*,\\s*"
+      + "function\\(\\s*\\$v\\s*,\\s*\\$k\\s*\\)\\s*\\{\\s*("
+      + NOT_KEY + "(?:\\s+and\\s+" + NOT_KEY + ")*)\\s*}\\s*\\)";
+
+  private static final Pattern SIFT_PATTERN = Pattern.compile("\\s*" + SIFT + "\\s*");
+  private static final Pattern MERGE_PATTERN = Pattern.compile(
+      "\\s*\\$merge\\(\\s*\\[\\s*(\\$|" + SIFT + ")\\s*,\\s*\\{(.*)}\\s*]\\s*\\)\\s*",
+      Pattern.DOTALL);
+  private static final Pattern NOT_KEY_PATTERN = Pattern.compile(NOT_KEY);
+  private static final Pattern ENTRY_PATTERN = Pattern.compile(
+      "\\G\\s*(" + STRING + ")\\s*:\\s*(?:\\$\\.(" + STRING + "|[A-Za-z_][A-Za-z0-9_]*)"
+          + "|(" + STRING + "|-?\\d+(?:\\.\\d+)?|true|false|null))\\s*(?:,|$)");
+
+  private final Set<String> dropped;
+  private final List<Entry> entries;
+
+  private MigrationPlan(Set<String> dropped, List<Entry> entries) {
+    this.dropped = dropped;
+    this.entries = entries;
+  }
+
+  /**
+   * Returns the plan for the expression, or null if the expression must be evaluated by JSONata.
+   */
+  static MigrationPlan parse(String expr) {
+    Matcher sift = SIFT_PATTERN.matcher(expr);
+    if (sift.matches()) {
+      return new MigrationPlan(droppedKeys(sift.group(1)), Collections.emptyList());
+    }
+    Matcher merge = MERGE_PATTERN.matcher(expr);
+    if (!merge.matches()) {
+      return null;
+    }
+    Set<String> dropped = merge.group(2) != null
+        ? droppedKeys(merge.group(2))
+        : Collections.emptySet();
+    String body = merge.group(merge.groupCount());
+    List<Entry> entries = new ArrayList<>();
+    Matcher entry = ENTRY_PATTERN.matcher(body);
+    int end = 0;
+    while (end < body.length() && entry.find()) {
+      JsonNode literal = null;
+      if (entry.group(3) != null) {
+        literal = literal(entry.group(3));
+        if (literal == null) {
+          return null;
+        }
+      }
+      String source = entry.group(2);
+      entries.add(new Entry(unquote(entry.group(1)),
+          source != null ? unquote(source) : null, literal));
+      end = entry.end();
+    }
+    if (entries.isEmpty() || end != body.length()) {
+      return null;
+    }
+    return new MigrationPlan(dropped, entries);
+  }
+
+  /**
+   * Applies the plan to the object, or returns null if JSONata must evaluate the expression,
+   * for edge cases where the plan might not match the JSONata semantics.
+   */
+  JsonNode apply(ObjectNode input) {
+    ObjectNode result = JsonNodeFactory.instance.objectNode();
+    Iterator<Map.Entry<String, JsonNode>> fields = input.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if (!dropped.contains(field.getKey())) {
+        result.set(field.getKey(), field.getValue());
+      }
+    }
+    if (result.size() == 0) {
+      // JSONata drops empty objects
+      return null;
+    }
+    for (Entry entry : entries) {
+      JsonNode value = entry.literal;
+      if (value == null) {
+        value = input.get(entry.source);
+        if (value == null || value.isNull() || value.isArray()) {
+          // Missing values, nulls and arrays have special path semantics
+          return null;
+        }
+      }
+      result.set(entry.target, value);
+    }
+    return result;
+  }
+
+  private static Set<String> droppedKeys(String condition) {
+    Set<String> keys = new HashSet<>();
+    Matcher matcher = NOT_KEY_PATTERN.matcher(condition);
+    while (matcher.find()) {
+      keys.add(unquote(matcher.group(1)));
+    }
+    return keys;
+  }
+
+  private static JsonNode literal(String literal) {
+    if (literal.startsWith("'")) {
+      return TextNode.valueOf(unquote(literal));
+    }
+    try {
+      return JacksonMapper.INSTANCE.readTree(literal);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static String unquote(String s) {
+    if (s.startsWith("'") || s.startsWith("\"")) {
+      return s.substring(1, s.length() - 1);
+    }
+    return s;
+  }
+
+  static class Entry {
+    private final String target;
+    private final String source;
+    private final JsonNode literal;
+
+    Entry(String target, String source, JsonNode literal) {
+      this.target = target;
+      this.source = source;
+      this.literal = literal;
+    }
+  }
+}
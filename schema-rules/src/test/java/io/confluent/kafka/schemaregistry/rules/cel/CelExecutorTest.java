@@ -390,6 +390,26 @@ public class CelExecutorTest {
     assertEquals("testUser-suffix", obj.get("name").toString());
   }
 
+  @Test
+  public void testKafkaAvroSerializerFieldTransformReused() throws Exception {
+    IndexedRecord avroRecord = createUserRecord();
+    AvroSchema avroSchema = new AvroSchema(avroRecord.getSchema());
+    // The guard is applied to fields of different types
+    Rule rule = new Rule("myRule", null, RuleKind.TRANSFORM, RuleMode.WRITE,
+        CelFieldExecutor.TYPE, null, null, "name == \"name\" ; value + \"-suffix\"",
+        null, null, false);
+    RuleSet ruleSet = new RuleSet(Collections.emptyList(), Collections.singletonList(rule));
+    avroSchema = avroSchema.copy(null, ruleSet);
+    schemaRegistry.register(topic + "-value", avroSchema);
+
+    for (String name : ImmutableList.of("first", "second")) {
+      byte[] bytes = avroSerializer.serialize(topic, createUserRecord(name));
+      GenericRecord obj = (GenericRecord) avroDeserializer.deserialize(topic, bytes);
+      assertEquals(name + "-suffix", obj.get("name").toString());
+      assertEquals(1, ((Integer) obj.get("myint")).intValue());
+    }
+  }
+
   @Test
   public void testKafkaAvroSerializerFieldTransformExternalTag() throws Exception {
     IndexedRecord avroRecord = createUserRecord();
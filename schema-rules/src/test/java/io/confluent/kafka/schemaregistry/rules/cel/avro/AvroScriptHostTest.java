@@ -23,8 +23,10 @@ import static org.junit.Assert.assertFalse;
 import example.avro.Kind;
 import example.avro.User;
 import java.util.Collections;
+import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
 import org.junit.Test;
 import org.projectnessie.cel.checker.Decls;
 import org.projectnessie.cel.tools.Script;
@@ -101,4 +103,39 @@ public class AvroScriptHostTest {
 
     assertEquals(script.execute(String.class, singletonMap("user", user2)), "TWO");
   }
+
+  @Test
+  public void testRecordOfOtherSchema() throws Exception {
+    ScriptHost scriptHost = ScriptHost.newBuilder().registry(AvroRegistry.newRegistry()).build();
+
+    Script script =
+        scriptHost
+            .buildScript("user.name == 'foobar' && size(user.name) == 6 && user.kind == \"TWO\"")
+            .withDeclarations(Decls.newVar("user", Decls.newObjectType(User.SCHEMA$.getFullName())))
+            .withTypes(User.SCHEMA$)
+            .build();
+
+    // An equivalent schema, with the fields at the same positions
+    Schema sameSchema = new Schema.Parser().parse(User.SCHEMA$.toString());
+    GenericRecord user = new GenericData.Record(sameSchema);
+    user.put("name", new Utf8("foobar"));
+    user.put("kind", new GenericData.EnumSymbol(Kind.SCHEMA$, "TWO"));
+
+    assertTrue(script.execute(Boolean.class, singletonMap("user", user)));
+
+    // A compatible schema, with the fields at other positions
+    Schema reorderedSchema = new Schema.Parser().parse(
+        "{\"namespace\": \"example.avro\", \"type\": \"record\", \"name\": \"User\", "
+            + "\"fields\": [{\"name\": \"kind\", \"type\": {\"name\": \"Kind\", "
+            + "\"type\": \"enum\", \"symbols\": [\"ONE\", \"TWO\", \"THREE\"]}}, "
+            + "{\"name\": \"name\", \"type\": \"string\"}]}");
+    GenericRecord user2 = new GenericData.Record(reorderedSchema);
+    user2.put("kind", new GenericData.EnumSymbol(Kind.SCHEMA$, "TWO"));
+    user2.put("name", new Utf8("foobar"));
+
+    assertTrue(script.execute(Boolean.class, singletonMap("user", user2)));
+
+    user2.put("name", new Utf8("foobaz"));
+    assertFalse(script.execute(Boolean.class, singletonMap("user", user2)));
+  }
 }
@@ -229,6 +229,54 @@ public class JsonataExecutorTest {
     );
   }
 
+  @Test
+  public void testKafkaAvroSerializerSkipsDisabledMigration() throws Exception {
+    byte[] bytes;
+    Object obj;
+
+    String ruleString =
+        "$merge([$sift($, function($v, $k) {$k != 'size'}), {'height': $.'size'}])";
+
+    OldWidget widget = new OldWidget(id, "alice");
+    widget.setSize(123);
+    Schema schema = AvroSchemaUtils.getReflectData().getSchema(OldWidget.class);
+    AvroSchema avroSchema = new AvroSchema(schema);
+    SortedMap<String, String> props = ImmutableSortedMap.of("application.version", "v1");
+    Metadata metadata = new Metadata(Collections.emptySortedMap(), props, Collections.emptySortedSet());
+    schemaRegistry.register(topic + "-value", avroSchema.copy(metadata, null));
+
+    Rule disabledRule = new Rule("myDisabledRule", null, RuleKind.TRANSFORM, RuleMode.UPGRADE,
+        JsonataExecutor.TYPE, null, null, "$error('disabled')", null, null, true);
+    RuleSet ruleSet = new RuleSet(Collections.singletonList(disabledRule), Collections.emptyList());
+    props = ImmutableSortedMap.of("application.version", "v1.5");
+    metadata = new Metadata(Collections.emptySortedMap(), props, Collections.emptySortedSet());
+    schemaRegistry.register(topic + "-value", avroSchema.copy(metadata, ruleSet));
+
+    avroSchema = new AvroSchema(createNewGenericWidgetSchema());
+    Rule rule = new Rule("myRule", null, RuleKind.TRANSFORM, RuleMode.UPGRADE,
+        JsonataExecutor.TYPE, null, null, ruleString, null, null, false);
+    ruleSet = new RuleSet(Collections.singletonList(rule), Collections.emptyList());
+    props = ImmutableSortedMap.of("application.version", "v2");
+    metadata = new Metadata(Collections.emptySortedMap(), props, Collections.emptySortedSet());
+    schemaRegistry.register(topic + "-value", avroSchema.copy(metadata, ruleSet));
+
+    bytes = reflectionAvroSerializer.serialize(topic, widget);
+
+    // Deserialize twice, so that the second time uses the cached migrations
+    for (int i = 0; i < 2; i++) {
+      obj = avroDeserializer.deserialize(topic, bytes);
+      assertTrue(
+          "Returned object should be a NewWidget",
+          GenericRecord.class.isInstance(obj)
+      );
+      assertEquals(
+          "Returned object should be a NewWidget",
+          123,
+          ((GenericRecord)obj).get("height")
+      );
+    }
+  }
+
   @Test
   public void testKafkaAvroSerializerReflectionRecord() throws Exception {
     byte[] bytes;
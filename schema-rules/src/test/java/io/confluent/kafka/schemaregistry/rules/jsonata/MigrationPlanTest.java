@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 Confluent Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.confluent.kafka.schemaregistry.rules.jsonata;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.api.jsonata4java.expressions.Expressions;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Test;
+
+public class MigrationPlanTest {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private static final String WIDGET = "{\"name\": \"alice\", \"size\": 123, \"version\": 1}";
+
+  @Test
+  public void testRename() throws Exception {
+    assertSameAsJsonata(
+        "$merge([$sift($, function($v, $k) {$k != 'size'}), {'height': $.'size'}])", WIDGET);
+    assertSameAsJsonata(
+        "$merge([$sift($, function($v, $k) {$k != 'size'}), {'height': $.size}])", WIDGET);
+  }
+
+  @Test
+  public void testDrop() throws Exception {
+    assertSameAsJsonata("$sift($, function($v, $k) {$k != 'size'})", WIDGET);
+    assertSameAsJsonata(
+        "$sift($, function($v, $k) {$k != 'size' and $k != 'version'})", WIDGET);
+  }
+
+  @Test
+  public void testDefault() throws Exception {
+    assertSameAsJsonata("$merge([$, {'kind': 'ONE', 'count': 5, 'valid': true}])", WIDGET);
+  }
+
+  @Test
+  public void testComplexExpression() {
+    assertNull(MigrationPlan.parse(
+        "$merge([$sift($, function($v, $k) {$k != 'size'}), {'height': $.'size' * 2}])"));
+    assertNull(MigrationPlan.parse("$sift($, function($v, $k) {$k = 'size'})"));
+    assertNull(MigrationPlan.parse("$.size > 100"));
+  }
+
+  @Test
+  public void testFallbackForMissingField() throws Exception {
+    MigrationPlan plan = MigrationPlan.parse(
+        "$merge([$sift($, function($v, $k) {$k != 'size'}), {'height': $.'size'}])");
+    assertNotNull(plan);
+    assertNull(plan.apply((ObjectNode) mapper.readTree("{\"name\": \"alice\"}")));
+  }
+
+  private static void assertSameAsJsonata(String expr, String json) throws Exception {
+    MigrationPlan plan = MigrationPlan.parse(expr);
+    assertNotNull(plan);
+    JsonNode input = mapper.readTree(json);
+    JsonNode expected = Expressions.parse(expr).evaluate(input);
+    JsonNode actual = plan.apply((ObjectNode) input);
+    // JSONata may use other node types for numbers
+    assertTrue(expected + " != " + actual, expected.equals((n1, n2) ->
+        n1.equals(n2) || n1.isNumber() && n2.isNumber()
+            && n1.decimalValue().compareTo(n2.decimalValue()) == 0 ? 0 : 1, actual));
+  }
+}
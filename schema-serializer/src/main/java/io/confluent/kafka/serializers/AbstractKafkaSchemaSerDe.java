@@ -81,6 +81,7 @@ import java.util.Map;
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.SchemaProvider;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClientMetrics;
 import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
 import io.confluent.kafka.serializers.subject.strategy.SubjectNameStrategy;
 import io.confluent.kafka.serializers.subject.TopicNameStrategy;
@@ -104,11 +105,13 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
   protected AbstractKafkaSchemaSerDeConfig config;
   protected SchemaRegistryClient schemaRegistry;
   protected Ticker ticker = Ticker.systemTicker();
+  protected SchemaRegistryClientMetrics metrics;
   protected ContextNameStrategy contextNameStrategy = new NullContextNameStrategy();
   protected Object keySubjectNameStrategy = new TopicNameStrategy();
   protected Object valueSubjectNameStrategy = new TopicNameStrategy();
   protected Cache<SubjectSchema, ParsedSchema> latestVersions;
   protected Cache<String, ParsedSchema> latestWithMetadata;
+  protected Cache<MigrationKey, List<Migration>> migrationChains;
   protected boolean useSchemaReflection;
   protected boolean useLatestVersion;
   protected Map<String, String> metadata;
@@ -158,6 +161,7 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
       );
     }
 
+    metrics = schemaRegistry.metrics();
     contextNameStrategy = config.contextNameStrategy();
     keySubjectNameStrategy = config.keySubjectNameStrategy();
     valueSubjectNameStrategy = config.valueSubjectNameStrategy();
@@ -181,6 +185,14 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
           latestCacheTtl, TimeUnit.SECONDS);
     }
     latestWithMetadata = latestWithMetadataBuilder.build();
+    CacheBuilder<Object, Object> migrationChainsBuilder = CacheBuilder.newBuilder()
+        .maximumSize(latestCacheSize)
+        .ticker(ticker);
+    if (latestCacheTtl >= 0) {
+      migrationChainsBuilder = migrationChainsBuilder.expireAfterWrite(
+          latestCacheTtl, TimeUnit.SECONDS);
+    }
+    migrationChains = migrationChainsBuilder.build();
     if (config.getLatestWithMetadataSpec() != null) {
       MapPropertyParser parser = new MapPropertyParser();
       metadata = parser.parse(config.getLatestWithMetadataSpec());
@@ -369,6 +381,25 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
   protected List<Migration> getMigrations(
       String subject, ParsedSchema writerSchema, ParsedSchema readerSchema)
       throws IOException, RestClientException {
+    if (migrationChains == null) {
+      return computeMigrations(subject, writerSchema, readerSchema);
+    }
+    // The versions of a subject are immutable, so the chain only depends on the versions,
+    // along with the names, which select the message type of a schema
+    MigrationKey key = new MigrationKey(subject,
+        writerSchema.version(), writerSchema.name(),
+        readerSchema.version(), readerSchema.name());
+    List<Migration> migrations = migrationChains.getIfPresent(key);
+    if (migrations == null) {
+      migrations = computeMigrations(subject, writerSchema, readerSchema);
+      migrationChains.put(key, migrations);
+    }
+    return migrations;
+  }
+
+  private List<Migration> computeMigrations(
+      String subject, ParsedSchema writerSchema, ParsedSchema readerSchema)
+      throws IOException, RestClientException {
     RuleMode migrationMode = null;
     ParsedSchema first;
     ParsedSchema last;
@@ -382,7 +413,7 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
       first = readerSchema;
       last = writerSchema;
     } else {
-      return migrations;
+      return Collections.emptyList();
     }
 
     List<ParsedSchema> versions = getSchemasBetween(subject, first, last);
@@ -401,14 +432,17 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
         } else {
           m = new Migration(migrationMode, current, previous);
         }
-        migrations.add(m);
+        // Collapse steps whose rules are all disabled
+        if (m.hasEnabledRules()) {
+          migrations.add(m);
+        }
       }
       previous = current;
     }
     if (migrationMode == RuleMode.DOWNGRADE) {
       Collections.reverse(migrations);
     }
-    return migrations;
+    return Collections.unmodifiableList(migrations);
   }
 
   private List<ParsedSchema> getSchemasBetween(
@@ -605,16 +639,18 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
   protected Object executeMigrations(
       List<Migration> migrations, String subject, String topic,
       Headers headers, Object message) throws IOException {
+    long startNanos = metrics != null ? System.nanoTime() : 0L;
     for (int i = 0; i < migrations.size(); i++) {
       Migration m = migrations.get(i);
       if (i == 0) {
         // Migrations use JsonNode for both input and output
         message = m.getSource().toJson(message);
       }
-      message = executeRules(
-          subject, topic, headers, m.getRuleMode(),
-          m.getSource(), m.getTarget(), message
-      );
+      message = executeRules(subject, topic, headers, message, m.getRuleMode(),
+          m.getSource(), m.getTarget(), message, m.getRules());
+    }
+    if (metrics != null) {
+      metrics.recordExecuteMigrations(startNanos);
     }
     return message;
   }
@@ -631,6 +667,11 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
     if (message == null || target == null) {
       return message;
     }
+    return executeRules(subject, topic, headers, original, ruleMode, source, target, message,
+        getRules(ruleMode, source, target));
+  }
+
+  private static List<Rule> getRules(RuleMode ruleMode, ParsedSchema source, ParsedSchema target) {
     List<Rule> rules = Collections.emptyList();
     if (ruleMode == RuleMode.UPGRADE) {
       if (target.ruleSet() != null) {
@@ -652,6 +693,17 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
         }
       }
     }
+    return rules;
+  }
+
+  private Object executeRules(
+      String subject, String topic, Headers headers, Object original,
+      RuleMode ruleMode, ParsedSchema source, ParsedSchema target, Object message,
+      List<Rule> rules) {
+    if (message == null || target == null) {
+      return message;
+    }
+    long startNanos = metrics != null ? System.nanoTime() : 0L;
     for (int i = 0; i < rules.size(); i++) {
       Rule rule = rules.get(i);
       if (skipRule(rule, headers)) {
@@ -676,7 +728,15 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
       RuleExecutor ruleExecutor = getRuleExecutor(ctx);
       if (ruleExecutor != null) {
         try {
-          Object result = ruleExecutor.transform(ctx, message);
+          long ruleStartNanos = metrics != null ? System.nanoTime() : 0L;
+          Object result;
+          try {
+            result = ruleExecutor.transform(ctx, message);
+          } finally {
+            if (metrics != null) {
+              metrics.recordRule(rule.getType(), ruleStartNanos);
+            }
+          }
           switch (rule.getKind()) {
             case CONDITION:
               if (Boolean.FALSE.equals(result)) {
@@ -709,6 +769,9 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
             ErrorAction.TYPE);
       }
     }
+    if (metrics != null && !rules.isEmpty()) {
+      metrics.recordExecuteRules(startNanos);
+    }
     return message;
   }
 
@@ -846,15 +909,55 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
     }
   }
 
+  protected static class MigrationKey {
+    private final String subject;
+    private final Integer writerVersion;
+    private final String writerName;
+    private final Integer readerVersion;
+    private final String readerName;
+
+    public MigrationKey(String subject, Integer writerVersion, String writerName,
+        Integer readerVersion, String readerName) {
+      this.subject = subject;
+      this.writerVersion = writerVersion;
+      this.writerName = writerName;
+      this.readerVersion = readerVersion;
+      this.readerName = readerName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      MigrationKey that = (MigrationKey) o;
+      return Objects.equals(subject, that.subject)
+          && Objects.equals(writerVersion, that.writerVersion)
+          && Objects.equals(writerName, that.writerName)
+          && Objects.equals(readerVersion, that.readerVersion)
+          && Objects.equals(readerName, that.readerName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(subject, writerVersion, writerName, readerVersion, readerName);
+    }
+  }
+
   protected static class Migration {
     private final RuleMode ruleMode;
     private final ParsedSchema source;
     private final ParsedSchema target;
+    private final List<Rule> rules;
 
     public Migration(RuleMode ruleMode, ParsedSchema source, ParsedSchema target) {
       this.ruleMode = ruleMode;
       this.source = source;
       this.target = target;
+      this.rules = getRules(ruleMode, source, target);
     }
 
     public RuleMode getRuleMode() {
@@ -869,6 +972,20 @@ public abstract class AbstractKafkaSchemaSerDe implements Closeable {
       return target;
     }
 
+    public List<Rule> getRules() {
+      return rules;
+    }
+
+    public boolean hasEnabledRules() {
+      for (Rule rule : rules) {
+        if (!rule.isDisabled()
+            && (rule.getMode() == ruleMode || rule.getMode() == RuleMode.UPDOWN)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
     @Override
     public boolean equals(Object o) {
       if (this == o) {